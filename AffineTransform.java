@@ -0,0 +1,319 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to represent an affine transformation (rotation, scaling, shearing and translation) of n dimensional space
+ *
+ * The transform is the homogeneous (n+1)x(n+1) matrix [L t; 0 1], so any number of transforms compose into a single
+ * matrix with then(). Points are moved by x' = Lx + t, direction vectors ignore the translation, v' = Lv, and
+ * plane normals are carried by the inverse transpose, n' = L^-T n, so they stay perpendicular to the plane.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class AffineTransform extends EuclideanObject
+{
+    /** Batches with more elements than this are transformed in parallel chunks */
+    private static final int PARALLEL_THRESHOLD = 2 * Chunks.DEFAULT_SIZE;
+
+    /** The linear part L, row major n x n */
+    private final double [] linear;
+
+    /** The translation part t */
+    private final double [] translation;
+
+    /** L^-T, worked out the first time a plane is transformed */
+    private volatile double [] normalLinear;
+
+    private AffineTransform(int dimension, double [] linear, double [] translation){
+        super(dimension);
+        this.linear = linear;
+        this.translation = translation;
+    }
+
+    /**
+     * Creates a transform from its homogeneous matrix
+     *
+     * @param matrix An (n+1)x(n+1) matrix whose last row is all zeros except for a 1 in the corner
+     *
+     * @return The transform described by matrix
+     */
+    public static AffineTransform fromMatrix(Matrix matrix){
+        int dimension = matrix.rows - 1;
+        if(matrix.rows != matrix.columns || dimension < 1){
+            throw new RuntimeException("An affine transform needs a square matrix of size at least 2!");
+        }
+        for(int j = 0; j <= dimension; j++){
+            if(matrix.get(dimension, j) != (j == dimension ? 1 : 0)){
+                throw new RuntimeException("The last row of an affine transform must be (0, ..., 0, 1)!");
+            }
+        }
+        double [] linear = new double[dimension * dimension];
+        double [] translation = new double[dimension];
+        for(int i = 0; i < dimension; i++){
+            for(int j = 0; j < dimension; j++){
+                linear[i * dimension + j] = matrix.get(i, j);
+            }
+            translation[i] = matrix.get(i, dimension);
+        }
+        return new AffineTransform(dimension, linear, translation);
+    }
+
+    public static AffineTransform identity(int dimension){
+        return scaling(dimension, 1);
+    }
+
+    /**
+     * Creates a transform that moves every point along a vector
+     *
+     * @param offset The vector to move along
+     */
+    public static AffineTransform translation(Vector offset){
+        int dimension = offset.dimension;
+        double [] linear = new double[dimension * dimension];
+        for(int i = 0; i < dimension; i++){
+            linear[i * dimension + i] = 1;
+        }
+        return new AffineTransform(dimension, linear, offset.components.clone());
+    }
+
+    /**
+     * Creates a transform that scales every axis by the same amount about the origin
+     *
+     * @param dimension The dimension to transform
+     * @param factor The amount to scale by
+     */
+    public static AffineTransform scaling(int dimension, double factor){
+        double [] factors = new double[dimension];
+        Arrays.fill(factors, factor);
+        return scaling(factors);
+    }
+
+    /**
+     * Creates a transform that scales each axis by its own amount about the origin
+     *
+     * @param factors The amount to scale each axis by, one per dimension
+     */
+    public static AffineTransform scaling(double... factors){
+        int dimension = factors.length;
+        double [] linear = new double[dimension * dimension];
+        for(int i = 0; i < dimension; i++){
+            linear[i * dimension + i] = factors[i];
+        }
+        return new AffineTransform(dimension, linear, new double[dimension]);
+    }
+
+    /**
+     * Creates a transform that rotates the plane spanned by two axes about the origin, leaving the other axes alone
+     *
+     * @param dimension The dimension to transform
+     * @param from The axis that is rotated towards the other axis
+     * @param to The axis that from is rotated towards
+     * @param angle The angle to rotate by in radians
+     */
+    public static AffineTransform rotation(int dimension, int from, int to, double angle){
+        if(from == to || from < 0 || to < 0 || from >= dimension || to >= dimension){
+            throw new RuntimeException("A rotation needs two different axes inside the dimension!");
+        }
+        double [] linear = new double[dimension * dimension];
+        for(int i = 0; i < dimension; i++){
+            linear[i * dimension + i] = 1;
+        }
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        linear[from * dimension + from] = cos;
+        linear[to * dimension + to] = cos;
+        linear[to * dimension + from] = sin;
+        linear[from * dimension + to] = -sin;
+        return new AffineTransform(dimension, linear, new double[dimension]);
+    }
+
+    /**
+     * Creates a transform that rotates 3 dimensional space about an axis through the origin
+     *
+     * @param axis The axis to rotate about, counter clockwise when looking back along it
+     * @param angle The angle to rotate by in radians
+     */
+    public static AffineTransform rotation(Vector axis, double angle){
+        if(axis.dimension != 3){
+            throw new RuntimeException("Rotation about an axis is only defined in 3 dimensions!");
+        }
+        double [] u = axis.normalizeInto(new double[3]);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double c = 1 - cos;
+        double [] linear = {
+            cos + u[0] * u[0] * c,         u[0] * u[1] * c - u[2] * sin,  u[0] * u[2] * c + u[1] * sin,
+            u[1] * u[0] * c + u[2] * sin,  cos + u[1] * u[1] * c,         u[1] * u[2] * c - u[0] * sin,
+            u[2] * u[0] * c - u[1] * sin,  u[2] * u[1] * c + u[0] * sin,  cos + u[2] * u[2] * c};
+        return new AffineTransform(3, linear, new double[3]);
+    }
+
+    /**
+     * Combines this transform with another into a single transform
+     *
+     * @param next The transform to apply after this one
+     *
+     * @return A transform that applies this and then next
+     */
+    public AffineTransform then(AffineTransform next){
+        checkDimension(next);
+        int n = this.dimension;
+        double [] linear = new double[n * n];
+        double [] translation = new double[n];
+        for(int i = 0; i < n; i++){
+            for(int k = 0; k < n; k++){
+                double a = next.linear[i * n + k];
+                for(int j = 0; j < n; j++){
+                    linear[i * n + j] += a * this.linear[k * n + j];
+                }
+                translation[i] += a * this.translation[k];
+            }
+            translation[i] += next.translation[i];
+        }
+        return new AffineTransform(n, linear, translation);
+    }
+
+    /**
+     * Combines a sequence of transforms into a single transform
+     *
+     * @param transforms The transforms in the order they should be applied
+     *
+     * @return A transform that applies every transform in order
+     */
+    public static AffineTransform compose(AffineTransform... transforms){
+        AffineTransform result = transforms[0];
+        for(int i = 1; i < transforms.length; i++){
+            result = result.then(transforms[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the transform that undoes this one
+     */
+    public AffineTransform inverse(){
+        return fromMatrix(toMatrix().inverse());
+    }
+
+    /**
+     * Gives the homogeneous matrix of this transform
+     *
+     * @return An (n+1)x(n+1) matrix [L t; 0 1]
+     */
+    public Matrix toMatrix(){
+        int n = this.dimension;
+        double [] data = new double[(n + 1) * (n + 1)];
+        for(int i = 0; i < n; i++){
+            System.arraycopy(this.linear, i * n, data, i * (n + 1), n);
+            data[i * (n + 1) + n] = this.translation[i];
+        }
+        data[data.length - 1] = 1;
+        return new Matrix(n + 1, n + 1, data);
+    }
+
+    public Point apply(Point point){
+        checkDimension(point);
+        double [] result = new double[this.dimension];
+        transform(point.coordinates, 0, result, 0, this.linear, this.translation);
+        return new Point(result);
+    }
+
+    public Vector apply(Vector vector){
+        checkDimension(vector);
+        double [] result = new double[this.dimension];
+        transform(vector.components, 0, result, 0, this.linear, null);
+        return new Vector(result);
+    }
+
+    public Line apply(Line line){
+        checkDimension(line);
+        return new Line(apply(line.point), apply(line.direction));
+    }
+
+    public Plane apply(Plane plane){
+        checkDimension(plane);
+        double [] norm = new double[this.dimension];
+        transform(plane.norm.components, 0, norm, 0, normalLinear(), null);
+        return new Plane(apply(plane.point), new Vector(norm));
+    }
+
+    /**
+     * Transforms every point in a batch
+     *
+     * @param points The points to transform
+     * @param result The batch to write the transformed points into, may be points
+     */
+    public void apply(PointBatch points, PointBatch result){
+        checkDimension(points);
+        points.checkBatch(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("AffineTransform.apply", this.dimension, points.size);
+        applyPacked(points.data, result.data, points.size, this.translation);
+        Metrics.commit(event);
+    }
+
+    /**
+     * Transforms every vector in a batch, ignoring the translation
+     *
+     * @param vectors The vectors to transform
+     * @param result The batch to write the transformed vectors into, may be vectors
+     */
+    public void apply(VectorBatch vectors, VectorBatch result){
+        checkDimension(vectors);
+        vectors.checkBatch(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("AffineTransform.apply", this.dimension, vectors.size);
+        applyPacked(vectors.data, result.data, vectors.size, null);
+        Metrics.commit(event);
+    }
+
+    private void applyPacked(double [] source, double [] target, int size, double [] translation){
+        int n = this.dimension;
+        Chunks.Work work = (chunk, from, to) -> {
+            double [] scratch = new double[n];  // lets source and target be the same array
+            for(int i = from; i < to; i++){
+                transform(source, i * n, scratch, 0, this.linear, translation);
+                System.arraycopy(scratch, 0, target, i * n, n);
+            }
+        };
+        if(size > PARALLEL_THRESHOLD){
+            Chunks.forEach(ForkJoinPool.commonPool(), size, Chunks.DEFAULT_SIZE, work);
+        }
+        else{
+            work.run(0, 0, size);
+        }
+    }
+
+    /**
+     * Writes matrix * source (+ translation when it is not null) into target
+     */
+    private void transform(double [] source, int sourceOffset, double [] target, int targetOffset,
+                           double [] matrix, double [] translation){
+        int n = this.dimension;
+        for(int i = 0; i < n; i++){
+            double sum = translation == null ? 0 : translation[i];
+            for(int j = 0; j < n; j++){
+                sum += matrix[i * n + j] * source[sourceOffset + j];
+            }
+            target[targetOffset + i] = sum;
+        }
+    }
+
+    private double [] normalLinear(){
+        double [] result = this.normalLinear;
+        if(result == null){
+            Matrix inverse = new Matrix(this.dimension, this.dimension, this.linear.clone()).inverse();
+            result = new double[this.linear.length];
+            for(int i = 0; i < this.dimension; i++){
+                for(int j = 0; j < this.dimension; j++){
+                    result[i * this.dimension + j] = inverse.get(j, i);
+                }
+            }
+            this.normalLinear = result;
+        }
+        return result;
+    }
+
+    public String toString(){
+        return toMatrix().toString();
+    }
+}
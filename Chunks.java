@@ -0,0 +1,76 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Helper for bulk operations that splits the range [0, size) into fixed size chunks and runs them on a ForkJoinPool
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+final class Chunks
+{
+    /** Chunk size used by the bulk methods unless they have a reason to pick another */
+    static final int DEFAULT_SIZE = 4096;
+
+    /**
+     * Work done on one chunk [from, to) of a bulk operation's input
+     */
+    interface Work{
+        void run(int chunk, int from, int to);
+    }
+
+    private Chunks(){
+    }
+
+    /**
+     * Calculates how many chunks of chunkSize it takes to cover size elements
+     */
+    static int count(int size, int chunkSize){
+        return (size + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Runs work over every chunk of [0, size), in parallel on the pool when there is more than one chunk
+     */
+    static void forEach(ForkJoinPool pool, int size, int chunkSize, Work work){
+        int chunks = count(size, chunkSize);
+        if(chunks <= 1){
+            work.run(0, 0, size);
+        }
+        else{
+            pool.invoke(new Task(work, size, chunkSize, 0, chunks));
+        }
+    }
+
+    /**
+     * Task that splits a range of chunks in half until it is down to a single chunk
+     */
+    private static class Task extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final Work work;
+        private final int size;
+        private final int chunkSize;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        Task(Work work, int size, int chunkSize, int firstChunk, int lastChunk){
+            this.work = work;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override
+        protected void compute(){
+            if(lastChunk - firstChunk == 1){
+                work.run(firstChunk, firstChunk * chunkSize, Math.min(size, lastChunk * chunkSize));
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new Task(work, size, chunkSize, firstChunk, middle),
+                      new Task(work, size, chunkSize, middle, lastChunk));
+        }
+    }
+}
@@ -0,0 +1,779 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The convex hull of a set of points in 2 or 3 dimensions, stored as its vertices and its facets
+ *
+ * A facet is an edge in 2 dimensions and a triangle in 3 dimensions, given as indices into vertices in counter
+ * clockwise order seen from outside the hull, so planes() turns each one into a Plane whose norm points out of the
+ * hull. In 2 dimensions the vertices themselves are also in counter clockwise order, starting from the one with the
+ * smallest x (and smallest y among those). Collinear and coplanar points on the boundary are not vertices, and in 3
+ * dimensions a flat face of the hull may be split into several coplanar triangles.
+ *
+ * Construction runs in three stages. First the points farthest in a fixed set of directions (8 in 2 dimensions, 14 in
+ * 3) are found in parallel, and every point strictly inside their hull is thrown away, which for most clouds is nearly
+ * all of them (the Akl-Toussaint heuristic). The survivors are then split into chunks whose hulls are built in
+ * parallel, with Andrew's monotone chain in 2 dimensions and quickhull in 3, and finally the hull of the vertices of
+ * every chunk hull is built, which is the hull of the whole set. Every orientation decision that shapes the hull is
+ * made with the exact predicates in Predicates, so nearly degenerate input can not leave it inconsistent; only the
+ * pruning test in 3 dimensions uses plain arithmetic, with a margin so it only ever drops points that are clearly
+ * inside. Coordinates must not be NaN.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class ConvexHull extends EuclideanObject
+{
+    /** Most points handed to the hull of a single parallel chunk */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /** Relative margin a point must be inside the pruning hull by before it is dropped */
+    private static final double PRUNE_MARGIN = 1e-12;
+
+    /** Directions the 2 dimensional pruning polygon is built from, in counter clockwise order */
+    private static final double [][] DIRECTIONS_2D = {
+        {1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}
+    };
+
+    /** Directions the 3 dimensional pruning hull is built from, the axes and the diagonals */
+    private static final double [][] DIRECTIONS_3D = {
+        {1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1},
+        {1, 1, 1}, {1, 1, -1}, {1, -1, 1}, {1, -1, -1}, {-1, 1, 1}, {-1, 1, -1}, {-1, -1, 1}, {-1, -1, -1}
+    };
+
+    /** The corners of the hull */
+    public final PointBatch vertices;
+
+    /** dimension indices into vertices for each facet */
+    private final int [] facets;
+
+    private ConvexHull(PointBatch vertices, int [] facets){
+        super(vertices.dimension);
+        this.vertices = vertices;
+        this.facets = facets;
+    }
+
+    /**
+     * Builds the convex hull of a batch of points, in parallel on the common pool
+     *
+     * @param points 2 or 3 dimensional points, in 3 dimensions they must not all be on one plane
+     */
+    public static ConvexHull of(PointBatch points){
+        return of(points, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the convex hull of a collection of points, in parallel on the common pool
+     *
+     * @param points At least one 2 or 3 dimensional point, in 3 dimensions they must not all be on one plane
+     */
+    public static ConvexHull of(Collection<Point> points){
+        if(points.isEmpty()){
+            throw new RuntimeException("A convex hull needs at least one point!");
+        }
+        return of(new PointBatch(points.toArray(new Point[0])));
+    }
+
+    /**
+     * Builds the convex hull of a batch of points
+     *
+     * @param points 2 or 3 dimensional points, in 3 dimensions they must not all be on one plane
+     * @param pool The pool to run the pruning and the chunk hulls on
+     */
+    public static ConvexHull of(PointBatch points, ForkJoinPool pool){
+        Metrics.BulkEvent event = Metrics.beginBulk("ConvexHull.of", points.dimension, points.size);
+        ConvexHull hull;
+        if(points.dimension == 2){
+            hull = hull2d(points, pool);
+        }
+        else if(points.dimension == 3){
+            hull = hull3d(points, pool);
+        }
+        else{
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Convex hulls can only be built in 2 or 3 dimensions!");
+        }
+        Metrics.commit(event);
+        return hull;
+    }
+
+    /**
+     * Gives the number of facets, edges in 2 dimensions and triangles in 3
+     */
+    public int facetCount(){
+        return this.facets.length / this.dimension;
+    }
+
+    /**
+     * Gives the indices into vertices of the corners of one facet, counter clockwise seen from outside the hull
+     */
+    public int[] facet(int index){
+        if(index < 0 || index >= facetCount()){
+            throw new RuntimeException("Facet " + index + " is outside of the hull!");
+        }
+        return Arrays.copyOfRange(this.facets, index * this.dimension, (index + 1) * this.dimension);
+    }
+
+    /**
+     * Creates a plane through each facet whose norm points out of the hull, in the same order as the facets
+     */
+    public Plane[] planes(){
+        Plane [] planes = new Plane[facetCount()];
+        double [] data = this.vertices.data;
+        for(int f = 0; f < planes.length; f++){
+            int a = this.facets[f * this.dimension] * this.dimension;
+            int b = this.facets[f * this.dimension + 1] * this.dimension;
+            Point point = this.vertices.get(a / this.dimension);
+            if(this.dimension == 2){
+                planes[f] = new Plane(point, new Vector(data[b + 1] - data[a + 1], data[a] - data[b]));
+            }
+            else{
+                int c = this.facets[f * 3 + 2] * 3;
+                double [] norm = new double[3];
+                cross(data, a, b, c, norm);
+                planes[f] = new Plane(point, new Vector(norm));
+            }
+        }
+        return planes;
+    }
+
+    private static ConvexHull hull2d(PointBatch points, ForkJoinPool pool){
+        double [] data = points.data;
+        int [] extremes = extremes(data, points.size, 2, DIRECTIONS_2D, pool);
+
+        // the extreme points in direction order form a counter clockwise polygon inside the hull
+        IntList corners = new IntList();
+        for(int extreme: extremes){
+            if(corners.size() == 0 || !samePoint(data, 2, extreme, corners.get(corners.size() - 1))){
+                corners.add(extreme);
+            }
+        }
+        while(corners.size() > 1 && samePoint(data, 2, corners.get(0), corners.get(corners.size() - 1))){
+            corners.removeLast();
+        }
+        double [] polygon = gather(data, 2, corners.toArray(), 0, corners.size());
+        int sides = corners.size();
+
+        int [] kept = prune(points.size, pool, (i) -> {
+            if(sides < 3){
+                return true;
+            }
+            double x = data[2 * i], y = data[2 * i + 1];
+            for(int s = 0; s < sides; s++){
+                int t = s + 1 == sides ? 0 : s + 1;
+                if(Predicates.orient2d(polygon[2 * s], polygon[2 * s + 1], polygon[2 * t], polygon[2 * t + 1], x, y)
+                   <= 0){
+                    return true;
+                }
+            }
+            return false;
+        });
+
+        double [][] chunkHulls = new double[Math.max(1, Chunks.count(kept.length, CHUNK_SIZE))][];
+        Chunks.forEach(pool, kept.length, CHUNK_SIZE, (chunk, from, to) -> {
+            chunkHulls[chunk] = chain(gather(data, 2, kept, from, to));
+        });
+        double [] hull = chain(concatenate(chunkHulls));
+
+        int count = hull.length / 2;
+        int [] facets = new int[count < 3 ? 0 : 2 * count];
+        for(int i = 0; i < facets.length / 2; i++){
+            facets[2 * i] = i;
+            facets[2 * i + 1] = i + 1 == count ? 0 : i + 1;
+        }
+        return new ConvexHull(new PointBatch(2, hull), facets);
+    }
+
+    private static ConvexHull hull3d(PointBatch points, ForkJoinPool pool){
+        double [] data = points.data;
+        int [] extremes = extremes(data, points.size, 3, DIRECTIONS_3D, pool);
+        double [] corners = gather(data, 3, extremes, 0, extremes.length);
+        int [] pruningHull = new Quickhull(corners).build();
+
+        // outward face planes of the hull of the extremes, a point below every one by the margin is inside
+        int faces = pruningHull == null ? 0 : pruningHull.length / 3;
+        double [] planes = new double[4 * faces];
+        double largest = 0;
+        for(double value: corners){
+            largest = Math.max(largest, Math.abs(value));
+        }
+        for(int f = 0; f < faces; f++){
+            double [] norm = new double[3];
+            int a = pruningHull[3 * f] * 3;
+            cross(corners, a, pruningHull[3 * f + 1] * 3, pruningHull[3 * f + 2] * 3, norm);
+            double scale = Math.abs(norm[0]) + Math.abs(norm[1]) + Math.abs(norm[2]);
+            planes[4 * f] = norm[0];
+            planes[4 * f + 1] = norm[1];
+            planes[4 * f + 2] = norm[2];
+            planes[4 * f + 3] = norm[0] * corners[a] + norm[1] * corners[a + 1] + norm[2] * corners[a + 2]
+                - PRUNE_MARGIN * scale * largest;
+        }
+
+        int [] kept = prune(points.size, pool, (i) -> {
+            double x = data[3 * i], y = data[3 * i + 1], z = data[3 * i + 2];
+            for(int f = 0; f < faces; f++){
+                if(planes[4 * f] * x + planes[4 * f + 1] * y + planes[4 * f + 2] * z >= planes[4 * f + 3]){
+                    return true;
+                }
+            }
+            return faces == 0;
+        });
+
+        double [][] chunkHulls = new double[Math.max(1, Chunks.count(kept.length, CHUNK_SIZE))][];
+        Chunks.forEach(pool, kept.length, CHUNK_SIZE, (chunk, from, to) -> {
+            double [] chunkPoints = gather(data, 3, kept, from, to);
+            int [] triangles = new Quickhull(chunkPoints).build();
+            // a flat chunk keeps all of its points, the final hull will sort them out
+            int [] vertices = triangles == null ? null : distinct(triangles);
+            chunkHulls[chunk] = vertices == null ? chunkPoints : gather(chunkPoints, 3, vertices, 0, vertices.length);
+        });
+        double [] candidates = concatenate(chunkHulls);
+        int [] triangles = new Quickhull(candidates).build();
+        if(triangles == null){
+            throw new RuntimeException("A 3 dimensional convex hull needs points that are not all on one plane!");
+        }
+
+        // number the vertices in the order they are first used
+        int [] vertexOf = new int[candidates.length / 3];
+        Arrays.fill(vertexOf, -1);
+        IntList used = new IntList();
+        for(int i = 0; i < triangles.length; i++){
+            int candidate = triangles[i];
+            if(vertexOf[candidate] < 0){
+                vertexOf[candidate] = used.size();
+                used.add(candidate);
+            }
+            triangles[i] = vertexOf[candidate];
+        }
+        int [] vertices = used.toArray();
+        return new ConvexHull(new PointBatch(3, gather(candidates, 3, vertices, 0, vertices.length)), triangles);
+    }
+
+    /**
+     * Decides whether the point at an index might be on the hull
+     */
+    private interface Candidate{
+        boolean test(int index);
+    }
+
+    /**
+     * Finds the indices of every point that passes a test, in parallel
+     */
+    private static int[] prune(int size, ForkJoinPool pool, Candidate candidate){
+        IntList [] survivors = new IntList[Math.max(1, Chunks.count(size, Chunks.DEFAULT_SIZE))];
+        Chunks.forEach(pool, size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            IntList list = new IntList();
+            for(int i = from; i < to; i++){
+                if(candidate.test(i)){
+                    list.add(i);
+                }
+            }
+            survivors[chunk] = list;
+        });
+        int total = 0;
+        for(IntList list: survivors){
+            total += list.size();
+        }
+        int [] kept = new int[total];
+        int next = 0;
+        for(IntList list: survivors){
+            for(int i = 0; i < list.size(); i++){
+                kept[next++] = list.get(i);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Finds the index of the point farthest in each direction, in parallel, breaking ties by the lowest index
+     */
+    private static int[] extremes(double [] data, int size, int dimension, double [][] directions, ForkJoinPool pool){
+        if(size == 0){
+            return new int[0];
+        }
+        int count = directions.length;
+        int [][] chunkBest = new int[Chunks.count(size, Chunks.DEFAULT_SIZE)][];
+        Chunks.forEach(pool, size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int [] best = new int[count];
+            double [] bestScore = new double[count];
+            Arrays.fill(bestScore, Double.NEGATIVE_INFINITY);
+            for(int i = from; i < to; i++){
+                for(int d = 0; d < count; d++){
+                    double score = VectorKernels.dot(directions[d], 0, data, i * dimension, dimension);
+                    if(score > bestScore[d]){
+                        bestScore[d] = score;
+                        best[d] = i;
+                    }
+                }
+            }
+            chunkBest[chunk] = best;
+        });
+        int [] best = chunkBest[0].clone();
+        for(int chunk = 1; chunk < chunkBest.length; chunk++){
+            for(int d = 0; d < count; d++){
+                int i = chunkBest[chunk][d];
+                if(VectorKernels.dot(directions[d], 0, data, i * dimension, dimension)
+                   > VectorKernels.dot(directions[d], 0, data, best[d] * dimension, dimension)){
+                    best[d] = i;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sorts packed 2 dimensional points and replaces them with their hull
+     *
+     * @return The hull's vertices packed in counter clockwise order, starting from the smallest x then y
+     */
+    private static double[] chain(double [] xy){
+        int n = xy.length / 2;
+        sort(xy, 0, n);
+        if(n < 3){
+            return n == 2 && xy[0] == xy[2] && xy[1] == xy[3] ? Arrays.copyOf(xy, 2) : xy;
+        }
+        double [] hull = new double[4 * n];
+        int k = 0;
+        for(int i = 0; i < n; i++){
+            while(k >= 2 && turn(hull, k, xy, i) <= 0){
+                k--;
+            }
+            hull[2 * k] = xy[2 * i];
+            hull[2 * k + 1] = xy[2 * i + 1];
+            k++;
+        }
+        for(int i = n - 2, lower = k + 1; i >= 0; i--){
+            while(k >= lower && turn(hull, k, xy, i) <= 0){
+                k--;
+            }
+            hull[2 * k] = xy[2 * i];
+            hull[2 * k + 1] = xy[2 * i + 1];
+            k++;
+        }
+        // the last vertex is the first one again, and every point being the same leaves two copies of it
+        k--;
+        if(k == 2 && hull[0] == hull[2] && hull[1] == hull[3]){
+            k = 1;
+        }
+        return Arrays.copyOf(hull, 2 * k);
+    }
+
+    /**
+     * Orientation of the last two hull vertices followed by point i
+     */
+    private static double turn(double [] hull, int k, double [] xy, int i){
+        return Predicates.orient2d(hull[2 * k - 4], hull[2 * k - 3], hull[2 * k - 2], hull[2 * k - 1],
+            xy[2 * i], xy[2 * i + 1]);
+    }
+
+    /**
+     * Sorts packed 2 dimensional points [from, to) by x and then y
+     */
+    private static void sort(double [] xy, int from, int to){
+        while(to - from > 16){
+            int middle = (from + to) >>> 1;
+            if(less(xy, middle, from)){
+                swap(xy, middle, from);
+            }
+            if(less(xy, to - 1, from)){
+                swap(xy, to - 1, from);
+            }
+            if(less(xy, to - 1, middle)){
+                swap(xy, to - 1, middle);
+            }
+            double px = xy[2 * middle], py = xy[2 * middle + 1];
+            int i = from, j = to - 1;
+            while(i <= j){
+                while(xy[2 * i] < px || xy[2 * i] == px && xy[2 * i + 1] < py){
+                    i++;
+                }
+                while(xy[2 * j] > px || xy[2 * j] == px && xy[2 * j + 1] > py){
+                    j--;
+                }
+                if(i <= j){
+                    swap(xy, i++, j--);
+                }
+            }
+            // recurse into the smaller side so the stack stays logarithmic
+            if(j + 1 - from < to - i){
+                sort(xy, from, j + 1);
+                from = i;
+            }
+            else{
+                sort(xy, i, to);
+                to = j + 1;
+            }
+        }
+        for(int i = from + 1; i < to; i++){
+            for(int j = i; j > from && less(xy, j, j - 1); j--){
+                swap(xy, j, j - 1);
+            }
+        }
+    }
+
+    private static boolean less(double [] xy, int i, int j){
+        return xy[2 * i] < xy[2 * j] || xy[2 * i] == xy[2 * j] && xy[2 * i + 1] < xy[2 * j + 1];
+    }
+
+    private static void swap(double [] xy, int i, int j){
+        double x = xy[2 * i], y = xy[2 * i + 1];
+        xy[2 * i] = xy[2 * j];
+        xy[2 * i + 1] = xy[2 * j + 1];
+        xy[2 * j] = x;
+        xy[2 * j + 1] = y;
+    }
+
+    /**
+     * Quickhull over packed 3 dimensional points
+     *
+     * Faces are triangles stored counter clockwise seen from outside, with the face across each of their edges, so
+     * the faces an eye point can see are found by walking out from one of them. Each face keeps the points that are
+     * outside it and not yet assigned to another face. A face is visible from a point when orient3d puts the point
+     * strictly above it, so the hull stays convex whatever rounding the coordinates carry.
+     */
+    private static class Quickhull{
+        private final double [] xyz;
+        private final int n;
+
+        /** Corners of each face, 3 per face, edge e runs from corner e to corner e + 1 */
+        private int [] corners = new int[3 * 64];
+
+        /** The face across each edge of each face */
+        private int [] across = new int[3 * 64];
+
+        private boolean [] dead = new boolean[64];
+        private int [] visited = new int[64];
+        private IntList [] outside = new IntList[64];
+        private int faceCount;
+
+        /** The new face whose horizon edge starts or ends at a point, only valid for the current eye point */
+        private final int [] startingAt;
+        private final int [] endingAt;
+
+        Quickhull(double [] xyz){
+            this.xyz = xyz;
+            this.n = xyz.length / 3;
+            this.startingAt = new int[this.n];
+            this.endingAt = new int[this.n];
+        }
+
+        /**
+         * Builds the hull
+         *
+         * @return 3 point indices per face, or null if the points are all on one plane
+         */
+        int[] build(){
+            int [] simplex = simplex();
+            if(simplex == null){
+                return null;
+            }
+            int a = simplex[0], b = simplex[1], c = simplex[2], d = simplex[3];
+            int [] first = {addFace(a, b, c), addFace(a, d, b), addFace(b, d, c), addFace(c, d, a)};
+            for(int f: first){
+                for(int g: first){
+                    for(int e = 0; e < 3 && f != g; e++){
+                        int h = edgeOf(g, this.corners[3 * f + (e + 1) % 3], this.corners[3 * f + e]);
+                        if(h >= 0){
+                            this.across[3 * f + e] = g;
+                        }
+                    }
+                }
+            }
+            for(int i = 0; i < this.n; i++){
+                assign(i, first, 0, first.length);
+            }
+
+            IntList pending = new IntList();
+            for(int f: first){
+                pending.add(f);
+            }
+            IntList visible = new IntList();
+            IntList horizon = new IntList();
+            IntList created = new IntList();
+            int stamp = 0;
+            while(pending.size() > 0){
+                int face = pending.removeLast();
+                if(this.dead[face] || this.outside[face] == null || this.outside[face].size() == 0){
+                    continue;
+                }
+                int eye = farthest(face);
+
+                // walk out from face over every face the eye can see, the edges into faces it can not see are the
+                // horizon, kept as (face, edge) pairs
+                stamp++;
+                visible.clear();
+                horizon.clear();
+                this.visited[face] = stamp;
+                visible.add(face);
+                for(int v = 0; v < visible.size(); v++){
+                    int f = visible.get(v);
+                    for(int e = 0; e < 3; e++){
+                        int g = this.across[3 * f + e];
+                        if(this.visited[g] == stamp){
+                            continue;
+                        }
+                        if(sees(eye, g)){
+                            this.visited[g] = stamp;
+                            visible.add(g);
+                        }
+                        else{
+                            horizon.add(f);
+                            horizon.add(e);
+                        }
+                    }
+                }
+
+                created.clear();
+                for(int h = 0; h < horizon.size(); h += 2){
+                    int f = horizon.get(h), e = horizon.get(h + 1);
+                    int u = this.corners[3 * f + e], v = this.corners[3 * f + (e + 1) % 3];
+                    int outer = this.across[3 * f + e];
+                    int added = addFace(u, v, eye);
+                    this.across[3 * added] = outer;
+                    this.across[3 * outer + edgeOf(outer, v, u)] = added;
+                    this.startingAt[u] = added;
+                    this.endingAt[v] = added;
+                    created.add(added);
+                }
+                for(int i = 0; i < created.size(); i++){
+                    int added = created.get(i);
+                    this.across[3 * added + 1] = this.startingAt[this.corners[3 * added + 1]];
+                    this.across[3 * added + 2] = this.endingAt[this.corners[3 * added]];
+                }
+
+                int [] newFaces = created.toArray();
+                for(int v = 0; v < visible.size(); v++){
+                    int f = visible.get(v);
+                    this.dead[f] = true;
+                    IntList points = this.outside[f];
+                    this.outside[f] = null;
+                    for(int i = 0; points != null && i < points.size(); i++){
+                        if(points.get(i) != eye){
+                            assign(points.get(i), newFaces, 0, newFaces.length);
+                        }
+                    }
+                }
+                for(int added: newFaces){
+                    pending.add(added);
+                }
+            }
+
+            IntList triangles = new IntList();
+            for(int f = 0; f < this.faceCount; f++){
+                if(!this.dead[f]){
+                    triangles.add(this.corners[3 * f]);
+                    triangles.add(this.corners[3 * f + 1]);
+                    triangles.add(this.corners[3 * f + 2]);
+                }
+            }
+            return triangles.toArray();
+        }
+
+        /**
+         * Picks four points that are not on one plane, ordered so that the fourth is inside the first three's face
+         */
+        private int[] simplex(){
+            if(this.n < 4){
+                return null;
+            }
+            int [] extremes = new int[6];
+            for(int i = 1; i < this.n; i++){
+                for(int axis = 0; axis < 3; axis++){
+                    if(this.xyz[3 * i + axis] < this.xyz[3 * extremes[2 * axis] + axis]){
+                        extremes[2 * axis] = i;
+                    }
+                    if(this.xyz[3 * i + axis] > this.xyz[3 * extremes[2 * axis + 1] + axis]){
+                        extremes[2 * axis + 1] = i;
+                    }
+                }
+            }
+            int a = 0, b = 0;
+            double widest = 0;
+            for(int i: extremes){
+                for(int j: extremes){
+                    double distance = VectorKernels.squaredDistance(this.xyz, 3 * i, this.xyz, 3 * j, 3);
+                    if(distance > widest){
+                        widest = distance;
+                        a = i;
+                        b = j;
+                    }
+                }
+            }
+            if(widest == 0){
+                return null;
+            }
+
+            int c = -1;
+            double farthest = 0;
+            double [] norm = new double[3];
+            for(int i = 0; i < this.n; i++){
+                cross(this.xyz, 3 * a, 3 * b, 3 * i, norm);
+                double distance = VectorKernels.dot(norm, norm);
+                if(distance > farthest){
+                    farthest = distance;
+                    c = i;
+                }
+            }
+            if(c < 0){
+                return null;
+            }
+
+            cross(this.xyz, 3 * a, 3 * b, 3 * c, norm);
+            int d = -1;
+            farthest = 0;
+            for(int i = 0; i < this.n; i++){
+                double distance = Math.abs(VectorKernels.dot(norm, 0, this.xyz, 3 * i, 3)
+                    - VectorKernels.dot(norm, 0, this.xyz, 3 * a, 3));
+                if(distance > farthest){
+                    farthest = distance;
+                    d = i;
+                }
+            }
+            if(d < 0){
+                return null;
+            }
+            double orientation = orient(a, b, c, d);
+            if(orientation == 0){
+                return null;
+            }
+            return orientation > 0 ? new int[] {a, b, c, d} : new int[] {a, c, b, d};
+        }
+
+        private int addFace(int a, int b, int c){
+            int face = this.faceCount++;
+            if(face == this.dead.length){
+                int capacity = 2 * face;
+                this.corners = Arrays.copyOf(this.corners, 3 * capacity);
+                this.across = Arrays.copyOf(this.across, 3 * capacity);
+                this.dead = Arrays.copyOf(this.dead, capacity);
+                this.visited = Arrays.copyOf(this.visited, capacity);
+                this.outside = Arrays.copyOf(this.outside, capacity);
+            }
+            this.corners[3 * face] = a;
+            this.corners[3 * face + 1] = b;
+            this.corners[3 * face + 2] = c;
+            return face;
+        }
+
+        /**
+         * Finds which edge of a face runs from u to v
+         *
+         * @return The edge, or -1 if the face has no such edge
+         */
+        private int edgeOf(int face, int u, int v){
+            for(int e = 0; e < 3; e++){
+                if(this.corners[3 * face + e] == u && this.corners[3 * face + (e + 1) % 3] == v){
+                    return e;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gives a point to the first of some faces it is outside of, or drops it if it is inside all of them
+         */
+        private void assign(int point, int [] faces, int from, int to){
+            for(int i = from; i < to; i++){
+                int face = faces[i];
+                if(sees(point, face)){
+                    if(this.outside[face] == null){
+                        this.outside[face] = new IntList();
+                    }
+                    this.outside[face].add(point);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Finds the point outside a face that is farthest from its plane
+         */
+        private int farthest(int face){
+            double [] norm = new double[3];
+            int a = 3 * this.corners[3 * face];
+            cross(this.xyz, a, 3 * this.corners[3 * face + 1], 3 * this.corners[3 * face + 2], norm);
+            IntList points = this.outside[face];
+            int best = points.get(0);
+            double bestDistance = Double.NEGATIVE_INFINITY;
+            for(int i = 0; i < points.size(); i++){
+                int p = 3 * points.get(i);
+                double distance = norm[0] * (this.xyz[p] - this.xyz[a]) + norm[1] * (this.xyz[p + 1] - this.xyz[a + 1])
+                    + norm[2] * (this.xyz[p + 2] - this.xyz[a + 2]);
+                if(distance > bestDistance){
+                    bestDistance = distance;
+                    best = points.get(i);
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Decides whether a point is strictly outside a face
+         */
+        private boolean sees(int point, int face){
+            return orient(this.corners[3 * face], this.corners[3 * face + 1], this.corners[3 * face + 2], point) < 0;
+        }
+
+        private double orient(int a, int b, int c, int d){
+            double [] p = this.xyz;
+            return Predicates.orient3d(p[3 * a], p[3 * a + 1], p[3 * a + 2], p[3 * b], p[3 * b + 1], p[3 * b + 2],
+                p[3 * c], p[3 * c + 1], p[3 * c + 2], p[3 * d], p[3 * d + 1], p[3 * d + 2]);
+        }
+    }
+
+    /**
+     * Calculates (b - a) x (c - a) for three packed 3 dimensional points given by their offsets
+     */
+    private static void cross(double [] xyz, int a, int b, int c, double [] result){
+        double ux = xyz[b] - xyz[a], uy = xyz[b + 1] - xyz[a + 1], uz = xyz[b + 2] - xyz[a + 2];
+        double vx = xyz[c] - xyz[a], vy = xyz[c + 1] - xyz[a + 1], vz = xyz[c + 2] - xyz[a + 2];
+        result[0] = uy * vz - uz * vy;
+        result[1] = uz * vx - ux * vz;
+        result[2] = ux * vy - uy * vx;
+    }
+
+    private static boolean samePoint(double [] data, int dimension, int i, int j){
+        return Arrays.equals(data, i * dimension, (i + 1) * dimension, data, j * dimension, (j + 1) * dimension);
+    }
+
+    /**
+     * Copies the points at indices[from, to) into a new packed array
+     */
+    private static double[] gather(double [] data, int dimension, int [] indices, int from, int to){
+        double [] packed = new double[(to - from) * dimension];
+        for(int i = from; i < to; i++){
+            System.arraycopy(data, indices[i] * dimension, packed, (i - from) * dimension, dimension);
+        }
+        return packed;
+    }
+
+    private static double[] concatenate(double [][] parts){
+        int length = 0;
+        for(double [] part: parts){
+            length += part.length;
+        }
+        double [] all = new double[length];
+        int next = 0;
+        for(double [] part: parts){
+            System.arraycopy(part, 0, all, next, part.length);
+            next += part.length;
+        }
+        return all;
+    }
+
+    /**
+     * Gives every value in an array once, in increasing order
+     */
+    private static int[] distinct(int [] values){
+        IntList unique = new IntList();
+        int [] sorted = values.clone();
+        Arrays.sort(sorted);
+        for(int i = 0; i < sorted.length; i++){
+            if(i == 0 || sorted[i] != sorted[i - 1]){
+                unique.add(sorted[i]);
+            }
+        }
+        return unique.toArray();
+    }
+}
@@ -0,0 +1,413 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * All pairs cosine similarity between two sets of vectors, or between every pair of vectors in one set
+ *
+ * Every vector is normalized once up front, after which the similarity of a pair is a plain dot product with no
+ * dimension checks or divisions. Rows are split into chunks that run in parallel on a ForkJoinPool, and each chunk
+ * walks the columns in tiles small enough to stay in cache while every row of the chunk is compared with them, four
+ * rows at a time so each column value loaded is used four times.
+ *
+ * The whole similarity or angle matrix can be materialized for moderate sizes. For large sets topK keeps only the k
+ * most similar columns of each row in a small heap while the tiles go by, so memory stays at rows * k no matter how
+ * many pairs are compared, and the streaming form hands each row to a callback and keeps nothing at all. Zero vectors
+ * have no direction and, like Vector.angle, give NaN similarities, which topK skips.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class CosineSimilarity extends EuclideanObject
+{
+    /** Rows handed to one parallel task */
+    private static final int ROW_CHUNK = 64;
+
+    /** Approximate number of doubles of column vectors in one tile, 128KB to sit comfortably in L2 */
+    private static final int TILE_DOUBLES = 1 << 14;
+
+    public final int rows;
+    public final int columns;
+
+    /** Whether rows and columns are the same set, in which case a vector is never its own neighbor in topK */
+    public final boolean self;
+
+    private final double [] rowUnits;
+    private final double [] columnUnits;
+    private final ForkJoinPool pool;
+
+    /**
+     * Prepares to compare every pair of vectors in one set, using the common pool
+     *
+     * @param vectors The vectors to compare with each other
+     */
+    public CosineSimilarity(VectorBatch vectors){
+        this(vectors, vectors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares to compare every vector of one set with every vector of another, using the common pool
+     *
+     * @param rows The vectors that make up the rows of the result
+     * @param columns The vectors that make up the columns of the result
+     */
+    public CosineSimilarity(VectorBatch rows, VectorBatch columns){
+        this(rows, columns, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares to compare every vector of one set with every vector of another
+     *
+     * @param rows The vectors that make up the rows of the result
+     * @param columns The vectors that make up the columns of the result, may be the same batch as rows
+     * @param pool The pool to run the comparisons on
+     */
+    public CosineSimilarity(VectorBatch rows, VectorBatch columns, ForkJoinPool pool){
+        super(rows, columns);
+        this.rows = rows.size;
+        this.columns = columns.size;
+        this.self = rows == columns;
+        this.pool = pool;
+        this.rowUnits = normalized(rows);
+        this.columnUnits = this.self ? this.rowUnits : normalized(columns);
+    }
+
+    private static double[] normalized(VectorBatch vectors){
+        VectorBatch units = new VectorBatch(vectors.dimension, vectors.size);
+        vectors.normalize(units);
+        return units.data;
+    }
+
+    /**
+     * Receives a block of similarities, rows [rowStart, rowEnd) against columns [columnStart, columnEnd)
+     *
+     * @param tile The similarities, row by row, (row - rowStart) * (columnEnd - columnStart) + column - columnStart
+     */
+    private interface TileAction{
+        void accept(int rowStart, int rowEnd, int columnStart, int columnEnd, double [] tile);
+    }
+
+    /**
+     * Calculates every similarity, chunk of rows by chunk of rows in parallel, handing each tile to an action
+     *
+     * Each chunk gets its own action from actions and hands it the chunk's tiles in column order on one thread,
+     * different chunks run at the same time.
+     */
+    private void forEachTile(String operation, Supplier<TileAction> actions){
+        int tileColumns = Math.max(4, TILE_DOUBLES / Math.max(1, this.dimension));
+        Metrics.BulkEvent event = Metrics.beginBulk(operation, this.dimension, (long) this.rows * this.columns);
+        Chunks.forEach(this.pool, this.rows, ROW_CHUNK, (chunk, from, to) -> {
+            TileAction action = actions.get();
+            double [] tile = new double[(to - from) * Math.min(tileColumns, this.columns)];
+            for(int columnStart = 0; columnStart < this.columns; columnStart += tileColumns){
+                int columnEnd = Math.min(this.columns, columnStart + tileColumns);
+                fillTile(from, to, columnStart, columnEnd, tile);
+                action.accept(from, to, columnStart, columnEnd, tile);
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the similarities of a block of rows against a tile of columns
+     */
+    private void fillTile(int rowStart, int rowEnd, int columnStart, int columnEnd, double [] tile){
+        int d = this.dimension;
+        int width = columnEnd - columnStart;
+        double [] a = this.rowUnits;
+        double [] b = this.columnUnits;
+        int row = rowStart;
+        for(; row + 4 <= rowEnd; row += 4){
+            int a0 = row * d, a1 = a0 + d, a2 = a1 + d, a3 = a2 + d;
+            int out = (row - rowStart) * width;
+            for(int column = columnStart; column < columnEnd; column++){
+                int c = column * d;
+                double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                for(int k = 0; k < d; k++){
+                    double value = b[c + k];
+                    s0 += a[a0 + k] * value;
+                    s1 += a[a1 + k] * value;
+                    s2 += a[a2 + k] * value;
+                    s3 += a[a3 + k] * value;
+                }
+                int j = out + column - columnStart;
+                tile[j] = s0;
+                tile[j + width] = s1;
+                tile[j + 2 * width] = s2;
+                tile[j + 3 * width] = s3;
+            }
+        }
+        for(; row < rowEnd; row++){
+            int out = (row - rowStart) * width - columnStart;
+            for(int column = columnStart; column < columnEnd; column++){
+                tile[out + column] = VectorKernels.dot(a, row * d, b, column * d, d);
+            }
+        }
+    }
+
+    /**
+     * Allocates the array of a full rows by columns matrix, checking first that it fits in a single Java array
+     */
+    private double[] newMatrixArray(){
+        long entries = (long) this.rows * this.columns;
+        if(entries > Integer.MAX_VALUE - 8){
+            throw new RuntimeException("A " + this.rows + " by " + this.columns + " matrix does not fit in one array, "
+                + "use topK to keep only the most similar columns of each row!");
+        }
+        return new double[(int) entries];
+    }
+
+    /**
+     * Calculates the cosine of the angle between every row vector and every column vector
+     *
+     * @return A rows by columns matrix of similarities from -1 to 1
+     */
+    public Matrix similarityMatrix(){
+        double [] result = newMatrixArray();
+        TileAction copy = (rowStart, rowEnd, columnStart, columnEnd, tile) -> {
+            int width = columnEnd - columnStart;
+            for(int row = rowStart; row < rowEnd; row++){
+                System.arraycopy(tile, (row - rowStart) * width, result, row * this.columns + columnStart, width);
+            }
+        };
+        forEachTile("CosineSimilarity.similarityMatrix", () -> copy);
+        return new Matrix(this.rows, this.columns, result);
+    }
+
+    /**
+     * Calculates the angle between every row vector and every column vector
+     *
+     * Similarities a rounding error outside of [-1, 1] are clamped first, so parallel vectors give 0 rather than NaN.
+     *
+     * @return A rows by columns matrix of angles in radians
+     */
+    public Matrix angleMatrix(){
+        double [] result = newMatrixArray();
+        TileAction angles = (rowStart, rowEnd, columnStart, columnEnd, tile) -> {
+            int width = columnEnd - columnStart;
+            for(int row = rowStart; row < rowEnd; row++){
+                int from = (row - rowStart) * width;
+                int to = row * this.columns + columnStart;
+                for(int j = 0; j < width; j++){
+                    result[to + j] = Math.acos(Math.max(-1, Math.min(1, tile[from + j])));
+                }
+            }
+        };
+        forEachTile("CosineSimilarity.angleMatrix", () -> angles);
+        return new Matrix(this.rows, this.columns, result);
+    }
+
+    /**
+     * Receives the k most similar columns of one row
+     */
+    public interface RowAction{
+        /**
+         * @param row The row the neighbors belong to
+         * @param columns The column indices from most to least similar, only valid until accept returns
+         * @param similarities The matching similarities, only valid until accept returns
+         * @param count How many of the entries are filled in, less than k when there are fewer columns
+         */
+        void accept(int row, int [] columns, double [] similarities, int count);
+    }
+
+    /**
+     * Finds the k most similar columns for every row, handing each row to action as soon as it is finished
+     *
+     * Nothing is kept once a row has been handed over. action is called once per row from the pool's threads,
+     * possibly at the same time for different rows.
+     *
+     * @param k The number of columns to keep per row
+     * @param action Receives each finished row
+     */
+    public void topK(int k, RowAction action){
+        if(k < 1){
+            throw new RuntimeException("k must be at least 1!");
+        }
+        int keep = Math.min(k, this.columns);
+        forEachTile("CosineSimilarity.topK", () -> new TopKAction(keep, action));
+    }
+
+    /**
+     * Finds the k most similar columns for every row
+     *
+     * @param k The number of columns to keep per row
+     *
+     * @return The neighbors of every row
+     */
+    public Neighbors topK(int k){
+        if(k < 1){
+            throw new RuntimeException("k must be at least 1!");
+        }
+        Neighbors neighbors = new Neighbors(this.rows, k);
+        topK(k, (row, columns, similarities, count) -> {
+            System.arraycopy(columns, 0, neighbors.columns, row * k, count);
+            System.arraycopy(similarities, 0, neighbors.similarities, row * k, count);
+        });
+        return neighbors;
+    }
+
+    /**
+     * The k most similar columns of every row, packed row by row
+     */
+    public static class Neighbors{
+        public final int rows;
+        public final int k;
+        private final int [] columns;
+        private final double [] similarities;
+
+        Neighbors(int rows, int k){
+            this.rows = rows;
+            this.k = k;
+            this.columns = new int[rows * k];
+            this.similarities = new double[rows * k];
+            Arrays.fill(this.columns, -1);
+            Arrays.fill(this.similarities, Double.NaN);
+        }
+
+        /**
+         * Gives the column of a row's rank most similar neighbor, or -1 if the row has fewer neighbors
+         *
+         * @param rank 0 for the most similar
+         */
+        public int column(int row, int rank){
+            return this.columns[row * this.k + rank];
+        }
+
+        /**
+         * Gives the similarity of a row's rank most similar neighbor, or NaN if the row has fewer neighbors
+         *
+         * @param rank 0 for the most similar
+         */
+        public double similarity(int row, int rank){
+            return this.similarities[row * this.k + rank];
+        }
+
+        /**
+         * Gives the columns of a row's neighbors from most to least similar
+         */
+        public int[] columns(int row){
+            return Arrays.copyOfRange(this.columns, row * this.k, (row + 1) * this.k);
+        }
+    }
+
+    /**
+     * Keeps a min heap of the best columns of every row in one chunk and hands the rows over after the last tile
+     */
+    private class TopKAction implements TileAction{
+        private final int k;
+        private final RowAction action;
+        private final Heaps heaps;
+
+        TopKAction(int k, RowAction action){
+            this.k = k;
+            this.action = action;
+            this.heaps = new Heaps(ROW_CHUNK, k);
+        }
+
+        @Override
+        public void accept(int rowStart, int rowEnd, int columnStart, int columnEnd, double [] tile){
+            Heaps heaps = this.heaps;
+            int width = columnEnd - columnStart;
+            for(int row = rowStart; row < rowEnd; row++){
+                int local = row - rowStart;
+                int from = local * width;
+                for(int j = 0; j < width; j++){
+                    int column = columnStart + j;
+                    if(self && column == row){
+                        continue;
+                    }
+                    heaps.offer(local, column, tile[from + j]);
+                }
+            }
+            if(columnEnd == columns){
+                int [] sortedColumns = new int[this.k];
+                double [] sortedSimilarities = new double[this.k];
+                for(int row = rowStart; row < rowEnd; row++){
+                    int count = heaps.drain(row - rowStart, sortedColumns, sortedSimilarities);
+                    this.action.accept(row, sortedColumns, sortedSimilarities, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fixed capacity min heaps of (similarity, column), one per row of a chunk, so the weakest kept column is on top
+     */
+    private static class Heaps{
+        private final int k;
+        private final int [] columns;
+        private final double [] similarities;
+        private final int [] counts;
+
+        Heaps(int rows, int k){
+            this.k = k;
+            this.columns = new int[rows * k];
+            this.similarities = new double[rows * k];
+            this.counts = new int[rows];
+        }
+
+        void offer(int row, int column, double similarity){
+            if(!(similarity == similarity)){
+                return;  // NaN, from a zero vector
+            }
+            int base = row * this.k;
+            int count = this.counts[row];
+            if(count < this.k){
+                int child = count;
+                this.counts[row] = count + 1;
+                while(child > 0){  // sift up
+                    int parent = (child - 1) / 2;
+                    if(this.similarities[base + parent] <= similarity){
+                        break;
+                    }
+                    this.columns[base + child] = this.columns[base + parent];
+                    this.similarities[base + child] = this.similarities[base + parent];
+                    child = parent;
+                }
+                this.columns[base + child] = column;
+                this.similarities[base + child] = similarity;
+            }
+            else if(similarity > this.similarities[base]){
+                siftDown(base, column, similarity, count);
+            }
+        }
+
+        private void siftDown(int base, int column, double similarity, int length){
+            int parent = 0;
+            while(true){
+                int child = 2 * parent + 1;
+                if(child >= length){
+                    break;
+                }
+                if(child + 1 < length && this.similarities[base + child + 1] < this.similarities[base + child]){
+                    child++;
+                }
+                if(this.similarities[base + child] >= similarity){
+                    break;
+                }
+                this.columns[base + parent] = this.columns[base + child];
+                this.similarities[base + parent] = this.similarities[base + child];
+                parent = child;
+            }
+            this.columns[base + parent] = column;
+            this.similarities[base + parent] = similarity;
+        }
+
+        /**
+         * Empties one row's heap into arrays sorted from most to least similar
+         *
+         * @return The number of entries written
+         */
+        int drain(int row, int [] sortedColumns, double [] sortedSimilarities){
+            int base = row * this.k;
+            int count = this.counts[row];
+            for(int last = count - 1; last >= 0; last--){  // pop the weakest remaining into the back
+                sortedColumns[last] = this.columns[base];
+                sortedSimilarities[last] = this.similarities[base];
+                siftDown(base, this.columns[base + last], this.similarities[base + last], last);
+            }
+            this.counts[row] = 0;
+            return count;
+        }
+    }
+}
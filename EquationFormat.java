@@ -0,0 +1,125 @@
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared helpers for writing equations as text without going through String.format
+ *
+ * appendFixed writes exactly what String.format("%.2f", value) would in the default format locale. Ordinary values
+ * are rounded with integer arithmetic, and anything the fast path cannot get exactly right (values within a hair of a
+ * rounding tie, very large values, NaN, infinities and locales with unusual digits) is handed to String.format.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+final class EquationFormat
+{
+    private static final String [] VARIABLES = {"x", "y", "z"};
+    private static final String [] BASIS_VECTORS = {"i", "j", "k"};
+
+    private static final ConcurrentHashMap<Integer, String[]> variableCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, String[]> basisCache = new ConcurrentHashMap<>();
+
+    /** Values at least this large are formatted by String.format, below it value * 100 is accurate to well under 1e-3 */
+    private static final double FAST_LIMIT = 1e9;
+
+    /** How close value * 100 may come to a rounding tie before the fast path gives up */
+    private static final double TIE_MARGIN = 1e-3;
+
+    /** The locale last seen with its decimal separator, which is 0 when the locale does not use ascii digits */
+    private static volatile LocaleSymbols symbols = new LocaleSymbols(null, (char) 0);
+
+    private EquationFormat(){
+    }
+
+    /**
+     * Gives the variable names used in equations, x, y and z below 4 dimensions and x0, x1, ... otherwise
+     *
+     * The returned array is shared and must not be changed.
+     */
+    static String[] variables(int dimension){
+        if(dimension < 4){
+            return VARIABLES;
+        }
+        return variableCache.computeIfAbsent(dimension, d -> names("x", d));
+    }
+
+    /**
+     * Gives the basis vector names used in equations, i, j and k below 4 dimensions and e0, e1, ... otherwise
+     *
+     * The returned array is shared and must not be changed.
+     */
+    static String[] basisVectors(int dimension){
+        if(dimension < 4){
+            return BASIS_VECTORS;
+        }
+        return basisCache.computeIfAbsent(dimension, d -> names("e", d));
+    }
+
+    private static String[] names(String prefix, int dimension){
+        String [] names = new String[dimension];
+        for(int i = 0; i < dimension; i++){
+            names[i] = prefix + i;
+        }
+        return names;
+    }
+
+    /**
+     * Appends a value rounded to two decimal places, matching String.format("%.2f", value)
+     *
+     * @return out
+     */
+    static StringBuilder appendFixed(StringBuilder out, double value){
+        char separator = separator();
+        double magnitude = Math.abs(value);
+        if(separator == 0 || !(magnitude < FAST_LIMIT)){
+            return out.append(String.format("%.2f", value));
+        }
+
+        double scaled = magnitude * 100;
+        long hundredths = (long) scaled;
+        double fraction = scaled - hundredths;
+        if(Math.abs(fraction - 0.5) < TIE_MARGIN){
+            // String.format rounds the shortest decimal representation half up, which only matters this close to a tie
+            return out.append(String.format("%.2f", value));
+        }
+        if(fraction > 0.5){
+            hundredths++;
+        }
+
+        if(Double.doubleToRawLongBits(value) < 0){
+            out.append('-');  // String.format keeps the sign of -0.0 and of negatives that round to zero
+        }
+        long cents = hundredths % 100;
+        out.append(hundredths / 100).append(separator);
+        if(cents < 10){
+            out.append('0');
+        }
+        return out.append(cents);
+    }
+
+    /**
+     * Gives the decimal separator of the default format locale, or 0 if the fast path cannot be used for it
+     */
+    private static char separator(){
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleSymbols current = symbols;
+        if(current.locale != locale){
+            DecimalFormatSymbols formatSymbols = DecimalFormatSymbols.getInstance(locale);
+            char separator = formatSymbols.getZeroDigit() == '0' ? formatSymbols.getDecimalSeparator() : 0;
+            current = new LocaleSymbols(locale, separator);
+            symbols = current;
+        }
+        return current.separator;
+    }
+
+    private static class LocaleSymbols{
+        final Locale locale;
+        final char separator;
+
+        LocaleSymbols(Locale locale, char separator){
+            this.locale = locale;
+            this.separator = separator;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public abstract class EuclideanObject
             int excpectedDimension = objects[0].dimension;
             for(EuclideanObject object: objects){
                 if(object.dimension != excpectedDimension){
+                    Metrics.dimensionRejected();
                     throw new RuntimeException("Euclidean objects must be in the same dimension to be used in conjunction with each other!");
                 }
             }
@@ -43,7 +44,39 @@ public abstract class EuclideanObject
      */
     protected void checkDimension(EuclideanObject other){
         if(this.dimension != other.dimension){
+            Metrics.dimensionRejected();
             throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
         }
     }
+
+    /**
+     * Folds one coordinate into a running hash, 31 * hash + the coordinate's hash
+     *
+     * Adding 0.0 folds -0.0 into 0.0 first, so objects that compare equal with == on every coordinate hash the same.
+     */
+    static int hashCoordinate(int hash, double value){
+        return 31 * hash + Double.hashCode(value + 0.0);
+    }
+
+    /**
+     * Hashes an array of coordinates or components the same way hashCoordinate does one at a time
+     */
+    static int hashCoordinates(double [] values){
+        int hash = 0;
+        for(double value: values){
+            hash = hashCoordinate(hash, value);
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes an array of single precision coordinates or components, folding -0.0f into 0.0f the same way
+     */
+    static int hashCoordinates(float [] values){
+        int hash = 0;
+        for(float value: values){
+            hash = 31 * hash + Float.hashCode(value + 0.0f);
+        }
+        return hash;
+    }
 }
@@ -0,0 +1,124 @@
+
+/**
+ * Class to represent a point in n dimensions with its coordinates stored as floats
+ *
+ * Storing a coordinate in float's normal range rounds it to 24 significant bits, a relative error of at most 2^-24
+ * (about 6e-8), but every calculation widens the floats and works in double. The distance between two FloatPoints
+ * therefore differs from the distance between the double points they were converted from by at most
+ * 2^-24 * (|p| + |q|), where |p| is the distance of p from the origin, and no error builds up across the sum.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class FloatPoint extends EuclideanObject{
+    public final float [] coordinates;
+
+    /**
+     * Constructs a new point from a set of coordinates
+     *
+     * @param coordinates The coordinates, the array is used directly and not copied
+     */
+    FloatPoint(float... coordinates){
+        super(coordinates.length);
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Constructs a new point by rounding the coordinates of a double precision point to the nearest float
+     *
+     * @param point The point to convert
+     */
+    public FloatPoint(Point point){
+        this(toFloats(point.coordinates));
+    }
+
+    static float[] toFloats(double [] values){
+        float [] floats = new float[values.length];
+        for(int i = 0; i < values.length; i++){
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+
+    static double[] toDoubles(float [] values, int offset, int length){
+        double [] doubles = new double[length];
+        for(int i = 0; i < length; i++){
+            doubles[i] = values[offset + i];
+        }
+        return doubles;
+    }
+
+    /**
+     * Converts this point to a double precision Point, which is exact
+     */
+    public Point toPoint(){
+        return new Point(toDoubles(this.coordinates, 0, this.dimension));
+    }
+
+    /**
+     * Calculates the distance between two points
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The distance between the two points, calculated in double
+     */
+    public double distance(FloatPoint other){
+        return Math.sqrt(distanceSquared(other));
+    }
+
+    /**
+     * Calculates the square of the distance between two points, avoiding the square root
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The squared distance between the two points, calculated in double
+     */
+    public double distanceSquared(FloatPoint other){
+        checkDimension(other);
+        return VectorKernels.squaredDistance(this.coordinates, 0, other.coordinates, 0, this.dimension);
+    }
+
+    /**
+     * Calculates the midpoint between two points
+     *
+     * @param other The endpoint to calculate the midpoint from
+     *
+     * @return A FloatPoint that lies halfway between the two points, rounded to float
+     */
+    public FloatPoint midPoint(FloatPoint other){
+        checkDimension(other);
+        float [] coordinates = new float[this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            coordinates[i] = (float) (((double) this.coordinates[i] + other.coordinates[i]) / 2);
+        }
+        return new FloatPoint(coordinates);
+    }
+
+    public static FloatPoint origin(int dimension){
+        return new FloatPoint(new float[dimension]);
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+
+        FloatPoint other = (FloatPoint) obj;
+        if(this.dimension != other.dimension){
+            return false;
+        }
+        for(int i = 0; i < this.dimension; i++){
+            if (this.coordinates[i] != other.coordinates[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCode(){
+        return hashCoordinates(this.coordinates);
+    }
+}
@@ -0,0 +1,145 @@
+
+/**
+ * Class to store a batch of points of the same dimension in a single packed float array
+ *
+ * The coordinates of point i are stored at data[i * dimension] through data[i * dimension + dimension - 1]. Half the
+ * size of a PointBatch, so twice as many points fit in each cache line and memory bound loops read half the bytes.
+ * Results are calculated in double from the stored floats, see FloatPoint for the error this adds.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class FloatPointBatch extends EuclideanObject{
+    public final int size;
+    public final float [] data;
+
+    /**
+     * Constructs a new batch of points with every point at the origin
+     *
+     * @param dimension The dimension that every point in the batch lives in
+     * @param size The number of points in the batch
+     */
+    public FloatPointBatch(int dimension, int size){
+        this(dimension, new float[dimension * size]);
+    }
+
+    /**
+     * Constructs a new batch of points around an already packed array of coordinates
+     *
+     * @param dimension The dimension that every point in the batch lives in
+     * @param data The packed coordinates, the array is used directly and not copied
+     */
+    public FloatPointBatch(int dimension, float [] data){
+        super(dimension);
+        if(dimension < 1 || data.length % dimension != 0){
+            throw new RuntimeException("Packed data must hold a whole number of points!");
+        }
+        this.size = data.length / dimension;
+        this.data = data;
+    }
+
+    /**
+     * Constructs a new batch by rounding every coordinate of a double precision batch to the nearest float
+     *
+     * @param batch The batch to convert
+     */
+    public FloatPointBatch(PointBatch batch){
+        this(batch.dimension, FloatPoint.toFloats(batch.data));
+    }
+
+    /**
+     * Converts this batch to a double precision PointBatch, which is exact
+     */
+    public PointBatch toPointBatch(){
+        return new PointBatch(this.dimension, FloatPoint.toDoubles(this.data, 0, this.data.length));
+    }
+
+    /**
+     * Creates a new FloatPoint holding a copy of one of the points in the batch
+     *
+     * @param index The index of the point to copy
+     */
+    public FloatPoint get(int index){
+        float [] coordinates = new float[this.dimension];
+        System.arraycopy(this.data, index * this.dimension, coordinates, 0, this.dimension);
+        return new FloatPoint(coordinates);
+    }
+
+    /**
+     * Overwrites one of the points in the batch
+     *
+     * @param index The index of the point to overwrite
+     * @param point The point to copy into the batch
+     */
+    public void set(int index, FloatPoint point){
+        checkDimension(point);
+        System.arraycopy(point.coordinates, 0, this.data, index * this.dimension, this.dimension);
+    }
+
+    /**
+     * Calculates the distance between each point in this batch and the matching point in another batch
+     *
+     * @param other The batch of end points to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(FloatPointBatch other, double [] result){
+        checkBatch(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("FloatPointBatch.distance", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            result[i] = Math.sqrt(VectorKernels.squaredDistance(this.data, offset, other.data, offset, this.dimension));
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the distance between each point in this batch and a single point
+     *
+     * @param other The end point to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(FloatPoint other, double [] result){
+        checkDimension(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("FloatPointBatch.distance", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            double squared = VectorKernels.squaredDistance(this.data, i * this.dimension, other.coordinates, 0, this.dimension);
+            result[i] = Math.sqrt(squared);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the midpoint between each point in this batch and the matching point in another batch
+     *
+     * @param other The batch of end points to calculate the midpoints from
+     * @param result The batch to write the midpoints into, may be this batch or other
+     */
+    public void midPoint(FloatPointBatch other, FloatPointBatch result){
+        checkBatch(other);
+        checkBatch(result);
+        for(int i = 0; i < this.data.length; i++){
+            result.data[i] = (float) (((double) this.data[i] + other.data[i]) / 2);
+        }
+    }
+
+    /**
+     * Checks if another batch holds the same number of points in the same dimension and throws an exception if not
+     */
+    protected void checkBatch(FloatPointBatch other){
+        checkDimension(other);
+        if(this.size != other.size){
+            throw new RuntimeException("Two batches must be the same size to perform calculations!");
+        }
+    }
+
+    /**
+     * Checks if a result array has room for one value per point and throws an exception if not
+     */
+    protected void checkLength(double [] result){
+        if(result.length < this.size){
+            throw new RuntimeException("Result array must have room for every point in the batch!");
+        }
+    }
+}
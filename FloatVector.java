@@ -0,0 +1,147 @@
+
+/**
+ * Class to represent a vector with its components stored as floats
+ *
+ * Components are rounded to float when they are stored, every calculation widens them and works in double, and
+ * results that are vectors are rounded back to float. The magnitude and dot products are sums of exact double
+ * products of the stored floats, so they are as accurate as the double versions applied to the stored values.
+ * Compared with the double vectors they were converted from, only the rounding of the components counts: the
+ * magnitude is off by at most 2^-24 * |v|, and the dot product by at most 2^-23 * (|a0 b0| + |a1 b1| + ...), which is
+ * at most 2^-23 * |a| |b|.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class FloatVector extends EuclideanObject
+{
+    public final float [] components;
+    public final double magnitude;
+
+    /**
+     * Constructs a new vector from its components
+     *
+     * @param components The components, the array is used directly and not copied
+     */
+    public FloatVector(float... components){
+        super(components.length);
+        this.components = components;
+        this.magnitude = Math.sqrt(VectorKernels.dot(components, 0, components, 0, components.length));
+    }
+
+    /**
+     * Constructs a new vector by rounding the components of a double precision vector to the nearest float
+     *
+     * @param vector The vector to convert
+     */
+    public FloatVector(Vector vector){
+        this(FloatPoint.toFloats(vector.components));
+    }
+
+    /**
+     * Constructs the vector from one point to another
+     *
+     * @param start The starting point
+     * @param end The ending point
+     */
+    public FloatVector(FloatPoint start, FloatPoint end){
+        this(difference(start, end));
+    }
+
+    private static float[] difference(FloatPoint start, FloatPoint end){
+        if(start.dimension != end.dimension){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+        float [] components = new float[start.dimension];
+        for(int i = 0; i < components.length; i++){
+            components[i] = (float) ((double) end.coordinates[i] - start.coordinates[i]);
+        }
+        return components;
+    }
+
+    /**
+     * Converts this vector to a double precision Vector, which is exact
+     */
+    public Vector toVector(){
+        return new Vector(FloatPoint.toDoubles(this.components, 0, this.dimension));
+    }
+
+    public FloatVector add(FloatVector other){
+        checkDimension(other);
+        float [] components = new float[this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            components[i] = (float) ((double) this.components[i] + other.components[i]);
+        }
+        return new FloatVector(components);
+    }
+
+    public FloatVector subtract(FloatVector other){
+        checkDimension(other);
+        float [] components = new float[this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            components[i] = (float) ((double) this.components[i] - other.components[i]);
+        }
+        return new FloatVector(components);
+    }
+
+    public FloatVector multiply(double scalar){
+        float [] components = new float[this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            components[i] = (float) (this.components[i] * scalar);
+        }
+        return new FloatVector(components);
+    }
+
+    public FloatVector normalize(){
+        return multiply(1 / this.magnitude);
+    }
+
+    /**
+     * Calculates the dot product of two vectors
+     *
+     * @return The dot product, calculated in double
+     */
+    public double dotProduct(FloatVector other){
+        checkDimension(other);
+        return VectorKernels.dot(this.components, 0, other.components, 0, this.dimension);
+    }
+
+    public double angle(FloatVector other){
+        return Math.acos(dotProduct(other) / (this.magnitude * other.magnitude));
+    }
+
+    public String toString(){
+        StringBuilder str = new StringBuilder("<");
+        for (int i = 0; i < this.dimension; i++){
+            if (i != 0){
+                str.append(", ");
+            }
+            EquationFormat.appendFixed(str, this.components[i]);
+        }
+        return str.append('>').toString();
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+
+        FloatVector other = (FloatVector) obj;
+        if(this.dimension != other.dimension){
+            return false;
+        }
+        for(int i = 0; i < this.dimension; i++){
+            if (this.components[i] != other.components[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCode(){
+        return hashCoordinates(this.components);
+    }
+}
@@ -0,0 +1,162 @@
+
+/**
+ * Class to store a batch of vectors of the same dimension in a single packed float array
+ *
+ * The components of vector i are stored at data[i * dimension] through data[i * dimension + dimension - 1]. Results
+ * are calculated in double from the stored floats and vectors are rounded back to float when they are written.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class FloatVectorBatch extends EuclideanObject{
+    public final int size;
+    public final float [] data;
+
+    /**
+     * Constructs a new batch of zero vectors
+     *
+     * @param dimension The dimension that every vector in the batch lives in
+     * @param size The number of vectors in the batch
+     */
+    public FloatVectorBatch(int dimension, int size){
+        this(dimension, new float[dimension * size]);
+    }
+
+    /**
+     * Constructs a new batch of vectors around an already packed array of components
+     *
+     * @param dimension The dimension that every vector in the batch lives in
+     * @param data The packed components, the array is used directly and not copied
+     */
+    public FloatVectorBatch(int dimension, float [] data){
+        super(dimension);
+        if(dimension < 1 || data.length % dimension != 0){
+            throw new RuntimeException("Packed data must hold a whole number of vectors!");
+        }
+        this.size = data.length / dimension;
+        this.data = data;
+    }
+
+    /**
+     * Constructs a new batch by rounding every component of a double precision batch to the nearest float
+     *
+     * @param batch The batch to convert
+     */
+    public FloatVectorBatch(VectorBatch batch){
+        this(batch.dimension, FloatPoint.toFloats(batch.data));
+    }
+
+    /**
+     * Converts this batch to a double precision VectorBatch, which is exact
+     */
+    public VectorBatch toVectorBatch(){
+        return new VectorBatch(this.dimension, FloatPoint.toDoubles(this.data, 0, this.data.length));
+    }
+
+    /**
+     * Creates a new FloatVector holding a copy of one of the vectors in the batch
+     *
+     * @param index The index of the vector to copy
+     */
+    public FloatVector get(int index){
+        float [] components = new float[this.dimension];
+        System.arraycopy(this.data, index * this.dimension, components, 0, this.dimension);
+        return new FloatVector(components);
+    }
+
+    /**
+     * Overwrites one of the vectors in the batch
+     *
+     * @param index The index of the vector to overwrite
+     * @param vector The vector to copy into the batch
+     */
+    public void set(int index, FloatVector vector){
+        checkDimension(vector);
+        System.arraycopy(vector.components, 0, this.data, index * this.dimension, this.dimension);
+    }
+
+    /**
+     * Calculates the magnitude of every vector in the batch
+     *
+     * @param result The array to write the magnitudes into
+     */
+    public void magnitude(double [] result){
+        checkLength(result);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            result[i] = Math.sqrt(VectorKernels.dot(this.data, offset, this.data, offset, this.dimension));
+        }
+    }
+
+    /**
+     * Calculates the dot product of each vector in this batch with the matching vector in another batch
+     *
+     * @param other The batch of vectors to take the dot product with
+     * @param result The array to write the dot products into
+     */
+    public void dotProduct(FloatVectorBatch other, double [] result){
+        checkBatch(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("FloatVectorBatch.dotProduct", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            result[i] = VectorKernels.dot(this.data, offset, other.data, offset, this.dimension);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the dot product of every vector in the batch with a single vector
+     *
+     * @param other The vector to take the dot product with
+     * @param result The array to write the dot products into
+     */
+    public void dotProduct(FloatVector other, double [] result){
+        checkDimension(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("FloatVectorBatch.dotProduct", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            result[i] = VectorKernels.dot(this.data, i * this.dimension, other.components, 0, this.dimension);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Normalizes every vector in the batch
+     *
+     * Zero vectors have no direction, so like Vector.normalize they come out as NaN components
+     *
+     * @param result The batch to write the unit vectors into, may be this batch
+     */
+    public void normalize(FloatVectorBatch result){
+        checkBatch(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("FloatVectorBatch.normalize", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            double scale = 1 / Math.sqrt(VectorKernels.dot(this.data, offset, this.data, offset, this.dimension));
+            for(int j = offset; j < offset + this.dimension; j++){
+                result.data[j] = (float) (this.data[j] * scale);
+            }
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Checks if another batch holds the same number of vectors in the same dimension and throws an exception if not
+     */
+    protected void checkBatch(FloatVectorBatch other){
+        checkDimension(other);
+        if(this.size != other.size){
+            throw new RuntimeException("Two batches must be the same size to perform calculations!");
+        }
+    }
+
+    /**
+     * Checks if a result array has room for one value per vector and throws an exception if not
+     */
+    protected void checkLength(double [] result){
+        if(result.length < this.size){
+            throw new RuntimeException("Result array must have room for every vector in the batch!");
+        }
+    }
+}
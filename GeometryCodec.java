@@ -0,0 +1,474 @@
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Compact binary encoding of points, vectors, lines, planes and batches that reads and writes ByteBuffers directly
+ *
+ * Every record starts with a one byte tag naming what follows and the dimension as an unsigned varint (one byte below
+ * 128), then the doubles, all little endian:
+ *   POINT          coordinates
+ *   VECTOR         components, magnitude
+ *   LINE           point coordinates, direction components, direction magnitude
+ *   PLANE          point coordinates, norm components, norm magnitude
+ *   POINT_BATCH    varint size, packed coordinates
+ *   VECTOR_BATCH   varint size, packed components
+ *
+ * Magnitudes are stored so decoding hands them straight to the Vector rather than taking another square root, and
+ * plain batches are moved with one bulk DoubleBuffer transfer in each direction.
+ *
+ * Batches can instead be written with the COMPRESSED flag added to their tag. Each double is then XORed with the same
+ * coordinate of the element before it, so neighbouring elements of a spatially coherent cloud share their sign,
+ * exponent and leading mantissa bits and leave mostly zero bits behind. The XOR is written as a control byte, the
+ * number of zero bytes at the low end in its high nibble and the number of bytes kept in its low nibble (0 when the
+ * values are equal), followed by the kept bytes. This is lossless; it saves the most on quantized or float sourced
+ * data, whose low mantissa bytes are zero, and can cost up to one extra byte per double on random data.
+ *
+ * A BufferOverflowException or BufferUnderflowException is thrown when the buffer runs out, and the order of the
+ * buffer passed in is left as it was.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class GeometryCodec
+{
+    public static final byte POINT = 1;
+    public static final byte VECTOR = 2;
+    public static final byte LINE = 3;
+    public static final byte PLANE = 4;
+    public static final byte POINT_BATCH = 5;
+    public static final byte VECTOR_BATCH = 6;
+
+    /** Added to a batch tag when its doubles are XOR compressed */
+    public static final byte COMPRESSED = 0x10;
+
+    /** Runs shorter than this are written one double at a time rather than through a DoubleBuffer view */
+    private static final int BULK_THRESHOLD = 16;
+
+    private GeometryCodec(){
+    }
+
+    /**
+     * Calculates the number of bytes encode will write for a point
+     */
+    public static int encodedSize(Point point){
+        return 1 + varintSize(point.dimension) + 8 * point.dimension;
+    }
+
+    public static int encodedSize(Vector vector){
+        return 1 + varintSize(vector.dimension) + 8 * (vector.dimension + 1);
+    }
+
+    public static int encodedSize(Line line){
+        return 1 + varintSize(line.dimension) + 8 * (2 * line.dimension + 1);
+    }
+
+    public static int encodedSize(Plane plane){
+        return 1 + varintSize(plane.dimension) + 8 * (2 * plane.dimension + 1);
+    }
+
+    /**
+     * Calculates the most bytes encode can write for a batch, which is exact when it is not compressed
+     */
+    public static int maxEncodedSize(PointBatch batch, boolean compressed){
+        return maxBatchSize(batch.dimension, batch.size, compressed);
+    }
+
+    public static int maxEncodedSize(VectorBatch batch, boolean compressed){
+        return maxBatchSize(batch.dimension, batch.size, compressed);
+    }
+
+    /**
+     * Writes a point at the position of a buffer and moves the position past it
+     */
+    public static void encode(Point point, ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            putHeader(buffer, POINT, point.dimension);
+            putDoubles(buffer, point.coordinates, 0, point.dimension);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static void encode(Vector vector, ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            putHeader(buffer, VECTOR, vector.dimension);
+            putVector(buffer, vector);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static void encode(Line line, ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            putHeader(buffer, LINE, line.dimension);
+            putDoubles(buffer, line.point.coordinates, 0, line.dimension);
+            putVector(buffer, line.direction);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static void encode(Plane plane, ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            putHeader(buffer, PLANE, plane.dimension);
+            putDoubles(buffer, plane.point.coordinates, 0, plane.dimension);
+            putVector(buffer, plane.norm);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Writes a batch of points at the position of a buffer and moves the position past it
+     *
+     * @param compressed Whether to XOR compress each point against the one before it
+     */
+    public static void encode(PointBatch batch, ByteBuffer buffer, boolean compressed){
+        encodeBatch(POINT_BATCH, batch.dimension, batch.size, batch.data, buffer, compressed);
+    }
+
+    /**
+     * Writes a batch of vectors at the position of a buffer and moves the position past it
+     *
+     * @param compressed Whether to XOR compress each vector against the one before it
+     */
+    public static void encode(VectorBatch batch, ByteBuffer buffer, boolean compressed){
+        encodeBatch(VECTOR_BATCH, batch.dimension, batch.size, batch.data, buffer, compressed);
+    }
+
+    /**
+     * Reads the tag at the position of a buffer without moving the position
+     *
+     * @return One of POINT through VECTOR_BATCH, with COMPRESSED added for compressed batches
+     */
+    public static byte peekTag(ByteBuffer buffer){
+        return buffer.get(buffer.position());
+    }
+
+    /**
+     * Reads whichever object is at the position of a buffer and moves the position past it
+     *
+     * @return A Point, Vector, Line, Plane, PointBatch or VectorBatch
+     */
+    public static EuclideanObject decode(ByteBuffer buffer){
+        switch(peekTag(buffer) & ~COMPRESSED){
+            case POINT: return decodePoint(buffer);
+            case VECTOR: return decodeVector(buffer);
+            case LINE: return decodeLine(buffer);
+            case PLANE: return decodePlane(buffer);
+            case POINT_BATCH: return decodePointBatch(buffer);
+            case VECTOR_BATCH: return decodeVectorBatch(buffer);
+            default: throw new RuntimeException("Unknown geometry tag " + peekTag(buffer) + "!");
+        }
+    }
+
+    /**
+     * Reads the point at the position of a buffer and moves the position past it
+     */
+    public static Point decodePoint(ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            int dimension = getHeader(buffer, POINT, "Point");
+            requireBytes(buffer, 8L * dimension);
+            return new Point(getDoubles(buffer, new double[dimension], 0, dimension));
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static Vector decodeVector(ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            int dimension = getHeader(buffer, VECTOR, "Vector");
+            requireBytes(buffer, 8L * (dimension + 1L));
+            return getVector(buffer, dimension);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static Line decodeLine(ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            int dimension = getHeader(buffer, LINE, "Line");
+            requireBytes(buffer, 8L * (2L * dimension + 1));
+            Point point = new Point(getDoubles(buffer, new double[dimension], 0, dimension));
+            return new Line(point, getVector(buffer, dimension));
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    public static Plane decodePlane(ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            int dimension = getHeader(buffer, PLANE, "Plane");
+            requireBytes(buffer, 8L * (2L * dimension + 1));
+            Point point = new Point(getDoubles(buffer, new double[dimension], 0, dimension));
+            return new Plane(point, getVector(buffer, dimension));
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Reads the batch of points at the position of a buffer, compressed or not, and moves the position past it
+     */
+    public static PointBatch decodePointBatch(ByteBuffer buffer){
+        Batch batch = decodeBatch(POINT_BATCH, "PointBatch", buffer);
+        return new PointBatch(batch.dimension, batch.data);
+    }
+
+    /**
+     * Reads the batch of vectors at the position of a buffer, compressed or not, and moves the position past it
+     */
+    public static VectorBatch decodeVectorBatch(ByteBuffer buffer){
+        Batch batch = decodeBatch(VECTOR_BATCH, "VectorBatch", buffer);
+        return new VectorBatch(batch.dimension, batch.data);
+    }
+
+    /**
+     * The dimension and packed doubles of a decoded batch
+     */
+    private static class Batch{
+        final int dimension;
+        final double [] data;
+
+        Batch(int dimension, double [] data){
+            this.dimension = dimension;
+            this.data = data;
+        }
+    }
+
+    private static void encodeBatch(byte tag, int dimension, int size, double [] data, ByteBuffer buffer,
+                                    boolean compressed){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            putHeader(buffer, compressed ? (byte) (tag | COMPRESSED) : tag, dimension);
+            putVarint(buffer, size);
+            if(compressed){
+                putCompressed(buffer, data, dimension, size * dimension);
+            }
+            else{
+                putDoubles(buffer, data, 0, size * dimension);
+            }
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    private static Batch decodeBatch(byte tag, String name, ByteBuffer buffer){
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try{
+            boolean compressed = (peekTag(buffer) & COMPRESSED) != 0;
+            int dimension = getHeader(buffer, compressed ? (byte) (tag | COMPRESSED) : tag, name);
+            int size = getVarint(buffer);
+            long doubles = (long) size * dimension;
+            if(doubles > Integer.MAX_VALUE - 8){
+                throw new RuntimeException("Encoded " + name + " is too large to decode!");
+            }
+            // a compressed double takes at least its control byte
+            requireBytes(buffer, compressed ? doubles : 8 * doubles);
+            double [] data = new double[size * dimension];
+            if(compressed){
+                getCompressed(buffer, data, dimension);
+            }
+            else{
+                getDoubles(buffer, data, 0, data.length);
+            }
+            return new Batch(dimension, data);
+        }
+        finally{
+            buffer.order(order);
+        }
+    }
+
+    private static int maxBatchSize(int dimension, int size, boolean compressed){
+        long doubles = (long) dimension * size;
+        long bytes = 1 + varintSize(dimension) + varintSize(size) + doubles * (compressed ? 9 : 8);
+        if(bytes > Integer.MAX_VALUE){
+            throw new RuntimeException("Batch is too large to encode into one buffer!");
+        }
+        return (int) bytes;
+    }
+
+    private static void putHeader(ByteBuffer buffer, byte tag, int dimension){
+        buffer.put(tag);
+        putVarint(buffer, dimension);
+    }
+
+    /**
+     * Reads a tag and dimension, checking that the tag is the one expected
+     *
+     * @return The dimension
+     */
+    private static int getHeader(ByteBuffer buffer, byte tag, String name){
+        byte found = buffer.get(buffer.position());
+        if(found != tag){
+            throw new RuntimeException("Expected an encoded " + name + " but found tag " + found + "!");
+        }
+        buffer.get();
+        int dimension = getVarint(buffer);
+        if(dimension < 1){
+            throw new RuntimeException("Encoded " + name + " has no dimensions!");
+        }
+        return dimension;
+    }
+
+    /**
+     * Checks that the buffer still holds a number of bytes, so a corrupt dimension or size throws
+     * BufferUnderflowException before an array is allocated for it rather than after
+     */
+    private static void requireBytes(ByteBuffer buffer, long bytes){
+        if(buffer.remaining() < bytes){
+            throw new BufferUnderflowException();
+        }
+    }
+
+    private static void putVector(ByteBuffer buffer, Vector vector){
+        putDoubles(buffer, vector.components, 0, vector.dimension);
+        buffer.putDouble(vector.magnitude);
+    }
+
+    private static Vector getVector(ByteBuffer buffer, int dimension){
+        double [] components = getDoubles(buffer, new double[dimension], 0, dimension);
+        return new Vector(components, buffer.getDouble());
+    }
+
+    private static void putDoubles(ByteBuffer buffer, double [] values, int offset, int length){
+        if(length < BULK_THRESHOLD){
+            for(int i = offset; i < offset + length; i++){
+                buffer.putDouble(values[i]);
+            }
+            return;
+        }
+        if(buffer.remaining() < 8L * length){
+            throw new BufferOverflowException();
+        }
+        buffer.asDoubleBuffer().put(values, offset, length);
+        buffer.position(buffer.position() + 8 * length);
+    }
+
+    private static double[] getDoubles(ByteBuffer buffer, double [] values, int offset, int length){
+        if(length < BULK_THRESHOLD){
+            for(int i = offset; i < offset + length; i++){
+                values[i] = buffer.getDouble();
+            }
+            return values;
+        }
+        if(buffer.remaining() < 8L * length){
+            throw new BufferUnderflowException();
+        }
+        buffer.asDoubleBuffer().get(values, offset, length);
+        buffer.position(buffer.position() + 8 * length);
+        return values;
+    }
+
+    /**
+     * Writes every double XORed with the one a stride before it as a control byte and its kept bytes
+     */
+    private static void putCompressed(ByteBuffer buffer, double [] values, int stride, int length){
+        for(int i = 0; i < length; i++){
+            long bits = Double.doubleToRawLongBits(values[i]);
+            long xor = i < stride ? bits : bits ^ Double.doubleToRawLongBits(values[i - stride]);
+            if(xor == 0){
+                buffer.put((byte) 0);
+                continue;
+            }
+            int low = Long.numberOfTrailingZeros(xor) >>> 3;
+            int kept = 8 - low - (Long.numberOfLeadingZeros(xor) >>> 3);
+            long shifted = xor >>> (8 * low);
+            buffer.put((byte) (low << 4 | kept));
+            int position = buffer.position();
+            // write all eight bytes and keep only the first kept of them, little endian puts the low byte first; the
+            // extra bytes are only written when the control bytes of the doubles still to come, one byte each at
+            // least, are sure to overwrite them, so nothing past the end of the record is ever touched
+            if(length - i - 1 >= 8 - kept && buffer.limit() - position >= 8){
+                buffer.putLong(position, shifted);
+                buffer.position(position + kept);
+            }
+            else{
+                for(int b = 0; b < kept; b++){
+                    buffer.put((byte) (shifted >>> (8 * b)));
+                }
+            }
+        }
+    }
+
+    private static void getCompressed(ByteBuffer buffer, double [] values, int stride){
+        for(int i = 0; i < values.length; i++){
+            int control = buffer.get() & 0xff;
+            int low = control >>> 4;
+            int kept = control & 0xf;
+            if(kept > 8 || low + kept > 8){
+                throw new RuntimeException("Corrupt compressed control byte " + control + "!");
+            }
+            long shifted = 0;
+            int position = buffer.position();
+            if(kept > 0 && buffer.limit() - position >= 8){
+                shifted = buffer.getLong(position) & (-1L >>> (64 - 8 * kept));
+                buffer.position(position + kept);
+            }
+            else{
+                for(int b = 0; b < kept; b++){
+                    shifted |= (buffer.get() & 0xffL) << (8 * b);
+                }
+            }
+            long xor = shifted << (8 * low);
+            long bits = i < stride ? xor : xor ^ Double.doubleToRawLongBits(values[i - stride]);
+            values[i] = Double.longBitsToDouble(bits);
+        }
+    }
+
+    private static int varintSize(int value){
+        return value < 1 << 7 ? 1 : value < 1 << 14 ? 2 : value < 1 << 21 ? 3 : value < 1 << 28 ? 4 : 5;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value){
+        while((value & ~0x7f) != 0){
+            buffer.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer){
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7){
+            byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if(b >= 0){
+                if(value < 0){
+                    throw new RuntimeException("Encoded size is negative!");
+                }
+                return value;
+            }
+        }
+        throw new RuntimeException("Encoded size is longer than five bytes!");
+    }
+}
@@ -0,0 +1,138 @@
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams vectors, lines and planes as text, one per line, in the same form as their toString methods
+ *
+ * Every object is rendered into one reused StringBuilder and copied out through a reused char buffer, so exporting a
+ * whole collection does not allocate per object beyond what Line's vector equation needs for its Double.toString
+ * digits. Lines are written as vector equations unless parametric or symmetric equations are asked for, in which case
+ * the equations of one line are joined with "; ".
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class GeometryWriter implements Closeable, Flushable
+{
+    /** Text put between the equations of one line */
+    public static final String EQUATION_SEPARATOR = "; ";
+
+    /** Characters collected before they are handed to the underlying writer */
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final Writer out;
+    private final StringBuilder text = new StringBuilder(BUFFER_SIZE + 256);
+    private char [] chars = new char[BUFFER_SIZE + 256];
+
+    /**
+     * Creates a writer that writes to another writer
+     *
+     * @param out The writer to send the text to, it is closed when this writer is closed
+     */
+    public GeometryWriter(Writer out){
+        this.out = out;
+    }
+
+    /**
+     * Creates a writer that writes UTF-8 text to a channel
+     *
+     * @param channel The channel to send the text to, it is closed when this writer is closed
+     */
+    public GeometryWriter(WritableByteChannel channel){
+        this(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
+    public GeometryWriter write(Vector vector) throws IOException{
+        vector.writeTo(this.text);
+        return endLine();
+    }
+
+    /**
+     * Writes the vector equation of a line
+     */
+    public GeometryWriter write(Line line) throws IOException{
+        line.writeTo(this.text);
+        return endLine();
+    }
+
+    public GeometryWriter write(Plane plane) throws IOException{
+        plane.writeTo(this.text);
+        return endLine();
+    }
+
+    public GeometryWriter writeParametricEquations(Line line) throws IOException{
+        line.writeParametricEquations(this.text, EQUATION_SEPARATOR);
+        return endLine();
+    }
+
+    public GeometryWriter writeSymmetricEquations(Line line) throws IOException{
+        line.writeSymmetricEquations(this.text, EQUATION_SEPARATOR);
+        return endLine();
+    }
+
+    public GeometryWriter writeVectors(Iterable<? extends Vector> vectors) throws IOException{
+        for(Vector vector: vectors){
+            write(vector);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the vector equation of every line
+     */
+    public GeometryWriter writeLines(Iterable<? extends Line> lines) throws IOException{
+        for(Line line: lines){
+            write(line);
+        }
+        return this;
+    }
+
+    public GeometryWriter writePlanes(Iterable<? extends Plane> planes) throws IOException{
+        for(Plane plane: planes){
+            write(plane);
+        }
+        return this;
+    }
+
+    private GeometryWriter endLine() throws IOException{
+        this.text.append('\n');
+        if(this.text.length() >= BUFFER_SIZE){
+            drain();
+        }
+        return this;
+    }
+
+    /**
+     * Hands everything collected so far to the underlying writer
+     */
+    private void drain() throws IOException{
+        int length = this.text.length();
+        if(length > this.chars.length){
+            this.chars = new char[length];
+        }
+        this.text.getChars(0, length, this.chars, 0);
+        this.out.write(this.chars, 0, length);
+        this.text.setLength(0);
+    }
+
+    @Override
+    public void flush() throws IOException{
+        drain();
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException{
+        try{
+            drain();
+        }
+        finally{
+            this.out.close();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+import java.util.Arrays;
+
+/**
+ * Growable list of ints so query results are not boxed
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+class IntList
+{
+    private int [] values = new int[16];
+    private int size;
+
+    void add(int value){
+        if(this.size == this.values.length){
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+        this.values[this.size++] = value;
+    }
+
+    int get(int index){
+        return this.values[index];
+    }
+
+    /**
+     * Removes the last value so the list can be used as a stack
+     *
+     * @return The value removed
+     */
+    int removeLast(){
+        return this.values[--this.size];
+    }
+
+    int size(){
+        return this.size;
+    }
+
+    void clear(){
+        this.size = 0;
+    }
+
+    int [] toArray(){
+        return Arrays.copyOf(this.values, this.size);
+    }
+}
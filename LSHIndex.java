@@ -0,0 +1,546 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Approximate nearest neighbor index for high dimensional points and vectors using locality sensitive hashing
+ *
+ * Each of the index's tables hashes a point with bits random projections. For the COSINE metric each projection is a
+ * random hyperplane through the origin and contributes the side the point falls on, so two vectors land in the same
+ * bucket with probability (1 - angle / pi)^bits. For the EUCLIDEAN metric each projection is a p-stable (Gaussian)
+ * direction cut into slots of bucketWidth at a random offset, so nearby points share every slot with high
+ * probability. A query looks in its own bucket of every table, and optionally in the probes neighboring buckets whose
+ * boundaries it is closest to, and ranks the points it finds there exactly.
+ *
+ * More bits make buckets smaller and queries faster but miss more neighbors, more tables and more probes find more of
+ * the true neighbors at the cost of time. LSHBenchmark measures recall@k against brute force for a grid of settings.
+ * The projections are Vectors and every hash is their dot product with the point, through the same kernel as
+ * Vector.dotProduct. Points are stored packed like a PointBatch and buckets are chained through an array of next
+ * indices. add reuses hash buffers kept for inserting, and addAll hashes each chunk with buffers of its own and keeps
+ * the keys of the whole batch in one array, so apart from those and the storage growing nothing is allocated per
+ * point. Queries may run on several threads at once but not while points are being added.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class LSHIndex extends EuclideanObject
+{
+    /**
+     * How closeness between points is measured
+     */
+    public enum Metric{
+        /** The angle between the points as vectors from the origin */
+        COSINE,
+
+        /** The straight line distance between the points */
+        EUCLIDEAN
+    }
+
+    public final Metric metric;
+    public final int tables;
+    public final int bits;
+    public final double bucketWidth;
+
+    /** The random direction of each hash bit, bits per table one table after another */
+    private final Vector [] projections;
+
+    /** The random shift of each EUCLIDEAN projection before it is cut into slots, between 0 and bucketWidth */
+    private final double [] shifts;
+
+    /** Coordinates of every point, packed like a PointBatch in the order they were added */
+    private double [] coordinates;
+
+    /** Magnitude of every point as a vector, for the cosine ranking */
+    private double [] magnitudes;
+    private int size;
+
+    /** The next point in the same bucket of each table, next[point * tables + table], or -1 at the end of a bucket */
+    private int [] next;
+
+    /** Per table open addressing hash from bucket key to the most recently added point in that bucket */
+    private final long [][] keys;
+    private final int [][] heads;
+    private final int [] buckets;
+
+    /** Buffers for hashing the point being added, only used while adding so they are never shared between threads */
+    private final long [] insertHashes;
+    private final double [] insertProjected;
+    private final long [] insertSlots;
+
+    /**
+     * Creates an index that finds neighbors by angle with random hyperplane hashing
+     *
+     * @param dimension The dimension of every point that will be added
+     * @param tables The number of hash tables, more find more true neighbors
+     * @param bits The number of hyperplanes per table, from 1 to 64, more make buckets smaller
+     * @param seed The seed for the random hyperplanes
+     */
+    public static LSHIndex cosine(int dimension, int tables, int bits, long seed){
+        return new LSHIndex(dimension, Metric.COSINE, tables, bits, 1, seed);
+    }
+
+    /**
+     * Creates an index that finds neighbors by distance with p-stable hashing
+     *
+     * @param dimension The dimension of every point that will be added
+     * @param tables The number of hash tables, more find more true neighbors
+     * @param bits The number of projections per table, from 1 to 64, more make buckets smaller
+     * @param bucketWidth The width of a slot along each projection, a few times the distance to a typical neighbor
+     * @param seed The seed for the random projections
+     */
+    public static LSHIndex euclidean(int dimension, int tables, int bits, double bucketWidth, long seed){
+        if(!(bucketWidth > 0) || Double.isInfinite(bucketWidth)){
+            throw new RuntimeException("Buckets must have a positive, finite width!");
+        }
+        return new LSHIndex(dimension, Metric.EUCLIDEAN, tables, bits, bucketWidth, seed);
+    }
+
+    private LSHIndex(int dimension, Metric metric, int tables, int bits, double bucketWidth, long seed){
+        super(dimension);
+        if(dimension < 1){
+            throw new RuntimeException("Points must have at least one dimension!");
+        }
+        if(tables < 1){
+            throw new RuntimeException("An index needs at least one table!");
+        }
+        if(bits < 1 || bits > 64){
+            throw new RuntimeException("Each table must use from 1 to 64 bits!");
+        }
+        this.metric = metric;
+        this.tables = tables;
+        this.bits = bits;
+        this.bucketWidth = bucketWidth;
+
+        Random random = new Random(seed);
+        this.projections = new Vector[tables * bits];
+        this.shifts = new double[tables * bits];
+        for(int i = 0; i < this.projections.length; i++){
+            double [] direction = new double[dimension];
+            for(int j = 0; j < dimension; j++){
+                direction[j] = random.nextGaussian();
+            }
+            this.projections[i] = new Vector(direction);
+            this.shifts[i] = random.nextDouble() * bucketWidth;
+        }
+
+        this.coordinates = new double[16 * dimension];
+        this.magnitudes = new double[16];
+        this.next = new int[16 * tables];
+        this.keys = new long[tables][32];
+        this.heads = new int[tables][32];
+        this.buckets = new int[tables];
+        for(int[] table: this.heads){
+            Arrays.fill(table, -1);
+        }
+        this.insertHashes = new long[tables];
+        this.insertProjected = new double[bits];
+        this.insertSlots = new long[bits];
+    }
+
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Creates a Point holding a copy of one of the points in the index
+     *
+     * @param index The index of the point, in the order points were added
+     */
+    public Point get(int index){
+        if(index < 0 || index >= this.size){
+            throw new RuntimeException("Point " + index + " is outside of the index!");
+        }
+        return new Point(Arrays.copyOfRange(this.coordinates, index * this.dimension, (index + 1) * this.dimension));
+    }
+
+    /**
+     * Adds a point to the index
+     *
+     * @return The index of the new point
+     */
+    public int add(Point point){
+        checkDimension(point);
+        return add(point.coordinates);
+    }
+
+    /**
+     * Adds the end point of a vector from the origin to the index
+     *
+     * @return The index of the new point
+     */
+    public int add(Vector vector){
+        checkDimension(vector);
+        return add(vector.components);
+    }
+
+    private int add(double [] values){
+        hash(values, 0, this.insertHashes, 0, this.insertProjected, this.insertSlots);
+        int index = this.size;
+        append(values, 0, 1);
+        link(index, this.insertHashes, 0);
+        return index;
+    }
+
+    /**
+     * Adds every point in a batch, hashing them in parallel on the common pool
+     *
+     * @return The index of the first point of the batch, the rest follow in order
+     */
+    public int addAll(PointBatch points){
+        checkDimension(points);
+        return addAll(points.data, points.size);
+    }
+
+    /**
+     * Adds the end point of every vector in a batch, hashing them in parallel on the common pool
+     *
+     * @return The index of the first vector of the batch, the rest follow in order
+     */
+    public int addAll(VectorBatch vectors){
+        checkDimension(vectors);
+        return addAll(vectors.data, vectors.size);
+    }
+
+    private int addAll(double [] values, int count){
+        long [] hashes = new long[count * this.tables];
+        Metrics.BulkEvent event = Metrics.beginBulk("LSHIndex.addAll", this.dimension, count);
+        Chunks.forEach(ForkJoinPool.commonPool(), count, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            double [] projected = new double[this.bits];
+            long [] slots = new long[this.bits];
+            for(int i = from; i < to; i++){
+                hash(values, i * this.dimension, hashes, i * this.tables, projected, slots);
+            }
+        });
+        int first = this.size;
+        append(values, 0, count);
+        for(int i = 0; i < count; i++){
+            link(first + i, hashes, i * this.tables);
+        }
+        Metrics.commit(event);
+        return first;
+    }
+
+    /**
+     * Copies points onto the end of the packed storage, growing it if needed
+     */
+    private void append(double [] values, int offset, int count){
+        int size = this.size + count;
+        if(size > this.magnitudes.length){
+            int capacity = Math.max(size, this.magnitudes.length * 2);
+            this.coordinates = Arrays.copyOf(this.coordinates, capacity * this.dimension);
+            this.magnitudes = Arrays.copyOf(this.magnitudes, capacity);
+            this.next = Arrays.copyOf(this.next, capacity * this.tables);
+        }
+        System.arraycopy(values, offset, this.coordinates, this.size * this.dimension, count * this.dimension);
+        for(int i = this.size; i < size; i++){
+            int start = i * this.dimension;
+            this.magnitudes[i] = Math.sqrt(VectorKernels.dot(this.coordinates, start, this.coordinates, start,
+                this.dimension));
+        }
+        this.size = size;
+    }
+
+    /**
+     * Puts a stored point at the head of its bucket in every table
+     */
+    private void link(int index, long [] hashes, int offset){
+        for(int table = 0; table < this.tables; table++){
+            long key = hashes[offset + table];
+            int slot = slotOf(table, key);
+            if(this.heads[table][slot] < 0){
+                this.keys[table][slot] = key;
+                this.buckets[table]++;
+            }
+            this.next[index * this.tables + table] = this.heads[table][slot];
+            this.heads[table][slot] = index;
+            if(this.buckets[table] * 2 > this.heads[table].length){
+                rehash(table);
+            }
+        }
+    }
+
+    private void rehash(int table){
+        long [] oldKeys = this.keys[table];
+        int [] oldHeads = this.heads[table];
+        this.keys[table] = new long[oldKeys.length * 2];
+        this.heads[table] = new int[oldHeads.length * 2];
+        Arrays.fill(this.heads[table], -1);
+        for(int i = 0; i < oldHeads.length; i++){
+            if(oldHeads[i] >= 0){
+                int slot = slotOf(table, oldKeys[i]);
+                this.keys[table][slot] = oldKeys[i];
+                this.heads[table][slot] = oldHeads[i];
+            }
+        }
+    }
+
+    /**
+     * Finds the slot holding a bucket key, or the empty slot it would be stored in
+     */
+    private int slotOf(int table, long key){
+        long [] keys = this.keys[table];
+        int [] heads = this.heads[table];
+        int mask = heads.length - 1;
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (mixed ^ (mixed >>> 32)) & mask;
+        while(heads[slot] >= 0 && keys[slot] != key){
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Calculates the bucket key of a point in every table
+     *
+     * @param projected Scratch space for bits projections
+     * @param slots Scratch space for bits slots
+     */
+    private void hash(double [] values, int offset, long [] hashes, int hashOffset, double [] projected, long [] slots){
+        for(int table = 0; table < this.tables; table++){
+            project(values, offset, table, projected);
+            hashes[hashOffset + table] = key(table, projected, slots);
+        }
+    }
+
+    /**
+     * Takes the dot product of a point with each projection of one table
+     */
+    private void project(double [] values, int offset, int table, double [] projected){
+        for(int bit = 0; bit < this.bits; bit++){
+            projected[bit] = VectorKernels.dot(this.projections[table * this.bits + bit].components, 0, values, offset,
+                this.dimension);
+        }
+    }
+
+    /**
+     * Turns the projections of a point into its bucket key, filling in the slot along each projection
+     */
+    private long key(int table, double [] projected, long [] slots){
+        if(this.metric == Metric.COSINE){
+            long key = 0;
+            for(int bit = 0; bit < this.bits; bit++){
+                slots[bit] = projected[bit] >= 0 ? 1 : 0;
+                key |= slots[bit] << bit;
+            }
+            return key;
+        }
+        for(int bit = 0; bit < this.bits; bit++){
+            slots[bit] = (long) Math.floor((projected[bit] + this.shifts[table * this.bits + bit]) / this.bucketWidth);
+        }
+        return combine(slots);
+    }
+
+    /**
+     * Mixes the slots along every EUCLIDEAN projection into one key, two points share a key only when every slot
+     * matches, apart from 64 bit collisions which only add candidates that the exact ranking then rejects
+     */
+    private static long combine(long [] slots){
+        long key = 0;
+        for(long slot: slots){
+            key = (key + slot) * 0xBF58476D1CE4E5B9L;
+            key ^= key >>> 31;
+        }
+        return key;
+    }
+
+    /**
+     * Finds the indexed point closest to a query point, approximately
+     *
+     * @return The index of the closest point found, or -1 if none shared a bucket with the query
+     */
+    public int nearestIndex(Point query){
+        int [] found = kNearestIndices(query, 1);
+        return found.length == 0 ? -1 : found[0];
+    }
+
+    /**
+     * Finds up to k indexed points close to a query point, approximately
+     *
+     * @return The points found, ordered from closest to farthest
+     */
+    public Point[] kNearest(Point query, int k){
+        int [] found = kNearestIndices(query, k);
+        Point [] result = new Point[found.length];
+        for(int i = 0; i < found.length; i++){
+            result[i] = get(found[i]);
+        }
+        return result;
+    }
+
+    public int[] kNearestIndices(Point query, int k){
+        return kNearestIndices(query, k, 0);
+    }
+
+    /**
+     * Finds the indices of up to k indexed points close to a query point, approximately
+     *
+     * @param query The point to search around
+     * @param k The number of points to find
+     * @param probes How many neighboring buckets to search in each table besides the query's own, trading time for
+     *               recall, at most bits for COSINE and 2 * bits for EUCLIDEAN are useful
+     *
+     * @return Up to k indices ordered from closest to farthest, fewer if fewer points shared a bucket with the query
+     */
+    public int[] kNearestIndices(Point query, int k, int probes){
+        checkDimension(query);
+        return search(query.coordinates, k, probes);
+    }
+
+    public int[] kNearestIndices(Vector query, int k){
+        return kNearestIndices(query, k, 0);
+    }
+
+    /**
+     * Finds the indices of up to k indexed vectors close to a query vector, approximately
+     *
+     * @param query The vector to search around
+     * @param k The number of vectors to find
+     * @param probes How many neighboring buckets to search in each table besides the query's own
+     *
+     * @return Up to k indices ordered from closest to farthest
+     */
+    public int[] kNearestIndices(Vector query, int k, int probes){
+        checkDimension(query);
+        return search(query.components, k, probes);
+    }
+
+    private int[] search(double [] query, int k, int probes){
+        if(k < 1){
+            throw new RuntimeException("k must be at least 1!");
+        }
+        if(probes < 0){
+            throw new RuntimeException("Probes must not be negative!");
+        }
+
+        IntList candidates = new IntList();
+        double [] projected = new double[this.bits];
+        long [] slots = new long[this.bits];
+        int [] order = new int[this.bits * 2];
+        double [] margins = new double[this.bits * 2];
+        for(int table = 0; table < this.tables; table++){
+            project(query, 0, table, projected);
+            long key = key(table, projected, slots);
+            collect(table, key, candidates);
+            if(probes > 0){
+                int count = probeOrder(table, projected, order, margins);
+                for(int p = 0; p < Math.min(probes, count); p++){
+                    collect(table, perturb(key, slots, order[p]), candidates);
+                }
+            }
+        }
+
+        int [] found = candidates.toArray();
+        Arrays.sort(found);
+        return rank(query, found, k);
+    }
+
+    /**
+     * Adds every point in one bucket to the candidates
+     */
+    private void collect(int table, long key, IntList candidates){
+        int index = this.heads[table][slotOf(table, key)];
+        for(; index >= 0; index = this.next[index * this.tables + table]){
+            candidates.add(index);
+        }
+    }
+
+    /**
+     * Lists the single step moves to a neighboring bucket, closest boundary first
+     *
+     * A move is bit * 2 for a step down along that projection and bit * 2 + 1 for a step up, COSINE only has the
+     * move that flips each bit.
+     *
+     * @return The number of moves written into order
+     */
+    private int probeOrder(int table, double [] projected, int [] order, double [] margins){
+        int count = 0;
+        for(int bit = 0; bit < this.bits; bit++){
+            if(this.metric == Metric.COSINE){
+                margins[count] = Math.abs(projected[bit]);
+                order[count++] = bit * 2;
+            }
+            else{
+                double position = (projected[bit] + this.shifts[table * this.bits + bit]) / this.bucketWidth;
+                double fraction = position - Math.floor(position);
+                margins[count] = fraction;
+                order[count++] = bit * 2;
+                margins[count] = 1 - fraction;
+                order[count++] = bit * 2 + 1;
+            }
+        }
+        // insertion sort, bits is small
+        for(int i = 1; i < count; i++){
+            double margin = margins[i];
+            int move = order[i];
+            int j = i - 1;
+            for(; j >= 0 && margins[j] > margin; j--){
+                margins[j + 1] = margins[j];
+                order[j + 1] = order[j];
+            }
+            margins[j + 1] = margin;
+            order[j + 1] = move;
+        }
+        return count;
+    }
+
+    /**
+     * Gives the key of the bucket one move away from the query's bucket
+     */
+    private long perturb(long key, long [] slots, int move){
+        int bit = move / 2;
+        if(this.metric == Metric.COSINE){
+            return key ^ (1L << bit);
+        }
+        long slot = slots[bit];
+        slots[bit] = slot + ((move & 1) == 0 ? -1 : 1);
+        long perturbed = combine(slots);
+        slots[bit] = slot;
+        return perturbed;
+    }
+
+    /**
+     * Ranks the distinct candidates exactly and keeps the best k
+     *
+     * @param candidates Candidate indices in ascending order, possibly repeated
+     */
+    private int[] rank(double [] query, int [] candidates, int k){
+        double queryMagnitude = Math.sqrt(VectorKernels.dot(query, query));
+        int [] best = new int[k];
+        double [] scores = new double[k];
+        int count = 0;
+        for(int c = 0; c < candidates.length; c++){
+            int index = candidates[c];
+            if(c > 0 && candidates[c - 1] == index){
+                continue;
+            }
+            double score = score(query, queryMagnitude, index);
+            if(count == k && !(score < scores[k - 1])){
+                continue;
+            }
+            // insert into the sorted best list, which is only k long
+            int j = count < k ? count++ : k - 1;
+            for(; j > 0 && scores[j - 1] > score; j--){
+                scores[j] = scores[j - 1];
+                best[j] = best[j - 1];
+            }
+            scores[j] = score;
+            best[j] = index;
+        }
+        return count == k ? best : Arrays.copyOf(best, count);
+    }
+
+    /**
+     * Scores how far an indexed point is from the query, lower is closer
+     */
+    private double score(double [] query, double queryMagnitude, int index){
+        int offset = index * this.dimension;
+        if(this.metric == Metric.EUCLIDEAN){
+            return VectorKernels.squaredDistance(this.coordinates, offset, query, 0, this.dimension);
+        }
+        double magnitudes = queryMagnitude * this.magnitudes[index];
+        if(magnitudes == 0){
+            return 1;  // a zero vector has no direction, rank it as if it were perpendicular
+        }
+        return 1 - VectorKernels.dot(this.coordinates, offset, query, 0, this.dimension) / magnitudes;
+    }
+}
@@ -1,3 +1,5 @@
+import java.io.IOException;
+
 /**
  * Class to create and perform calculations with lines
  *
@@ -29,12 +31,135 @@ public class Line extends EuclideanObject
      * @return The distance from the line to the point
      */
     public double distance(Point other){
+        long start = Metrics.start();
         checkDimension(other);
         Vector toPoint = new Vector(this.point, other);
         
         Vector projectionOntoLine = toPoint.vectorProjectionOnto(this.direction);
 
-        return toPoint.subtract(projectionOntoLine).magnitude;
+        double distance = toPoint.subtract(projectionOntoLine).magnitude;
+        Metrics.record(Metrics.Operation.LINE_DISTANCE, start);
+        return distance;
+    }
+
+    /**
+     * Calculates the shortest distance between two lines
+     *
+     * Parallel lines give the distance between them, and a line whose direction is the zero vector is treated as its
+     * point.
+     *
+     * @param other The line to calculate distance to
+     *
+     * @return The distance between the closest points of the two lines
+     */
+    public double distance(Line other){
+        checkDimension(other);
+        return Math.sqrt(closestApproach(other, false, null, null));
+    }
+
+    /**
+     * Finds the pair of points where two lines come closest to each other
+     *
+     * For parallel lines, which are the same distance apart everywhere, the pair through this line's point is used.
+     *
+     * @param other The line to approach
+     *
+     * @return {the closest point on this line, the closest point on the other line}
+     */
+    public Point[] closestPoints(Line other){
+        checkDimension(other);
+        double [] s = new double[1], t = new double[1];
+        closestApproach(other, false, s, t);
+        return new Point[] {pointAt(s[0]), other.pointAt(t[0])};
+    }
+
+    /**
+     * Calculates the shortest distance between two segments, each running from its line's point at t = 0 to its
+     * point plus its direction at t = 1
+     *
+     * @param other The segment to calculate distance to
+     *
+     * @return The distance between the closest points of the two segments
+     */
+    public double segmentDistance(Line other){
+        checkDimension(other);
+        return Math.sqrt(closestApproach(other, true, null, null));
+    }
+
+    /**
+     * Finds the pair of points where two segments come closest to each other, each segment running from its line's
+     * point at t = 0 to its point plus its direction at t = 1
+     *
+     * @param other The segment to approach
+     *
+     * @return {the closest point on this segment, the closest point on the other segment}
+     */
+    public Point[] closestSegmentPoints(Line other){
+        checkDimension(other);
+        double [] s = new double[1], t = new double[1];
+        closestApproach(other, true, s, t);
+        return new Point[] {pointAt(s[0]), other.pointAt(t[0])};
+    }
+
+    private double closestApproach(Line other, boolean segments, double [] s, double [] t){
+        return LineBatch.closestApproach(this.point.coordinates, 0, this.direction.components, 0,
+            other.point.coordinates, 0, other.direction.components, 0, this.dimension, segments, s, t, 0);
+    }
+
+    /**
+     * Finds where the line crosses a plane, as the t in the line's equations
+     *
+     * @param plane The plane to intersect with
+     *
+     * @return The value of t where r(t) lies on the plane
+     */
+    public double intersectionParameter(Plane plane){
+        checkDimension(plane);
+        double along = 0;
+        double toPlane = 0;
+        for(int i = 0; i < this.dimension; i++){
+            along += plane.norm.components[i] * this.direction.components[i];
+            toPlane += plane.norm.components[i] * (plane.point.coordinates[i] - this.point.coordinates[i]);
+        }
+        if(along == 0){
+            throw new RuntimeException("A line parallel to a plane does not cross it at a single point!");
+        }
+        return toPlane / along;
+    }
+
+    /**
+     * Finds the point where the line crosses a plane
+     *
+     * @param plane The plane to intersect with
+     *
+     * @return The point that lies on both the line and the plane
+     */
+    public Point intersection(Plane plane){
+        return pointAt(intersectionParameter(plane));
+    }
+
+    /**
+     * Finds the point on the line for a value of t in the line's equations
+     *
+     * @param t How many direction vectors away from the line's point to go
+     *
+     * @return The point r(t)
+     */
+    public Point pointAt(double t){
+        double [] coordinates = new double[this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            coordinates[i] = this.point.coordinates[i] + t * this.direction.components[i];
+        }
+        return new Point(coordinates);
+    }
+
+    /**
+     * Caches the unit direction of the line for fast repeated queries against many points
+     * 
+     * @return A PreparedLine for this line
+     */
+    public PreparedLine prepare(){
+        return new PreparedLine(this);
     }
 
     /**
@@ -43,41 +168,70 @@ public class Line extends EuclideanObject
      * @return The parametric equations for the line as an array of Strings
      */
     public String[] parametricEquations(){
-        String [] variables;
-        if (this.dimension < 4){
-            variables = new String[] {"x", "y", "z"};
+        String [] variables = EquationFormat.variables(this.dimension);
+        String [] equations = new String[this.dimension];
+
+        StringBuilder str = new StringBuilder();
+        for(int i = 0; i < this.dimension; i++){
+            str.setLength(0);
+            equations[i] = appendParametricEquation(str, variables, i).toString();
         }
-        else{
-            variables = new String[this.dimension];
-            for (int i = 0; i < this.dimension; i++){
-                variables[i] = "x" + i;
+        return equations;
+    }
+
+    /**
+     * Writes the parametric equations for the line one after another
+     * 
+     * @param str The builder to append to
+     * @param separator Text to put between two equations
+     * 
+     * @return str
+     */
+    public StringBuilder writeParametricEquations(StringBuilder str, CharSequence separator){
+        String [] variables = EquationFormat.variables(this.dimension);
+        for(int i = 0; i < this.dimension; i++){
+            if (i != 0){
+                str.append(separator);
             }
+            appendParametricEquation(str, variables, i);
         }
+        return str;
+    }
 
-        String [] equations = new String[this.dimension];
+    /**
+     * Writes the parametric equations for the line one after another
+     * 
+     * Writes straight into out when it is a StringBuilder, otherwise the text is built in a new StringBuilder and then
+     * copied to out. To write many lines, append them to one reused StringBuilder with the StringBuilder overload, or
+     * stream them through GeometryWriter, which reuses its buffers.
+     * 
+     * @param out Where to write the equations
+     * @param separator Text to put between two equations
+     */
+    public void writeParametricEquations(Appendable out, CharSequence separator) throws IOException{
+        if(out instanceof StringBuilder){
+            writeParametricEquations((StringBuilder) out, separator);
+        }
+        else{
+            out.append(writeParametricEquations(new StringBuilder(), separator));
+        }
+    }
 
-        for(int i = 0; i < this.dimension; i++){
-            if(this.point.coordinates[i] != 0){
-                if (this.direction.components[i] >= 0){
-                    equations[i] = String.format("%s = %.2f + %.2ft",
-                        variables[i],
-                        this.point.coordinates[i],
-                        this.direction.components[i]);
-                }
-                else{
-                    equations[i] = String.format("%s = %.2f - %.2ft",
-                        variables[i],
-                        this.point.coordinates[i],
-                        Math.abs(this.direction.components[i]));
-                }
+    private StringBuilder appendParametricEquation(StringBuilder str, String [] variables, int i){
+        str.append(variables[i]).append(" = ");
+        if(this.point.coordinates[i] != 0){
+            EquationFormat.appendFixed(str, this.point.coordinates[i]);
+            if (this.direction.components[i] >= 0){
+                EquationFormat.appendFixed(str.append(" + "), this.direction.components[i]);
             }
-            else { //this constant component  is 0
-                equations[i] = String.format("%s = %.2ft",
-                    variables[i],
-                    this.direction.components[i]);
+            else{
+                EquationFormat.appendFixed(str.append(" - "), Math.abs(this.direction.components[i]));
             }
         }
-        return equations;
+        else { //this constant component  is 0
+            EquationFormat.appendFixed(str, this.direction.components[i]);
+        }
+        return str.append('t');
     }
 
     /**
@@ -86,21 +240,20 @@ public class Line extends EuclideanObject
      * @return The vector equation representation of the line
      */
     public String vectorEquation(){
-        // set up standard basis names
-        String [] basisVectors;
-        if (this.dimension < 4){
-            basisVectors = new String[] {"i", "j", "k"};
-        }
-        else{
-            basisVectors = new String[this.dimension];
-            for (int i = 0; i < this.dimension; i++){
-                basisVectors[i] = "e" + i;
-            }
-        }
+        return writeTo(new StringBuilder()).toString();
+    }
 
-        //build vector equation
-        StringBuilder str = new StringBuilder("r(t) =");
+    /**
+     * Writes the vector equation of the line
+     * 
+     * @param str The builder to append to
+     * 
+     * @return str
+     */
+    public StringBuilder writeTo(StringBuilder str){
+        String [] basisVectors = EquationFormat.basisVectors(this.dimension);
 
+        str.append("r(t) =");
         for(int i = 0; i < this.dimension; i++){
             if (i != 0){
                 str.append(" + (");
@@ -119,10 +272,27 @@ public class Line extends EuclideanObject
                 str.append(" - ");
                 str.append(Math.abs(this.direction.components[i]));
             }
-            str.append("t)" + basisVectors[i]);
+            str.append("t)").append(basisVectors[i]);
         }
+        return str;
+    }
 
-        return str.toString();
+    /**
+     * Writes the vector equation of the line
+     * 
+     * Writes straight into out when it is a StringBuilder, otherwise the text is built in a new StringBuilder and then
+     * copied to out. To write many lines, append them to one reused StringBuilder with writeTo(StringBuilder), or
+     * stream them through GeometryWriter, which reuses its buffers.
+     * 
+     * @param out Where to write the equation
+     */
+    public void writeTo(Appendable out) throws IOException{
+        if(out instanceof StringBuilder){
+            writeTo((StringBuilder) out);
+        }
+        else{
+            out.append(writeTo(new StringBuilder()));
+        }
     }
 
     /**
@@ -131,17 +301,7 @@ public class Line extends EuclideanObject
      * @return The symmetric equation representation of the line as a String array
      */
     public String[] symmetricEquations(){
-        // set up variable names for later
-        String [] variables;
-        if (this.dimension < 4){
-            variables = new String[] {"x", "y", "z"};
-        }
-        else{
-            variables = new String[this.dimension];
-            for (int i = 0; i < this.dimension; i++){
-                variables[i] = "x" + i;
-            }
-        }
+        String [] variables = EquationFormat.variables(this.dimension);
 
         // count how many equations we need
         int equationCount = 1;
@@ -154,48 +314,92 @@ public class Line extends EuclideanObject
         String [] equations = new String[equationCount];
         int constantEquationIndex = 1;  // equations[0] is the main equation
 
-        //construct main equation
         StringBuilder str = new StringBuilder();
-        String tail = " = ";
         for(int i = 0; i < this.dimension; i++){
-            if (i == this.dimension - 1){
-                tail = "";
-            }
-            if(this.direction.components[i] != 0){
-                if (this.point.coordinates[i] > 0){
-                    str.append(String.format("(%s - %.2f) / %.2f%s",
-                            variables[i],
-                            this.point.coordinates[i],
-                            this.direction.components[i],
-                            tail));
-                }
-                else if (this.point.coordinates[i] == 0){
-                    str.append(String.format("%s / %.2f%s",
-                            variables[i],
-                            this.direction.components[i],
-                            tail));
-                }
-                else{  // starting point coordinate is negative
-                    str.append(String.format("(%s + %.2f) / %.2f%s",
-                            variables[i],
-                            Math.abs(this.point.coordinates[i]),
-                            this.direction.components[i],
-                            tail));
-                }  
-            } // end non zero direction component condition
-
-            else{  //direction component is 0
-                // create new constant equation
-                equations[constantEquationIndex++] = String.format("%s = %.2f",
-                    variables[i],
-                    this.point.coordinates[i]);
+            if(this.direction.components[i] == 0){
+                str.setLength(0);
+                equations[constantEquationIndex++] = appendConstantEquation(str, variables, i).toString();
             }
-        } // end loop through dimensions
-        equations[0] = str.toString();
+        }
 
+        str.setLength(0);
+        equations[0] = appendMainEquation(str, variables).toString();
         return equations;
     }
 
+    /**
+     * Writes the symmetric equations of the line one after another, in the same order as symmetricEquations
+     * 
+     * @param str The builder to append to
+     * @param separator Text to put between two equations
+     * 
+     * @return str
+     */
+    public StringBuilder writeSymmetricEquations(StringBuilder str, CharSequence separator){
+        String [] variables = EquationFormat.variables(this.dimension);
+        appendMainEquation(str, variables);
+        for(int i = 0; i < this.dimension; i++){
+            if(this.direction.components[i] == 0){
+                appendConstantEquation(str.append(separator), variables, i);
+            }
+        }
+        return str;
+    }
+
+    /**
+     * Writes the symmetric equations of the line one after another, in the same order as symmetricEquations
+     * 
+     * Writes straight into out when it is a StringBuilder, otherwise the text is built in a new StringBuilder and then
+     * copied to out. To write many lines, append them to one reused StringBuilder with the StringBuilder overload, or
+     * stream them through GeometryWriter, which reuses its buffers.
+     * 
+     * @param out Where to write the equations
+     * @param separator Text to put between two equations
+     */
+    public void writeSymmetricEquations(Appendable out, CharSequence separator) throws IOException{
+        if(out instanceof StringBuilder){
+            writeSymmetricEquations((StringBuilder) out, separator);
+        }
+        else{
+            out.append(writeSymmetricEquations(new StringBuilder(), separator));
+        }
+    }
+
+    /**
+     * Appends the equation relating every variable with a non zero direction component
+     */
+    private StringBuilder appendMainEquation(StringBuilder str, String [] variables){
+        for(int i = 0; i < this.dimension; i++){
+            if(this.direction.components[i] == 0){
+                continue;
+            }
+            if (this.point.coordinates[i] > 0){
+                str.append('(').append(variables[i]).append(" - ");
+                EquationFormat.appendFixed(str, this.point.coordinates[i]).append(") / ");
+            }
+            else if (this.point.coordinates[i] == 0){
+                str.append(variables[i]).append(" / ");
+            }
+            else{  // starting point coordinate is negative
+                str.append('(').append(variables[i]).append(" + ");
+                EquationFormat.appendFixed(str, Math.abs(this.point.coordinates[i])).append(") / ");
+            }
+            EquationFormat.appendFixed(str, this.direction.components[i]);
+            if (i != this.dimension - 1){
+                str.append(" = ");
+            }
+        }
+        return str;
+    }
+
+    /**
+     * Appends the equation of a variable whose direction component is 0
+     */
+    private StringBuilder appendConstantEquation(StringBuilder str, String [] variables, int i){
+        str.append(variables[i]).append(" = ");
+        return EquationFormat.appendFixed(str, this.point.coordinates[i]);
+    }
+
     /**
      * Returns the line as represented by its vector equation
      */
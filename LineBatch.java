@@ -0,0 +1,266 @@
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to store a batch of lines of the same dimension as a packed batch of points and a packed batch of directions
+ *
+ * Line i is points[i] + t directions[i]. The segment methods treat each line as the segment from its point at t = 0
+ * to its point plus its direction at t = 1. The bulk methods split their input into chunks and run them on a
+ * ForkJoinPool, and do not allocate per line.
+ *
+ * Closest approach is found from the dot products of the two directions and the offset between the lines' points,
+ * following the segment algorithm in Ericson's "Real-Time Collision Detection". Lines whose directions are parallel to
+ * within PARALLEL_EPSILON, and lines whose direction is the zero vector, take a separate branch instead of dividing by
+ * a vanishing determinant, so every input gives a finite answer (NaN coordinates aside) rather than an exception.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class LineBatch extends EuclideanObject
+{
+    /** Largest squared sine of the angle between two directions at which they are treated as parallel */
+    static final double PARALLEL_EPSILON = 0x1p-40;
+
+    public final int size;
+    public final PointBatch points;
+    public final VectorBatch directions;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a batch of lines around packed points and directions, using the common pool for bulk methods
+     *
+     * @param points A point on each line, used directly and not copied
+     * @param directions The direction of each line, used directly and not copied
+     */
+    public LineBatch(PointBatch points, VectorBatch directions){
+        this(points, directions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a batch of lines around packed points and directions
+     *
+     * @param points A point on each line, used directly and not copied
+     * @param directions The direction of each line, used directly and not copied
+     * @param pool The pool to run the bulk methods on
+     */
+    public LineBatch(PointBatch points, VectorBatch directions, ForkJoinPool pool){
+        super(points, directions);
+        if(points.size != directions.size){
+            throw new RuntimeException("A batch of lines needs one direction for every point!");
+        }
+        this.size = points.size;
+        this.points = points;
+        this.directions = directions;
+        this.pool = pool;
+    }
+
+    /**
+     * Constructs a new batch of lines by copying the points and directions of a set of lines
+     *
+     * @param lines The lines to pack into the batch
+     */
+    public LineBatch(Line... lines){
+        super(lines);
+        this.size = lines.length;
+        this.points = new PointBatch(this.dimension, this.size);
+        this.directions = new VectorBatch(this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            System.arraycopy(lines[i].point.coordinates, 0, this.points.data, i * this.dimension, this.dimension);
+            System.arraycopy(lines[i].direction.components, 0, this.directions.data, i * this.dimension,
+                this.dimension);
+        }
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Creates a new Line holding a copy of one of the lines in the batch
+     */
+    public Line get(int index){
+        return new Line(this.points.get(index), this.directions.get(index));
+    }
+
+    /**
+     * Calculates the distance between each line in this batch and the matching line in another batch
+     *
+     * @param other The lines to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(LineBatch other, double [] result){
+        pairs("LineBatch.distance", other, false, result, null, null);
+    }
+
+    /**
+     * Calculates the distance between each segment in this batch and the matching segment in another batch
+     *
+     * @param other The segments to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void segmentDistance(LineBatch other, double [] result){
+        pairs("LineBatch.segmentDistance", other, true, result, null, null);
+    }
+
+    /**
+     * Finds where each line in this batch comes closest to the matching line in another batch
+     *
+     * @param other The lines to approach
+     * @param s The array to write the t of the closest point on each line of this batch into
+     * @param t The array to write the t of the closest point on each line of other into
+     */
+    public void closestParameters(LineBatch other, double [] s, double [] t){
+        pairs("LineBatch.closestParameters", other, false, null, s, t);
+    }
+
+    /**
+     * Finds where each segment in this batch comes closest to the matching segment in another batch
+     *
+     * @param other The segments to approach
+     * @param s The array to write the t, from 0 to 1, of the closest point on each segment of this batch into
+     * @param t The array to write the t, from 0 to 1, of the closest point on each segment of other into
+     */
+    public void closestSegmentParameters(LineBatch other, double [] s, double [] t){
+        pairs("LineBatch.closestSegmentParameters", other, true, null, s, t);
+    }
+
+    /**
+     * Calculates the distance between each line in this batch and a single line
+     *
+     * @param other The line to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(Line other, double [] result){
+        against("LineBatch.distance", other, false, result);
+    }
+
+    /**
+     * Calculates the distance between each segment in this batch and a single segment
+     *
+     * @param other The segment to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void segmentDistance(Line other, double [] result){
+        against("LineBatch.segmentDistance", other, true, result);
+    }
+
+    private void pairs(String operation, LineBatch other, boolean segments, double [] result, double [] s,
+                       double [] t){
+        checkDimension(other);
+        if(this.size != other.size){
+            throw new RuntimeException("Two batches must be the same size to perform calculations!");
+        }
+        checkLength(result);
+        checkLength(s);
+        checkLength(t);
+        int n = this.dimension;
+        double [] p = this.points.data, u = this.directions.data, q = other.points.data, v = other.directions.data;
+        Metrics.BulkEvent event = Metrics.beginBulk(operation, n, this.size);
+        Chunks.forEach(this.pool, this.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            for(int i = from; i < to; i++){
+                int offset = i * n;
+                double squared = closestApproach(p, offset, u, offset, q, offset, v, offset, n, segments, s, t, i);
+                if(result != null){
+                    result[i] = Math.sqrt(squared);
+                }
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    private void against(String operation, Line other, boolean segments, double [] result){
+        checkDimension(other);
+        checkLength(result);
+        int n = this.dimension;
+        double [] p = this.points.data, u = this.directions.data;
+        double [] q = other.point.coordinates, v = other.direction.components;
+        Metrics.BulkEvent event = Metrics.beginBulk(operation, n, this.size);
+        Chunks.forEach(this.pool, this.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            for(int i = from; i < to; i++){
+                int offset = i * n;
+                result[i] = Math.sqrt(closestApproach(p, offset, u, offset, q, 0, v, 0, n, segments, null, null, 0));
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    /**
+     * Finds the closest approach of the lines p + s u and q + t v, or of the segments with s and t from 0 to 1
+     *
+     * @param s Where to write s at index, or null if it is not wanted
+     * @param t Where to write t at index, or null if it is not wanted
+     *
+     * @return The squared distance between the closest points
+     */
+    static double closestApproach(double [] p, int pOffset, double [] u, int uOffset, double [] q, int qOffset,
+                                  double [] v, int vOffset, int n, boolean segments, double [] s, double [] t,
+                                  int index){
+        double uu = 0, uv = 0, vv = 0, uw = 0, vw = 0;
+        for(int i = 0; i < n; i++){
+            double ui = u[uOffset + i], vi = v[vOffset + i], wi = p[pOffset + i] - q[qOffset + i];
+            uu += ui * ui;
+            uv += ui * vi;
+            vv += vi * vi;
+            uw += ui * wi;
+            vw += vi * wi;
+        }
+
+        double along, across;  // s and t
+        double determinant = uu * vv - uv * uv;
+        boolean degenerateU = !(uu > 0), degenerateV = !(vv > 0);
+        if(degenerateU && degenerateV){
+            along = 0;
+            across = 0;
+        }
+        else if(degenerateU){
+            along = 0;
+            across = segments ? clamp(vw / vv) : vw / vv;
+        }
+        else if(degenerateV){
+            across = 0;
+            along = segments ? clamp(-uw / uu) : -uw / uu;
+        }
+        else{
+            boolean parallel = determinant <= PARALLEL_EPSILON * uu * vv;
+            along = parallel ? 0 : (uv * vw - vv * uw) / determinant;
+            if(!segments){
+                across = parallel ? vw / vv : (uu * vw - uv * uw) / determinant;
+            }
+            else{
+                along = clamp(along);
+                across = (uv * along + vw) / vv;
+                if(across < 0){
+                    across = 0;
+                    along = clamp(-uw / uu);
+                }
+                else if(across > 1){
+                    across = 1;
+                    along = clamp((uv - uw) / uu);
+                }
+            }
+        }
+
+        double squared = 0;
+        for(int i = 0; i < n; i++){
+            double difference = p[pOffset + i] + along * u[uOffset + i] - q[qOffset + i] - across * v[vOffset + i];
+            squared += difference * difference;
+        }
+        if(s != null){
+            s[index] = along;
+        }
+        if(t != null){
+            t[index] = across;
+        }
+        return squared;
+    }
+
+    private static double clamp(double value){
+        return value < 0 ? 0 : value > 1 ? 1 : value;
+    }
+
+    /**
+     * Checks if a result array has room for one value per line and throws an exception if not, null is allowed
+     */
+    private void checkLength(double [] result){
+        if(result != null && result.length < this.size){
+            throw new RuntimeException("Result array must have room for every line in the batch!");
+        }
+    }
+}
@@ -0,0 +1,767 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to represent a dense matrix of doubles and solve systems of linear equations with it
+ *
+ * Entries are stored row by row in a single array. Matrices are not changed by any of their methods, every
+ * operation returns a new Matrix.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class Matrix
+{
+    /** Edge length of the square tiles used by multiply */
+    private static final int BLOCK_SIZE = 64;
+
+    /** Multiplications with more multiply adds than this run in parallel */
+    private static final long PARALLEL_THRESHOLD = 1L << 21;
+
+    public final int rows;
+    public final int columns;
+
+    private final double [] data;
+
+    /**
+     * Constructs a new matrix full of zeros
+     *
+     * @param rows The number of rows
+     * @param columns The number of columns
+     */
+    public Matrix(int rows, int columns){
+        this(rows, columns, new double[rows * columns]);
+    }
+
+    /**
+     * Constructs a new matrix from an array of rows
+     *
+     * @param values The entries of the matrix, values[i][j] is the entry in row i and column j
+     */
+    public Matrix(double[]... values){
+        this(values.length, values.length == 0 ? 0 : values[0].length);
+        for(int i = 0; i < this.rows; i++){
+            if(values[i].length != this.columns){
+                throw new RuntimeException("Every row of a matrix must have the same number of columns!");
+            }
+            System.arraycopy(values[i], 0, this.data, i * this.columns, this.columns);
+        }
+    }
+
+    Matrix(int rows, int columns, double [] data){
+        if(rows < 0 || columns < 0 || data.length != rows * columns){
+            throw new RuntimeException("Matrix data does not match its size!");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.data = data;
+    }
+
+    /**
+     * Creates a matrix whose rows are the components of a set of vectors
+     *
+     * @param vectors The vectors to use as rows, all in the same dimension
+     *
+     * @return A matrix with one row per vector
+     */
+    public static Matrix fromRows(Vector... vectors){
+        int columns = vectors.length == 0 ? 0 : vectors[0].dimension;
+        double [] data = new double[vectors.length * columns];
+        for(int i = 0; i < vectors.length; i++){
+            if(vectors[i].dimension != columns){
+                Metrics.dimensionRejected();
+                throw new RuntimeException("Euclidean objects must be in the same dimension to be used in conjunction with each other!");
+            }
+            System.arraycopy(vectors[i].components, 0, data, i * columns, columns);
+        }
+        return new Matrix(vectors.length, columns, data);
+    }
+
+    public static Matrix identity(int size){
+        Matrix identity = new Matrix(size, size);
+        for(int i = 0; i < size; i++){
+            identity.data[i * size + i] = 1;
+        }
+        return identity;
+    }
+
+    public double get(int row, int column){
+        checkIndex(row, column);
+        return this.data[row * this.columns + column];
+    }
+
+    /**
+     * Creates a copy of this matrix with one entry changed
+     */
+    public Matrix with(int row, int column, double value){
+        checkIndex(row, column);
+        double [] copy = this.data.clone();
+        copy[row * this.columns + column] = value;
+        return new Matrix(this.rows, this.columns, copy);
+    }
+
+    public double[] row(int row){
+        checkIndex(row, 0);
+        double [] values = new double[this.columns];
+        System.arraycopy(this.data, row * this.columns, values, 0, this.columns);
+        return values;
+    }
+
+    public double[][] toArray(){
+        double [][] values = new double[this.rows][];
+        for(int i = 0; i < this.rows; i++){
+            values[i] = row(i);
+        }
+        return values;
+    }
+
+    public Matrix transpose(){
+        double [] transposed = new double[this.data.length];
+        for(int i = 0; i < this.rows; i += BLOCK_SIZE){
+            for(int j = 0; j < this.columns; j += BLOCK_SIZE){
+                int rowEnd = Math.min(i + BLOCK_SIZE, this.rows);
+                int columnEnd = Math.min(j + BLOCK_SIZE, this.columns);
+                for(int r = i; r < rowEnd; r++){
+                    for(int c = j; c < columnEnd; c++){
+                        transposed[c * this.rows + r] = this.data[r * this.columns + c];
+                    }
+                }
+            }
+        }
+        return new Matrix(this.columns, this.rows, transposed);
+    }
+
+    public Matrix add(Matrix other){
+        checkSameSize(other);
+        double [] sum = new double[this.data.length];
+        for(int i = 0; i < sum.length; i++){
+            sum[i] = this.data[i] + other.data[i];
+        }
+        return new Matrix(this.rows, this.columns, sum);
+    }
+
+    public Matrix subtract(Matrix other){
+        checkSameSize(other);
+        double [] difference = new double[this.data.length];
+        for(int i = 0; i < difference.length; i++){
+            difference[i] = this.data[i] - other.data[i];
+        }
+        return new Matrix(this.rows, this.columns, difference);
+    }
+
+    public Matrix multiply(double scalar){
+        double [] product = new double[this.data.length];
+        for(int i = 0; i < product.length; i++){
+            product[i] = this.data[i] * scalar;
+        }
+        return new Matrix(this.rows, this.columns, product);
+    }
+
+    /**
+     * Multiplies this matrix by a column vector
+     *
+     * @param vector The vector to multiply, its dimension must match the number of columns
+     *
+     * @return The product as a vector with one component per row
+     */
+    public Vector multiply(Vector vector){
+        if(vector.dimension != this.columns){
+            throw new RuntimeException("Vector dimension must match the number of columns in the matrix!");
+        }
+        double [] product = new double[this.rows];
+        for(int i = 0; i < this.rows; i++){
+            product[i] = VectorKernels.dot(this.data, i * this.columns, vector.components, 0, this.columns);
+        }
+        return new Vector(product);
+    }
+
+    /**
+     * Multiplies two matrices, working through them in cache sized tiles and in parallel for large products
+     *
+     * @param other The matrix on the right of the product, its rows must match the columns of this matrix
+     *
+     * @return The product of the two matrices
+     */
+    public Matrix multiply(Matrix other){
+        if(this.columns != other.rows){
+            throw new RuntimeException("The number of columns of the left matrix must match the rows of the right matrix!");
+        }
+        double [] product = new double[this.rows * other.columns];
+        MultiplyTask task = new MultiplyTask(other, product, 0, (this.rows + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        if((long) this.rows * this.columns * other.columns > PARALLEL_THRESHOLD){
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        else{
+            task.compute();
+        }
+        return new Matrix(this.rows, other.columns, product);
+    }
+
+    /**
+     * Task that multiplies a range of row tiles, splitting in half until it is down to one tile
+     */
+    private class MultiplyTask extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final Matrix other;
+        private final double [] product;
+        private final int firstBlock;
+        private final int lastBlock;
+
+        MultiplyTask(Matrix other, double [] product, int firstBlock, int lastBlock){
+            this.other = other;
+            this.product = product;
+            this.firstBlock = firstBlock;
+            this.lastBlock = lastBlock;
+        }
+
+        @Override
+        protected void compute(){
+            if(lastBlock - firstBlock > 1 && getPool() != null){
+                int middle = (firstBlock + lastBlock) >>> 1;
+                invokeAll(new MultiplyTask(other, product, firstBlock, middle),
+                          new MultiplyTask(other, product, middle, lastBlock));
+                return;
+            }
+            for(int block = firstBlock; block < lastBlock; block++){
+                multiplyRows(other, product, block * BLOCK_SIZE, Math.min(rows, (block + 1) * BLOCK_SIZE));
+            }
+        }
+    }
+
+    private void multiplyRows(Matrix other, double [] product, int rowStart, int rowEnd){
+        int inner = this.columns;
+        int width = other.columns;
+        for(int k0 = 0; k0 < inner; k0 += BLOCK_SIZE){
+            int kEnd = Math.min(k0 + BLOCK_SIZE, inner);
+            for(int j0 = 0; j0 < width; j0 += BLOCK_SIZE){
+                int jEnd = Math.min(j0 + BLOCK_SIZE, width);
+                for(int i = rowStart; i < rowEnd; i++){
+                    int productRow = i * width;
+                    for(int k = k0; k < kEnd; k++){
+                        double a = this.data[i * inner + k];
+                        int otherRow = k * width;
+                        for(int j = j0; j < jEnd; j++){
+                            product[productRow + j] += a * other.data[otherRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Factors this square matrix into lower and upper triangular matrices with partial pivoting
+     *
+     * @return The LU decomposition of this matrix
+     */
+    public LU lu(){
+        return new LU(this);
+    }
+
+    /**
+     * Factors this matrix into an orthogonal and an upper triangular matrix with Householder reflections
+     *
+     * @return The QR decomposition of this matrix, which must have at least as many rows as columns
+     */
+    public QR qr(){
+        return new QR(this);
+    }
+
+    /**
+     * Finds the eigenvalues and eigenvectors of this symmetric matrix with the cyclic Jacobi method
+     *
+     * Only the upper triangle is read, the lower triangle is assumed to mirror it.
+     *
+     * @return The eigen decomposition of this matrix, which must be square
+     */
+    public SymmetricEigen symmetricEigen(){
+        return new SymmetricEigen(this);
+    }
+
+    /**
+     * Solves the system of linear equations Ax = b with this matrix as A
+     *
+     * A square matrix is solved exactly with LU, a tall matrix gives the least squares solution and a wide matrix
+     * gives the solution with the smallest magnitude, both with QR.
+     *
+     * @param b The right hand side, one component per row of this matrix
+     *
+     * @return The solution x, one component per column of this matrix
+     */
+    public Vector solve(Vector b){
+        if(b.dimension != this.rows){
+            throw new RuntimeException("Right hand side must have one component per row of the matrix!");
+        }
+        if(this.rows == this.columns){
+            return new Vector(lu().solve(b.components));
+        }
+        else if(this.rows > this.columns){
+            return new Vector(qr().leastSquares(b.components));
+        }
+        return new Vector(transpose().qr().minimumNorm(b.components));
+    }
+
+    public Matrix inverse(){
+        return lu().inverse();
+    }
+
+    public double determinant(){
+        return lu().determinant();
+    }
+
+    /**
+     * LU decomposition with partial pivoting, PA = LU
+     */
+    public static class LU{
+        private final int size;
+        private final double [] lu;
+        private final int [] pivot;
+        private final int pivotSign;
+        private final boolean singular;
+
+        private LU(Matrix matrix){
+            if(matrix.rows != matrix.columns){
+                throw new RuntimeException("LU decomposition needs a square matrix!");
+            }
+            this.size = matrix.rows;
+            this.lu = matrix.data.clone();
+            this.pivot = new int[this.size];
+            for(int i = 0; i < this.size; i++){
+                this.pivot[i] = i;
+            }
+
+            int sign = 1;
+            double tolerance = tolerance(matrix);
+            boolean singular = false;
+            for(int k = 0; k < this.size; k++){
+                // find the row with the largest entry in this column to pivot on
+                int best = k;
+                for(int i = k + 1; i < this.size; i++){
+                    if(Math.abs(this.lu[i * this.size + k]) > Math.abs(this.lu[best * this.size + k])){
+                        best = i;
+                    }
+                }
+                if(best != k){
+                    swapRows(best, k);
+                    int swap = this.pivot[best];
+                    this.pivot[best] = this.pivot[k];
+                    this.pivot[k] = swap;
+                    sign = -sign;
+                }
+
+                double diagonal = this.lu[k * this.size + k];
+                if(Math.abs(diagonal) <= tolerance){
+                    singular = true;
+                    continue;
+                }
+                for(int i = k + 1; i < this.size; i++){
+                    double factor = this.lu[i * this.size + k] /= diagonal;
+                    for(int j = k + 1; j < this.size; j++){
+                        this.lu[i * this.size + j] -= factor * this.lu[k * this.size + j];
+                    }
+                }
+            }
+            this.pivotSign = sign;
+            this.singular = singular;
+        }
+
+        private void swapRows(int a, int b){
+            for(int j = 0; j < this.size; j++){
+                double swap = this.lu[a * this.size + j];
+                this.lu[a * this.size + j] = this.lu[b * this.size + j];
+                this.lu[b * this.size + j] = swap;
+            }
+        }
+
+        public boolean isSingular(){
+            return this.singular;
+        }
+
+        public double determinant(){
+            double determinant = this.pivotSign;
+            for(int i = 0; i < this.size; i++){
+                determinant *= this.lu[i * this.size + i];
+            }
+            return determinant;
+        }
+
+        /**
+         * Solves Ax = b
+         *
+         * @param b The right hand side
+         *
+         * @return A new array holding x
+         */
+        public double[] solve(double [] b){
+            if(b.length != this.size){
+                throw new RuntimeException("Right hand side must have one component per row of the matrix!");
+            }
+            if(this.singular){
+                throw new RuntimeException("Matrix is singular, the system has no unique solution!");
+            }
+            double [] x = new double[this.size];
+            for(int i = 0; i < this.size; i++){
+                x[i] = b[this.pivot[i]];
+            }
+            for(int i = 0; i < this.size; i++){  // forward substitution with the unit lower triangle
+                double sum = x[i];
+                for(int j = 0; j < i; j++){
+                    sum -= this.lu[i * this.size + j] * x[j];
+                }
+                x[i] = sum;
+            }
+            for(int i = this.size - 1; i >= 0; i--){  // back substitution with the upper triangle
+                double sum = x[i];
+                for(int j = i + 1; j < this.size; j++){
+                    sum -= this.lu[i * this.size + j] * x[j];
+                }
+                x[i] = sum / this.lu[i * this.size + i];
+            }
+            return x;
+        }
+
+        public Matrix inverse(){
+            double [] inverse = new double[this.size * this.size];
+            double [] unit = new double[this.size];
+            for(int j = 0; j < this.size; j++){
+                unit[j] = 1;
+                double [] column = solve(unit);
+                unit[j] = 0;
+                for(int i = 0; i < this.size; i++){
+                    inverse[i * this.size + j] = column[i];
+                }
+            }
+            return new Matrix(this.size, this.size, inverse);
+        }
+    }
+
+    /**
+     * QR decomposition by Householder reflections, A = QR, for a matrix with at least as many rows as columns
+     */
+    public static class QR{
+        private final int rows;
+        private final int columns;
+        private final double [] qr;
+        private final double [] rDiagonal;
+        private final boolean fullRank;
+
+        private QR(Matrix matrix){
+            if(matrix.rows < matrix.columns){
+                throw new RuntimeException("QR decomposition needs at least as many rows as columns!");
+            }
+            this.rows = matrix.rows;
+            this.columns = matrix.columns;
+            this.qr = matrix.data.clone();
+            this.rDiagonal = new double[this.columns];
+
+            double tolerance = tolerance(matrix);
+            boolean fullRank = true;
+            for(int k = 0; k < this.columns; k++){
+                double norm = 0;
+                for(int i = k; i < this.rows; i++){
+                    norm = Math.hypot(norm, this.qr[i * this.columns + k]);
+                }
+                if(norm != 0){
+                    if(this.qr[k * this.columns + k] < 0){
+                        norm = -norm;
+                    }
+                    for(int i = k; i < this.rows; i++){
+                        this.qr[i * this.columns + k] /= norm;
+                    }
+                    this.qr[k * this.columns + k] += 1;
+
+                    for(int j = k + 1; j < this.columns; j++){
+                        double s = 0;
+                        for(int i = k; i < this.rows; i++){
+                            s += this.qr[i * this.columns + k] * this.qr[i * this.columns + j];
+                        }
+                        s = -s / this.qr[k * this.columns + k];
+                        for(int i = k; i < this.rows; i++){
+                            this.qr[i * this.columns + j] += s * this.qr[i * this.columns + k];
+                        }
+                    }
+                }
+                this.rDiagonal[k] = -norm;
+                if(Math.abs(norm) <= tolerance){
+                    fullRank = false;
+                }
+            }
+            this.fullRank = fullRank;
+        }
+
+        public boolean isFullRank(){
+            return this.fullRank;
+        }
+
+        /**
+         * Finds the x that minimizes |Ax - b|
+         *
+         * @param b The right hand side, one component per row
+         *
+         * @return A new array holding x
+         */
+        public double[] leastSquares(double [] b){
+            if(b.length != this.rows){
+                throw new RuntimeException("Right hand side must have one component per row of the matrix!");
+            }
+            checkRank();
+            double [] y = b.clone();
+            for(int k = 0; k < this.columns; k++){  // y = Q^T b
+                reflect(k, y);
+            }
+            double [] x = new double[this.columns];
+            for(int i = this.columns - 1; i >= 0; i--){
+                double sum = y[i];
+                for(int j = i + 1; j < this.columns; j++){
+                    sum -= this.qr[i * this.columns + j] * x[j];
+                }
+                x[i] = sum / this.rDiagonal[i];
+            }
+            return x;
+        }
+
+        /**
+         * Treating this as the decomposition of the transpose of A, finds the smallest x with Ax = b
+         *
+         * @param b The right hand side, one component per column of the decomposed matrix
+         *
+         * @return A new array holding x, one component per row of the decomposed matrix
+         */
+        public double[] minimumNorm(double [] b){
+            if(b.length != this.columns){
+                throw new RuntimeException("Right hand side must have one component per row of the matrix!");
+            }
+            checkRank();
+            // A = R^T Q^T so solve R^T y = b and then x = Q y
+            double [] x = new double[this.rows];
+            for(int i = 0; i < this.columns; i++){
+                double sum = b[i];
+                for(int j = 0; j < i; j++){
+                    sum -= this.qr[j * this.columns + i] * x[j];
+                }
+                x[i] = sum / this.rDiagonal[i];
+            }
+            for(int k = this.columns - 1; k >= 0; k--){
+                reflect(k, x);
+            }
+            return x;
+        }
+
+        /**
+         * Applies the kth Householder reflection to a vector in place
+         */
+        private void reflect(int k, double [] vector){
+            double head = this.qr[k * this.columns + k];
+            if(head == 0){
+                return;
+            }
+            double s = 0;
+            for(int i = k; i < this.rows; i++){
+                s += this.qr[i * this.columns + k] * vector[i];
+            }
+            s = -s / head;
+            for(int i = k; i < this.rows; i++){
+                vector[i] += s * this.qr[i * this.columns + k];
+            }
+        }
+
+        private void checkRank(){
+            if(!this.fullRank){
+                throw new RuntimeException("Matrix is rank deficient, the system has no unique solution!");
+            }
+        }
+    }
+
+    /**
+     * Eigen decomposition of a symmetric matrix, A = V D V^T with V orthogonal and D diagonal
+     *
+     * Jacobi rotations zero the off diagonal entries one at a time, sweeping over all of them until none is left that
+     * is not negligible next to the diagonal. It is slower than tridiagonal QR for large matrices but simple and very
+     * accurate, even for the small eigenvalues, which suits the small covariance matrices it is used on.
+     */
+    public static class SymmetricEigen{
+        /** Sweeps to try before giving up, Jacobi converges quadratically and rarely needs more than 10 */
+        private static final int MAX_SWEEPS = 64;
+
+        private final int size;
+        private final double [] values;
+        private final double [] vectors;
+
+        private SymmetricEigen(Matrix matrix){
+            if(matrix.rows != matrix.columns){
+                throw new RuntimeException("Only a square matrix has eigenvalues!");
+            }
+            int n = matrix.rows;
+            this.size = n;
+            double [] a = new double[n * n];
+            for(int i = 0; i < n; i++){
+                for(int j = i; j < n; j++){
+                    a[i * n + j] = matrix.data[i * n + j];
+                    a[j * n + i] = matrix.data[i * n + j];
+                }
+            }
+            double [] v = identity(n).data;
+
+            for(int sweep = 0; sweep < MAX_SWEEPS; sweep++){
+                boolean rotated = false;
+                for(int p = 0; p < n; p++){
+                    for(int q = p + 1; q < n; q++){
+                        double apq = a[p * n + q];
+                        double app = a[p * n + p];
+                        double aqq = a[q * n + q];
+                        // an entry too small to change either diagonal entry can not change any eigenvalue either
+                        if(Math.abs(app) + 100 * Math.abs(apq) == Math.abs(app)
+                            && Math.abs(aqq) + 100 * Math.abs(apq) == Math.abs(aqq)){
+                            a[p * n + q] = 0;
+                            a[q * n + p] = 0;
+                            continue;
+                        }
+                        rotated = true;
+                        rotate(a, v, n, p, q);
+                    }
+                }
+                if(!rotated){
+                    break;
+                }
+            }
+
+            // sort into ascending order of eigenvalue, with the eigenvectors as the matching columns of v
+            Integer [] order = new Integer[n];
+            for(int i = 0; i < n; i++){
+                order[i] = i;
+            }
+            Arrays.sort(order, (i, j) -> Double.compare(a[i * n + i], a[j * n + j]));
+            this.values = new double[n];
+            this.vectors = new double[n * n];
+            for(int k = 0; k < n; k++){
+                int column = order[k];
+                this.values[k] = a[column * n + column];
+                for(int i = 0; i < n; i++){
+                    this.vectors[k * n + i] = v[i * n + column];
+                }
+            }
+        }
+
+        /**
+         * Applies the Jacobi rotation that zeroes a[p][q], and the same rotation to the columns of v
+         */
+        private static void rotate(double [] a, double [] v, int n, int p, int q){
+            double apq = a[p * n + q];
+            double theta = (a[q * n + q] - a[p * n + p]) / (2 * apq);
+            // the smaller root of t^2 + 2 t theta - 1 = 0, which keeps the rotation angle at most 45 degrees
+            double t = Math.abs(theta) > 1e150 ? 1 / (2 * theta)
+                : Math.copySign(1, theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+            double c = 1 / Math.sqrt(t * t + 1);
+            double s = t * c;
+
+            for(int k = 0; k < n; k++){
+                double akp = a[k * n + p];
+                double akq = a[k * n + q];
+                a[k * n + p] = c * akp - s * akq;
+                a[k * n + q] = s * akp + c * akq;
+            }
+            for(int k = 0; k < n; k++){
+                double apk = a[p * n + k];
+                double aqk = a[q * n + k];
+                a[p * n + k] = c * apk - s * aqk;
+                a[q * n + k] = s * apk + c * aqk;
+            }
+            a[p * n + q] = 0;
+            a[q * n + p] = 0;
+            for(int k = 0; k < n; k++){
+                double vkp = v[k * n + p];
+                double vkq = v[k * n + q];
+                v[k * n + p] = c * vkp - s * vkq;
+                v[k * n + q] = s * vkp + c * vkq;
+            }
+        }
+
+        /**
+         * Gives every eigenvalue, from the smallest to the largest
+         */
+        public double[] eigenvalues(){
+            return this.values.clone();
+        }
+
+        /**
+         * Gives one eigenvalue
+         *
+         * @param index 0 for the smallest eigenvalue up to size - 1 for the largest
+         */
+        public double eigenvalue(int index){
+            return this.values[index];
+        }
+
+        /**
+         * Gives the unit eigenvector of one eigenvalue
+         *
+         * @param index 0 for the smallest eigenvalue up to size - 1 for the largest
+         */
+        public Vector eigenvector(int index){
+            if(index < 0 || index >= this.size){
+                throw new RuntimeException("Eigenvalue " + index + " is outside of the matrix!");
+            }
+            double [] vector = new double[this.size];
+            System.arraycopy(this.vectors, index * this.size, vector, 0, this.size);
+            return new Vector(vector);
+        }
+    }
+
+    /**
+     * Pivots smaller than this are treated as zero, scaled to the size of the matrix so the check is unit free
+     */
+    private static double tolerance(Matrix matrix){
+        double largest = 0;
+        for(double value: matrix.data){
+            largest = Math.max(largest, Math.abs(value));
+        }
+        return largest * Math.max(matrix.rows, matrix.columns) * Math.ulp(1.0);
+    }
+
+    private void checkIndex(int row, int column){
+        if(row < 0 || row >= this.rows || column < 0 || column >= this.columns){
+            throw new RuntimeException("Index (" + row + ", " + column + ") is outside of the matrix!");
+        }
+    }
+
+    private void checkSameSize(Matrix other){
+        if(this.rows != other.rows || this.columns != other.columns){
+            throw new RuntimeException("Two matrices must be the same size to perform calculations!");
+        }
+    }
+
+    public String toString(){
+        StringBuilder str = new StringBuilder();
+        for(int i = 0; i < this.rows; i++){
+            str.append(i == 0 ? "[" : " ");
+            for(int j = 0; j < this.columns; j++){
+                str.append(String.format("%.02f", this.data[i * this.columns + j]));
+                if(j != this.columns - 1){
+                    str.append(", ");
+                }
+            }
+            str.append(i == this.rows - 1 ? "]" : "\n");
+        }
+        return str.toString();
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        else{
+            Matrix other = (Matrix) obj;
+            return this.rows == other.rows && this.columns == other.columns
+                && Arrays.equals(this.data, other.data);
+        }
+    }
+
+    public int hashCode(){
+        return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.data);
+    }
+}
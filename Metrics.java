@@ -0,0 +1,231 @@
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Opt in counters, latency histograms and Flight Recorder events for the geometry hot paths
+ *
+ * Instrumentation is switched on for the life of the JVM with -Deasymath.metrics=true. ENABLED is a static final
+ * constant that every entry point checks first, so when it is off the JIT inlines start, record and beginBulk down to
+ * nothing and the instrumented methods compile to the same code as before. The JMH benchmarks record the JVM
+ * arguments of every run, so a run with -jvmArgsAppend -Deasymath.metrics=true can be compared against one without.
+ *
+ * When on, every recorded operation adds to a counter and to a histogram of its latency with one bucket per power of
+ * two nanoseconds, all kept in LongAdders so threads do not contend. Bulk operations over batches also emit an
+ * easymath.BulkOperation event with the element count and dimension, which shows up in any JFR recording that
+ * enables it (for example -XX:StartFlightRecording with the default settings).
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public final class Metrics
+{
+    public static final boolean ENABLED = Boolean.getBoolean("easymath.metrics");
+
+    /** Number of histogram buckets, bucket b counts latencies from 2^b up to 2^(b+1) nanoseconds */
+    public static final int BUCKETS = 64;
+
+    /**
+     * The operations that are counted and timed
+     */
+    public enum Operation{
+        VECTOR_ADD("Vector.add"),
+        VECTOR_SUBTRACT("Vector.subtract"),
+        VECTOR_MULTIPLY("Vector.multiply"),
+        VECTOR_DOT_PRODUCT("Vector.dotProduct"),
+        VECTOR_CROSS_PRODUCT("Vector.crossProduct"),
+        LINE_DISTANCE("Line.distance"),
+        PLANE_DISTANCE("Plane.distance"),
+        PLANE_NEW("Plane.new(p,q,r)"),
+        PLANE_NEW_FROM_NORMAL("Plane.new(point,norm)"),
+        PLANE_INTERSECTION("Plane.intersection"),
+        PLANE_COMMON_POINT("Plane.commonPoint");
+
+        public final String label;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder [] buckets = new LongAdder[BUCKETS];
+
+        Operation(String label){
+            this.label = label;
+            for(int i = 0; i < BUCKETS; i++){
+                this.buckets[i] = new LongAdder();
+            }
+        }
+
+        public long count(){
+            return this.count.sum();
+        }
+
+        public long totalNanos(){
+            return this.nanos.sum();
+        }
+
+        /**
+         * Gives the latency histogram, element b is the number of calls that took from 2^b up to 2^(b+1) nanoseconds
+         */
+        public long[] histogram(){
+            long [] histogram = new long[BUCKETS];
+            for(int i = 0; i < BUCKETS; i++){
+                histogram[i] = this.buckets[i].sum();
+            }
+            return histogram;
+        }
+
+        /**
+         * Estimates a latency percentile from the histogram
+         *
+         * @param fraction The fraction of calls that were at least as fast, between 0 and 1
+         *
+         * @return The upper edge of the bucket holding that percentile in nanoseconds, or 0 if nothing was recorded
+         */
+        public long percentile(double fraction){
+            long [] histogram = histogram();
+            long total = 0;
+            for(long calls: histogram){
+                total += calls;
+            }
+            long target = (long) Math.ceil(fraction * total);
+            long seen = 0;
+            for(int i = 0; i < BUCKETS; i++){
+                seen += histogram[i];
+                if(seen >= target && seen > 0){
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (i + 1);
+                }
+            }
+            return 0;
+        }
+
+        private void reset(){
+            this.count.reset();
+            this.nanos.reset();
+            for(LongAdder bucket: this.buckets){
+                bucket.reset();
+            }
+        }
+    }
+
+    private static final LongAdder rejectedDimensions = new LongAdder();
+
+    private Metrics(){
+    }
+
+    /**
+     * Reads the clock for the start of a timed operation
+     *
+     * @return The current time in nanoseconds, or 0 when metrics are off
+     */
+    static long start(){
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records one call of an operation that started at start, does nothing when metrics are off
+     */
+    static void record(Operation operation, long start){
+        if(!ENABLED){
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        operation.count.increment();
+        operation.nanos.add(elapsed);
+        operation.buckets[elapsed <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(elapsed)].increment();
+    }
+
+    /**
+     * Counts a calculation refused because its objects were in different dimensions
+     */
+    static void dimensionRejected(){
+        if(ENABLED){
+            rejectedDimensions.increment();
+        }
+    }
+
+    /**
+     * Gives how many calculations were refused because their objects were in different dimensions
+     */
+    public static long rejectedDimensions(){
+        return rejectedDimensions.sum();
+    }
+
+    /**
+     * Clears every counter and histogram
+     */
+    public static void reset(){
+        for(Operation operation: Operation.values()){
+            operation.reset();
+        }
+        rejectedDimensions.reset();
+    }
+
+    /**
+     * Summarizes every operation that has been recorded as a table of counts and latencies
+     */
+    public static String report(){
+        StringBuilder str = new StringBuilder();
+        str.append(String.format(Locale.ROOT, "%-22s %14s %12s %12s %12s%n", "operation", "count", "mean ns",
+            "p50 ns <=", "p99 ns <="));
+        for(Operation operation: Operation.values()){
+            long count = operation.count();
+            if(count == 0){
+                continue;
+            }
+            str.append(String.format(Locale.ROOT, "%-22s %,14d %12.1f %12d %12d%n", operation.label, count,
+                (double) operation.totalNanos() / count, operation.percentile(0.5), operation.percentile(0.99)));
+        }
+        str.append(String.format(Locale.ROOT, "%-22s %,14d%n", "rejected dimensions", rejectedDimensions()));
+        return str.toString();
+    }
+
+    /**
+     * Flight Recorder event for one operation over a whole batch
+     */
+    @Name("easymath.BulkOperation")
+    @Label("Bulk Geometry Operation")
+    @Category("EasyMath")
+    @Description("An operation applied to every element of a batch")
+    static class BulkEvent extends Event{
+        @Label("Operation")
+        String operation;
+
+        @Label("Dimension")
+        int dimension;
+
+        @Label("Elements")
+        long elements;
+    }
+
+    /**
+     * Starts timing a bulk operation
+     *
+     * @return The event to pass to commit, or null when metrics are off or nobody is recording the event
+     */
+    static BulkEvent beginBulk(String operation, int dimension, long elements){
+        if(!ENABLED){
+            return null;
+        }
+        BulkEvent event = new BulkEvent();
+        if(!event.isEnabled()){
+            return null;
+        }
+        event.operation = operation;
+        event.dimension = dimension;
+        event.elements = elements;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes a bulk operation started by beginBulk
+     */
+    static void commit(BulkEvent event){
+        if(event != null){
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+
+/**
+ * Class to represent a vector whose components can be changed in place
+ *
+ * Useful as an accumulator in tight loops where allocating a new Vector for every operation would be too costly
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class MutableVector extends EuclideanObject{
+    public final double [] components;
+
+    /**
+     * Constructs a new zero vector
+     *
+     * @param dimension The dimension that this vector lives in
+     */
+    public MutableVector(int dimension){
+        super(dimension);
+        this.components = new double[dimension];
+    }
+
+    /**
+     * Constructs a new mutable vector holding a copy of the components of a Vector
+     *
+     * @param vector The vector to copy
+     */
+    public MutableVector(Vector vector){
+        super(vector);
+        this.components = vector.components.clone();
+    }
+
+    /**
+     * Overwrites the components of this vector with those of a Vector
+     *
+     * @param other The vector to copy
+     *
+     * @return This vector
+     */
+    public MutableVector set(Vector other){
+        checkDimension(other);
+        System.arraycopy(other.components, 0, this.components, 0, this.dimension);
+        return this;
+    }
+
+    /**
+     * Overwrites the components of this vector with those of another mutable vector
+     *
+     * @param other The vector to copy
+     *
+     * @return This vector
+     */
+    public MutableVector set(MutableVector other){
+        checkDimension(other);
+        System.arraycopy(other.components, 0, this.components, 0, this.dimension);
+        return this;
+    }
+
+    /**
+     * Overwrites the components of this vector
+     *
+     * @param components The new components as a dynamic array of doubles
+     *
+     * @return This vector
+     */
+    public MutableVector set(double... components){
+        if(components.length != this.dimension){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+        System.arraycopy(components, 0, this.components, 0, this.dimension);
+        return this;
+    }
+
+    /**
+     * Resets every component of this vector to 0
+     *
+     * @return This vector
+     */
+    public MutableVector zero(){
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] = 0;
+        }
+        return this;
+    }
+
+    public MutableVector addInPlace(Vector other){
+        checkDimension(other);
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] += other.components[i];
+        }
+        return this;
+    }
+
+    public MutableVector addInPlace(MutableVector other){
+        checkDimension(other);
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] += other.components[i];
+        }
+        return this;
+    }
+
+    public MutableVector subtractInPlace(Vector other){
+        checkDimension(other);
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] -= other.components[i];
+        }
+        return this;
+    }
+
+    public MutableVector subtractInPlace(MutableVector other){
+        checkDimension(other);
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] -= other.components[i];
+        }
+        return this;
+    }
+
+    public MutableVector scaleInPlace(double scalar){
+        VectorKernels.scale(this.components, scalar, this.components);
+        return this;
+    }
+
+    /**
+     * Adds a scaled copy of another vector to this one, this += scalar * other
+     *
+     * @param other The vector to add
+     * @param scalar The amount to scale other by before adding
+     *
+     * @return This vector
+     */
+    public MutableVector addScaled(Vector other, double scalar){
+        checkDimension(other);
+        VectorKernels.addScaled(this.components, scalar, other.components, this.components);
+        return this;
+    }
+
+    /**
+     * Adds a scaled copy of another mutable vector to this one, this += scalar * other
+     *
+     * @param other The vector to add
+     * @param scalar The amount to scale other by before adding
+     *
+     * @return This vector
+     */
+    public MutableVector addScaled(MutableVector other, double scalar){
+        checkDimension(other);
+        VectorKernels.addScaled(this.components, scalar, other.components, this.components);
+        return this;
+    }
+
+    public MutableVector invertInPlace(){
+        for(int i = 0; i < this.dimension; i++){
+            this.components[i] = - this.components[i];
+        }
+        return this;
+    }
+
+    public MutableVector normalizeInPlace(){
+        return scaleInPlace(1 / magnitude());
+    }
+
+    public double dotProduct(Vector other){
+        checkDimension(other);
+        double sum = 0;
+        for(int i = 0; i < this.dimension; i++){
+            sum += this.components[i] * other.components[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Calculates the current magnitude of this vector
+     *
+     * @return The magnitude of this vector
+     */
+    public double magnitude(){
+        double sum = 0;
+        for(double component: this.components){
+            sum += component * component;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * Creates an immutable Vector holding a copy of the current components
+     *
+     * @return A new Vector with the same components as this vector
+     */
+    public Vector toVector(){
+        return new Vector(this.components.clone());
+    }
+
+    public String toString(){
+        return toVector().toString();
+    }
+}
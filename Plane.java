@@ -1,3 +1,4 @@
+import java.io.IOException;
 
 /**
  * Creates a representation of a plane in Euclidean space
@@ -19,8 +20,10 @@ public class Plane extends EuclideanObject
      */
     public Plane(Point point, Vector vector){
         super(point, vector);
+        long start = Metrics.start();
         this.point = point;
         this.norm = vector;
+        Metrics.record(Metrics.Operation.PLANE_NEW_FROM_NORMAL, start);
     }
 
     /**
@@ -32,16 +35,21 @@ public class Plane extends EuclideanObject
      */
     public Plane(Point p, Point q, Point r){
         super(p, q, r);
+        long start = Metrics.start();
 
         if(p.equals(q) || p.equals(r) || q.equals(r)){
             throw new RuntimeException("You need three unique points to define a plane!");
         }
+        if(Predicates.collinear(p, q, r)){
+            throw new RuntimeException("You need three points that are not on one line to define a plane!");
+        }
 
         Vector pq = new Vector(p,q);
         Vector pr = new Vector(p,r);
 
         this.point = p;
         this.norm = pq.crossProduct(pr);
+        Metrics.record(Metrics.Operation.PLANE_NEW, start);
     }
 
     /**
@@ -76,22 +84,113 @@ public class Plane extends EuclideanObject
      * @return The distance between the plane and a point
      */
     public double distance(Point other){
+        long start = Metrics.start();
         checkDimension(other);
 
         Vector planeToPoint = new Vector (this.point, other);
 
-        return Math.abs(planeToPoint.scalarProjectionOnto(this.norm));
+        double distance = Math.abs(planeToPoint.scalarProjectionOnto(this.norm));
+        Metrics.record(Metrics.Operation.PLANE_DISTANCE, start);
+        return distance;
+    }
+
+    /**
+     * Computes the signed distance between a plane and a point
+     * 
+     * @param other The point to calculate distance to
+     * 
+     * @return The distance between the plane and the point, positive when the point is on the side norm points to
+     */
+    public double signedDistance(Point other){
+        checkDimension(other);
+        double dot = 0;
+        for(int i = 0; i < this.dimension; i++){
+            dot += (other.coordinates[i] - this.point.coordinates[i]) * this.norm.components[i];
+        }
+        return dot / this.norm.magnitude;
+    }
+
+    /**
+     * Finds which side of the plane a point is on, exactly, even for points very close to the plane
+     * 
+     * @param other The point to classify
+     * 
+     * @return 1 if the point is on the side norm points to, -1 if it is on the other side and 0 if it is on the plane
+     */
+    public int side(Point other){
+        return Predicates.side(this, other);
+    }
+
+    /**
+     * Computes the constant d in the plane's linear equation n . x = d
+     * 
+     * @return The dot product of the norm with the point on the plane
+     */
+    public double offset(){
+        double d = 0;
+        for (int i = 0; i < this.dimension; i++){
+            d += this.norm.components[i] * this.point.coordinates[i];
+        }
+        return d;
+    }
+
+    /**
+     * Caches the unit normal and offset of the plane for fast repeated queries against many points
+     * 
+     * @return A PreparedPlane for this plane
+     */
+    public PreparedPlane prepare(){
+        return new PreparedPlane(this);
     }
     
+    /**
+     * Calculates the line where two 3 dimensional planes intersect
+     * 
+     * @param other The plane to intersect with
+     * 
+     * @return The line shared by both planes
+     */
     public Line intersection(Plane other){
+        long start = Metrics.start();
         checkDimension(other);
         
         Vector direction = this.norm.crossProduct(other.norm);
+        if(direction.magnitude == 0){
+            throw new RuntimeException("Parallel planes do not intersect in a line!");
+        }
         
-        //get point on the new line
-        //TODO calculate actual intersection point for the new Line
-        //TODO use Matricies to manage systems of equations
-        return new Line(Point.origin(this.dimension), direction); 
+        Line intersection = new Line(commonPoint(this, other), direction);
+        Metrics.record(Metrics.Operation.PLANE_INTERSECTION, start);
+        return intersection;
+    }
+
+    /**
+     * Finds a point that lies on every one of a set of planes by solving their linear equations together
+     * 
+     * When the planes meet in more than one point the one closest to the origin is returned
+     * 
+     * @param planes The planes to intersect, all in the same dimension with linearly independent norms
+     * 
+     * @return The point closest to the origin that lies on all of the planes
+     */
+    public static Point commonPoint(Plane... planes){
+        long start = Metrics.start();
+        int dimension = planes[0].dimension;
+        if(planes.length > dimension){
+            throw new RuntimeException("At most " + dimension + " planes can have linearly independent norms!");
+        }
+
+        Vector [] norms = new Vector[planes.length];
+        double [] offsets = new double[planes.length];
+        for(int i = 0; i < planes.length; i++){
+            planes[0].checkDimension(planes[i]);
+            norms[i] = planes[i].norm;
+            offsets[i] = planes[i].offset();
+        }
+
+        Vector solution = Matrix.fromRows(norms).solve(new Vector(offsets));
+        Metrics.record(Metrics.Operation.PLANE_COMMON_POINT, start);
+        return new Point(solution.components);
     }
 
     /**
@@ -100,45 +199,61 @@ public class Plane extends EuclideanObject
      * @return The equation of the plane in the form of a linear equation
      */
     public String linearEquation(){
-        String [] variables;
-        if (this.dimension < 4){
-            variables = new String[] {"x", "y", "z"};
-        }
-        else{
-            variables = new String[this.dimension];
-            for (int i = 0; i < this.dimension; i++){
-                variables[i] = "x" + i;
-            }
-        }
+        return writeTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Writes the linear equation of the plane
+     * 
+     * @param str The builder to append to
+     * 
+     * @return str
+     */
+    public StringBuilder writeTo(StringBuilder str){
+        String [] variables = EquationFormat.variables(this.dimension);
 
-        double d = 0;
         boolean firstItem = true;
-        StringBuilder str = new StringBuilder();
         for (int i = 0; i<this.dimension; i++){
             double component = this.norm.components[i];
-            d += component * this.point.coordinates[i];
 
             if(!firstItem){ // don't add +/- signs to first item in the equation
-                if(this.norm.components[i] > 0){
+                if(component > 0){
                     str.append(" + ");
                 }
-                else if (this.norm.components[i] < 0){
+                else if (component < 0){
                     str.append(" - ");
                 }
             }
 
             if (component > 0 || (firstItem && component != 0)){
-                str.append(String.format("%.2f%s",component, variables[i]));
+                EquationFormat.appendFixed(str, component).append(variables[i]);
                 firstItem = false;
             }
             else if (component < 0){
-                str.append(String.format("%.2f%s",Math.abs(component), variables[i]));
+                EquationFormat.appendFixed(str, Math.abs(component)).append(variables[i]);
                 firstItem = false;
             } 
         } // end dimension loop
 
-        str.append(String.format(" = %.2f", d));
+        str.append(" = ");
+        return EquationFormat.appendFixed(str, offset());
+    }
 
-        return str.toString();
+    /**
+     * Writes the linear equation of the plane
+     * 
+     * Writes straight into out when it is a StringBuilder, otherwise the text is built in a new StringBuilder and then
+     * copied to out. To write many planes, append them to one reused StringBuilder with writeTo(StringBuilder), or
+     * stream them through GeometryWriter, which reuses its buffers.
+     * 
+     * @param out Where to write the equation
+     */
+    public void writeTo(Appendable out) throws IOException{
+        if(out instanceof StringBuilder){
+            writeTo((StringBuilder) out);
+        }
+        else{
+            out.append(writeTo(new StringBuilder()));
+        }
     }
 }
@@ -26,11 +26,8 @@ public class Point extends EuclideanObject{
      * @return The distance between the two points
      */
     public double distance (Point other){
-        double sum = 0;
-        for(int i = 0; i < this.coordinates.length; i++){
-            sum += Math.pow(other.coordinates[i] - this.coordinates[i], 2);
-        }
-        return Math.sqrt(sum);
+        checkDimension(other);
+        return Math.sqrt(VectorKernels.squaredDistance(this.coordinates, other.coordinates));
     }
     
     /**
@@ -55,4 +52,28 @@ public class Point extends EuclideanObject{
     public static Point origin(int dimension){
         return new Point(new double[dimension]);
     }
+    
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        
+        Point other = (Point) obj;
+        if(this.dimension != other.dimension){
+            return false;
+        }
+        for(int i = 0; i < this.dimension; i++){
+            if (this.coordinates[i] != other.coordinates[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public int hashCode(){
+        return hashCoordinates(this.coordinates);
+    }
 }
@@ -0,0 +1,132 @@
+
+/**
+ * Class to represent a point in exactly 2 dimensions using scalar fields instead of an array
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class Point2 extends EuclideanObject{
+    public final double x;
+    public final double y;
+
+    public static final Point2 ORIGIN = new Point2(0, 0);
+
+    /**
+     * Constructs a new point from its coordinates
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     */
+    public Point2(double x, double y){
+        super(2);
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Constructs a new 2 dimensional point from a general Point
+     *
+     * @param point The point to copy, must be 2 dimensional
+     */
+    public Point2(Point point){
+        this(coordinate(point, 0), point.coordinates[1]);
+    }
+
+    private static double coordinate(Point point, int index){
+        if(point.dimension != 2){
+            throw new RuntimeException("Point2 can only be created from a 2 dimensional Point!");
+        }
+        return point.coordinates[index];
+    }
+
+    /**
+     * Calculates the distance between two points
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The distance between the two points
+     */
+    public double distance(Point2 other){
+        return Math.sqrt(distanceSquared(other));
+    }
+
+    /**
+     * Calculates the square of the distance between two points, avoiding the square root
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The squared distance between the two points
+     */
+    public double distanceSquared(Point2 other){
+        double dx = other.x - this.x;
+        double dy = other.y - this.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculates the distance from this point to a 2 dimensional line
+     *
+     * @param line The line to calculate distance to
+     *
+     * @return The distance between the point and the line
+     */
+    public double distance(Line line){
+        checkDimension(line);
+        double [] p = line.point.coordinates;
+        double [] d = line.direction.components;
+        double cross = (this.x - p[0]) * d[1] - (this.y - p[1]) * d[0];
+        return Math.abs(cross) / line.direction.magnitude;
+    }
+
+    /**
+     * Calculates the midpoint between two points
+     *
+     * @param other The endpint to calculate the midpoint from
+     *
+     * @return A Point2 that lies halfway between the two points
+     */
+    public Point2 midPoint(Point2 other){
+        return new Point2((this.x + other.x) / 2, (this.y + other.y) / 2);
+    }
+
+    /**
+     * Moves this point along a vector
+     *
+     * @param offset The vector to move along
+     *
+     * @return A new point at the end of offset when it starts at this point
+     */
+    public Point2 add(Vector2 offset){
+        return new Point2(this.x + offset.x, this.y + offset.y);
+    }
+
+    /**
+     * Converts this point to the general n dimensional representation
+     *
+     * @return A new Point with the same coordinates
+     */
+    public Point toPoint(){
+        return new Point(this.x, this.y);
+    }
+
+    public String toString(){
+        return String.format("(%.02f, %.02f)", this.x, this.y);
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        else{
+            Point2 other = (Point2) obj;
+            return this.x == other.x && this.y == other.y;
+        }
+    }
+
+    public int hashCode(){
+        return hashCoordinate(hashCoordinate(0, this.x), this.y);
+    }
+}
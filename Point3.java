@@ -0,0 +1,157 @@
+
+/**
+ * Class to represent a point in exactly 3 dimensions using scalar fields instead of an array
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class Point3 extends EuclideanObject{
+    public final double x;
+    public final double y;
+    public final double z;
+
+    public static final Point3 ORIGIN = new Point3(0, 0, 0);
+
+    /**
+     * Constructs a new point from its coordinates
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     */
+    public Point3(double x, double y, double z){
+        super(3);
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Constructs a new 3 dimensional point from a general Point
+     *
+     * @param point The point to copy, must be 3 dimensional
+     */
+    public Point3(Point point){
+        this(coordinate(point, 0), point.coordinates[1], point.coordinates[2]);
+    }
+
+    private static double coordinate(Point point, int index){
+        if(point.dimension != 3){
+            throw new RuntimeException("Point3 can only be created from a 3 dimensional Point!");
+        }
+        return point.coordinates[index];
+    }
+
+    /**
+     * Calculates the distance between two points
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The distance between the two points
+     */
+    public double distance(Point3 other){
+        return Math.sqrt(distanceSquared(other));
+    }
+
+    /**
+     * Calculates the square of the distance between two points, avoiding the square root
+     *
+     * @param other The end point to calculate distance to
+     *
+     * @return The squared distance between the two points
+     */
+    public double distanceSquared(Point3 other){
+        double dx = other.x - this.x;
+        double dy = other.y - this.y;
+        double dz = other.z - this.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculates the distance from this point to a 3 dimensional line
+     *
+     * @param line The line to calculate distance to
+     *
+     * @return The distance between the point and the line
+     */
+    public double distance(Line line){
+        checkDimension(line);
+        double [] p = line.point.coordinates;
+        double [] d = line.direction.components;
+        double dx = this.x - p[0];
+        double dy = this.y - p[1];
+        double dz = this.z - p[2];
+        // |toPoint x direction| is the area of the parallelogram, dividing by the base gives the height
+        double cx = dy * d[2] - dz * d[1];
+        double cy = dz * d[0] - dx * d[2];
+        double cz = dx * d[1] - dy * d[0];
+        return Math.sqrt(cx * cx + cy * cy + cz * cz) / line.direction.magnitude;
+    }
+
+    /**
+     * Calculates the distance from this point to a 3 dimensional plane
+     *
+     * @param plane The plane to calculate distance to
+     *
+     * @return The distance between the point and the plane
+     */
+    public double distance(Plane plane){
+        checkDimension(plane);
+        double [] p = plane.point.coordinates;
+        double [] n = plane.norm.components;
+        double dot = (this.x - p[0]) * n[0] + (this.y - p[1]) * n[1] + (this.z - p[2]) * n[2];
+        return Math.abs(dot) / plane.norm.magnitude;
+    }
+
+    /**
+     * Calculates the midpoint between two points
+     *
+     * @param other The endpint to calculate the midpoint from
+     *
+     * @return A Point3 that lies halfway between the two points
+     */
+    public Point3 midPoint(Point3 other){
+        return new Point3((this.x + other.x) / 2, (this.y + other.y) / 2, (this.z + other.z) / 2);
+    }
+
+    /**
+     * Moves this point along a vector
+     *
+     * @param offset The vector to move along
+     *
+     * @return A new point at the end of offset when it starts at this point
+     */
+    public Point3 add(Vector3 offset){
+        return new Point3(this.x + offset.x, this.y + offset.y, this.z + offset.z);
+    }
+
+    /**
+     * Converts this point to the general n dimensional representation
+     *
+     * @return A new Point with the same coordinates
+     */
+    public Point toPoint(){
+        return new Point(this.x, this.y, this.z);
+    }
+
+    public String toString(){
+        return String.format("(%.02f, %.02f, %.02f)", this.x, this.y, this.z);
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        else{
+            Point3 other = (Point3) obj;
+            return this.x == other.x && this.y == other.y && this.z == other.z;
+        }
+    }
+
+    public int hashCode(){
+        return hashCoordinate(hashCoordinate(hashCoordinate(0, this.x), this.y), this.z);
+    }
+}
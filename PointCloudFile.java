@@ -0,0 +1,376 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary point cloud file that is read through memory maps instead of being parsed
+ *
+ * Layout, all little endian:
+ *   bytes 0-3    magic "EMPC"
+ *   bytes 4-7    format version (1)
+ *   bytes 8-11   dimension
+ *   bytes 12-15  reserved (0)
+ *   bytes 16-23  number of points
+ *   bytes 24-31  reserved (0)
+ *   bytes 32-    the coordinates of every point, packed like a PointBatch
+ *
+ * The data is mapped in segments of whole points, so geometry queries read doubles straight out of the page cache and
+ * the operating system pages the file in and out as needed, which lets it be bigger than the heap or RAM.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PointCloudFile extends EuclideanObject implements Closeable
+{
+    static final int MAGIC = 0x43504d45;  // "EMPC" read as a little endian int
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    /** Largest number of bytes mapped by a single MappedByteBuffer */
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    /** Largest dimension whose points still fit in one map, which can hold at most Integer.MAX_VALUE bytes */
+    static final int MAX_DIMENSION = Integer.MAX_VALUE / 8;
+
+    public final long count;
+
+    private final FileChannel channel;
+    private final DoubleBuffer [] segments;
+    private final int pointsPerSegment;
+
+    private PointCloudFile(FileChannel channel, int dimension, long count) throws IOException{
+        super(dimension);
+        this.channel = channel;
+        this.count = count;
+        this.pointsPerSegment = (int) Math.max(1, MAX_SEGMENT_BYTES / (8L * dimension));
+
+        int segmentCount = (int) ((count + this.pointsPerSegment - 1) / this.pointsPerSegment);
+        this.segments = new DoubleBuffer[segmentCount];
+        for(int i = 0; i < segmentCount; i++){
+            long first = (long) i * this.pointsPerSegment;
+            long points = Math.min(this.pointsPerSegment, count - first);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                HEADER_SIZE + first * 8 * dimension, points * 8 * dimension);
+            this.segments[i] = mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Opens a point cloud file for reading
+     *
+     * @param path The file to open
+     *
+     * @return The opened file, which should be closed when it is no longer needed
+     */
+    public static PointCloudFile open(Path path) throws IOException{
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try{
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while(header.hasRemaining() && channel.read(header) >= 0){
+            }
+            header.flip();
+            if(header.remaining() < HEADER_SIZE || header.getInt(0) != MAGIC){
+                throw new IOException(path + " is not a point cloud file!");
+            }
+            if(header.getInt(4) != VERSION){
+                throw new IOException(path + " uses unsupported point cloud format version " + header.getInt(4) + "!");
+            }
+            int dimension = header.getInt(8);
+            long count = header.getLong(16);
+            // divide rather than multiply so a corrupt count can not overflow past the check
+            if(dimension < 1 || dimension > MAX_DIMENSION || count < 0
+               || count > (channel.size() - HEADER_SIZE) / (8L * dimension)){
+                throw new IOException(path + " is truncated or has a corrupt header!");
+            }
+            return new PointCloudFile(channel, dimension, count);
+        }
+        catch(IOException | RuntimeException e){
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new point cloud file, replacing any existing file, and returns a writer that streams points into it
+     *
+     * @param path The file to create
+     * @param dimension The dimension of every point that will be written
+     *
+     * @return A writer that must be closed to finish the file
+     */
+    public static Writer create(Path path, int dimension) throws IOException{
+        return new Writer(path, dimension);
+    }
+
+    /**
+     * Streams points into a new point cloud file, the point count in the header is filled in by close
+     */
+    public static class Writer extends EuclideanObject implements Closeable{
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long count;
+
+        private Writer(Path path, int dimension) throws IOException{
+            super(dimension);
+            if(dimension < 1){
+                throw new RuntimeException("Points must have at least one dimension!");
+            }
+            if(dimension > MAX_DIMENSION){
+                throw new RuntimeException("Points in a point cloud file can have at most " + MAX_DIMENSION
+                    + " dimensions!");
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(Math.max(1 << 16, 8 * dimension)).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.put(header(dimension, 0));
+        }
+
+        public long count(){
+            return this.count;
+        }
+
+        public void write(Point point) throws IOException{
+            checkDimension(point);
+            write(point.coordinates, 0);
+        }
+
+        public void write(PointBatch points) throws IOException{
+            checkDimension(points);
+            for(int i = 0; i < points.size; i++){
+                write(points.data, i * this.dimension);
+            }
+        }
+
+        private void write(double [] coordinates, int offset) throws IOException{
+            if(this.buffer.remaining() < 8 * this.dimension){
+                flush();
+            }
+            for(int i = 0; i < this.dimension; i++){
+                this.buffer.putDouble(coordinates[offset + i]);
+            }
+            this.count++;
+        }
+
+        private void flush() throws IOException{
+            this.buffer.flip();
+            while(this.buffer.hasRemaining()){
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException{
+            if(!this.channel.isOpen()){
+                return;
+            }
+            try{
+                flush();
+                ByteBuffer header = header(this.dimension, this.count);
+                while(header.hasRemaining()){
+                    this.channel.write(header, header.position());
+                }
+            }
+            finally{
+                this.channel.close();
+            }
+        }
+    }
+
+    private static ByteBuffer header(int dimension, long count){
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(0).putLong(count).putLong(0);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * A run of consecutive points read straight from the mapped file without copying
+     */
+    public static class Chunk extends EuclideanObject{
+        /** Index in the file of the first point in this chunk */
+        public final long first;
+        public final int size;
+
+        private final DoubleBuffer coordinates;
+
+        private Chunk(int dimension, long first, int size, DoubleBuffer coordinates){
+            super(dimension);
+            this.first = first;
+            this.size = size;
+            this.coordinates = coordinates;
+        }
+
+        public double get(int index, int axis){
+            return this.coordinates.get(index * this.dimension + axis);
+        }
+
+        public double distanceSquared(int index, Point other){
+            checkDimension(other);
+            int offset = index * this.dimension;
+            double sum = 0;
+            for(int i = 0; i < this.dimension; i++){
+                double difference = other.coordinates[i] - this.coordinates.get(offset + i);
+                sum += difference * difference;
+            }
+            return sum;
+        }
+
+        public double distance(int index, Point other){
+            return Math.sqrt(distanceSquared(index, other));
+        }
+
+        public double signedDistance(int index, PreparedPlane plane){
+            checkDimension(plane);
+            return plane.signedDistance(this.coordinates, index * this.dimension);
+        }
+
+        /**
+         * Copies one point out of the file
+         */
+        public Point point(int index){
+            double [] values = new double[this.dimension];
+            this.coordinates.get(index * this.dimension, values);
+            return new Point(values);
+        }
+
+        /**
+         * Copies every point in the chunk out of the file into a packed batch
+         */
+        public PointBatch toBatch(){
+            double [] values = new double[this.size * this.dimension];
+            this.coordinates.get(0, values);
+            return new PointBatch(this.dimension, values);
+        }
+    }
+
+    /**
+     * Views a run of points in the file, the run may not cross a mapped segment boundary
+     */
+    private Chunk chunk(long first, int size){
+        int segment = (int) (first / this.pointsPerSegment);
+        int offset = (int) (first - (long) segment * this.pointsPerSegment) * this.dimension;
+        DoubleBuffer coordinates = this.segments[segment].slice(offset, size * this.dimension);
+        return new Chunk(this.dimension, first, size, coordinates);
+    }
+
+    /**
+     * Calls action for consecutive chunks of points covering the whole file
+     *
+     * @param pointsPerChunk The most points to put in each chunk
+     * @param action The work to do on each chunk
+     */
+    public void forEachChunk(int pointsPerChunk, Consumer<Chunk> action){
+        if(pointsPerChunk < 1){
+            throw new RuntimeException("Chunks must hold at least one point!");
+        }
+        long first = 0;
+        while(first < this.count){
+            long segmentEnd = (first / this.pointsPerSegment + 1) * this.pointsPerSegment;
+            int size = (int) Math.min(pointsPerChunk, Math.min(this.count, segmentEnd) - first);
+            action.accept(chunk(first, size));
+            first += size;
+        }
+    }
+
+    /**
+     * Copies one point out of the file
+     *
+     * @param index The index of the point in the file
+     */
+    public Point get(long index){
+        checkIndex(index);
+        return chunk(index, 1).point(0);
+    }
+
+    /**
+     * Copies a run of points out of the file into a packed batch
+     *
+     * @param first The index of the first point to copy
+     * @param size The number of points to copy
+     */
+    public PointBatch read(long first, int size){
+        checkIndex(first);
+        checkIndex(first + size - 1);
+        PointBatch batch = new PointBatch(this.dimension, size);
+        int copied = 0;
+        while(copied < size){
+            long index = first + copied;
+            long segmentEnd = (index / this.pointsPerSegment + 1) * this.pointsPerSegment;
+            int run = (int) Math.min(size - copied, segmentEnd - index);
+            chunk(index, run).coordinates.get(0, batch.data, copied * this.dimension, run * this.dimension);
+            copied += run;
+        }
+        return batch;
+    }
+
+    /**
+     * Calculates the distance from a point in the file to another point
+     *
+     * @param index The index of the point in the file
+     * @param other The point to calculate distance to
+     */
+    public double distance(long index, Point other){
+        checkIndex(index);
+        return chunk(index, 1).distance(0, other);
+    }
+
+    /**
+     * Finds the point in the file closest to another point by scanning the file
+     *
+     * @param query The point to search around
+     *
+     * @return The index of the closest point, or -1 if the file is empty
+     */
+    public long nearest(Point query){
+        checkDimension(query);
+        long [] best = {-1};
+        double [] bestDistance = {Double.POSITIVE_INFINITY};
+        forEachChunk(this.pointsPerSegment, chunk -> {
+            for(int i = 0; i < chunk.size; i++){
+                double distance = chunk.distanceSquared(i, query);
+                if(distance < bestDistance[0]){
+                    bestDistance[0] = distance;
+                    best[0] = chunk.first + i;
+                }
+            }
+        });
+        return best[0];
+    }
+
+    /**
+     * Counts how many points in the file are on each side of a plane
+     *
+     * @param plane The plane to classify against
+     *
+     * @return The number of points {BELOW, ON, ABOVE} the plane
+     */
+    public long[] count(PreparedPlane plane){
+        checkDimension(plane);
+        long [] counts = new long[3];
+        forEachChunk(this.pointsPerSegment, chunk -> {
+            for(int i = 0; i < chunk.size; i++){
+                counts[1 + plane.side(chunk.coordinates, i * this.dimension)]++;
+            }
+        });
+        return counts;
+    }
+
+    private void checkIndex(long index){
+        if(index < 0 || index >= this.count){
+            throw new RuntimeException("Point " + index + " is outside of the file!");
+        }
+    }
+
+    @Override
+    public void close() throws IOException{
+        this.channel.close();
+    }
+}
@@ -0,0 +1,493 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * KD-tree spatial index over a fixed set of points for nearest neighbor, radius and box queries
+ *
+ * The tree is bulk loaded by median split and stored implicitly: the node for the range [lo, hi) of the tree order
+ * is at position (lo + hi) / 2 with its left subtree in [lo, mid) and right subtree in (mid, hi). Coordinates are
+ * copied into a packed array in tree order so queries walk memory roughly in sequence. All distance comparisons are
+ * done with squared distances and only the final answers are square rooted.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PointIndex extends EuclideanObject
+{
+    /** Ranges this small are scanned linearly instead of split further */
+    private static final int LEAF_SIZE = 8;
+
+    /** Ranges bigger than this are built on separate fork join tasks */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    public final int size;
+
+    private final Point [] points;
+    private final PointBatch batch;
+
+    /** Packed coordinates in tree order */
+    private final double [] coordinates;
+
+    /** Index into the original input for each tree position */
+    private final int [] order;
+
+    /** Split axis for each tree position that is the middle of a range larger than LEAF_SIZE */
+    private final int [] axes;
+
+    /**
+     * Builds an index over a set of points
+     *
+     * @param points At least one point to index, they are not copied and must not be changed afterwards. An empty
+     *               index has no points to take its dimension from, so build it from an empty PointBatch instead.
+     */
+    public PointIndex(Point... points){
+        super(requirePoints(points));
+        this.size = points.length;
+        this.points = points;
+        this.batch = null;
+
+        double [] packed = new double[this.size * this.dimension];
+        for(int i = 0; i < this.size; i++){
+            System.arraycopy(points[i].coordinates, 0, packed, i * this.dimension, this.dimension);
+        }
+
+        this.order = new int[this.size];
+        this.axes = new int[this.size];
+        this.coordinates = build(packed);
+    }
+
+    /**
+     * Builds an index over a batch of points
+     *
+     * @param batch The points to index, they are not copied and must not be changed afterwards. It may be empty, in
+     *              which case nearest gives null and nearestIndex gives -1.
+     */
+    public PointIndex(PointBatch batch){
+        super(batch.dimension);
+        this.size = batch.size;
+        this.points = null;
+        this.batch = batch;
+        this.order = new int[this.size];
+        this.axes = new int[this.size];
+        this.coordinates = build(batch.data);
+    }
+
+    private static Point [] requirePoints(Point [] points){
+        if(points.length == 0){
+            throw new RuntimeException("An index needs at least one point to know its dimension, use an empty "
+                + "PointBatch for an empty index!");
+        }
+        return points;
+    }
+
+    private double [] build(double [] packed){
+        for(int i = 0; i < this.size; i++){
+            this.order[i] = i;
+        }
+
+        Build root = new Build(packed, 0, this.size);
+        if(this.size > PARALLEL_THRESHOLD){
+            ForkJoinPool.commonPool().invoke(root);
+        }
+        else{
+            root.compute();
+        }
+
+        double [] sorted = new double[packed.length];
+        for(int i = 0; i < this.size; i++){
+            System.arraycopy(packed, this.order[i] * this.dimension, sorted, i * this.dimension, this.dimension);
+        }
+        return sorted;
+    }
+
+    /**
+     * Task that splits one range of the tree order around its median and then builds both halves
+     */
+    private class Build extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final double [] packed;
+        private final int lo;
+        private final int hi;
+
+        Build(double [] packed, int lo, int hi){
+            this.packed = packed;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute(){
+            if(hi - lo <= LEAF_SIZE){
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            int axis = widestAxis(packed, lo, hi);
+            axes[mid] = axis;
+            select(packed, lo, hi - 1, mid, axis);
+
+            Build left = new Build(packed, lo, mid);
+            Build right = new Build(packed, mid + 1, hi);
+            if(hi - lo > PARALLEL_THRESHOLD){
+                invokeAll(left, right);
+            }
+            else{
+                left.compute();
+                right.compute();
+            }
+        }
+    }
+
+    private int widestAxis(double [] packed, int lo, int hi){
+        int widest = 0;
+        double widestSpread = -1;
+        for(int axis = 0; axis < this.dimension; axis++){
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for(int i = lo; i < hi; i++){
+                double value = packed[this.order[i] * this.dimension + axis];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if(max - min > widestSpread){
+                widestSpread = max - min;
+                widest = axis;
+            }
+        }
+        return widest;
+    }
+
+    /**
+     * Rearranges order[left..right] so that order[k] holds the point with the kth smallest coordinate on axis
+     */
+    private void select(double [] packed, int left, int right, int k, int axis){
+        while(right > left){
+            double pivot = packed[this.order[(left + right) >>> 1] * this.dimension + axis];
+            int i = left;
+            int j = right;
+            while(i <= j){
+                while(packed[this.order[i] * this.dimension + axis] < pivot){
+                    i++;
+                }
+                while(packed[this.order[j] * this.dimension + axis] > pivot){
+                    j--;
+                }
+                if(i <= j){
+                    int swap = this.order[i];
+                    this.order[i++] = this.order[j];
+                    this.order[j--] = swap;
+                }
+            }
+            if(k <= j){
+                right = j;
+            }
+            else if(k >= i){
+                left = i;
+            }
+            else{
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets one of the indexed points
+     *
+     * @param index The position of the point in the points or batch the index was built from
+     *
+     * @return The point at index
+     */
+    public Point get(int index){
+        return this.points != null ? this.points[index] : this.batch.get(index);
+    }
+
+    /**
+     * Finds the indexed point closest to a query point
+     *
+     * @param query The point to search around
+     *
+     * @return The closest point, or null if the index is empty
+     */
+    public Point nearest(Point query){
+        int index = nearestIndex(query);
+        return index < 0 ? null : get(index);
+    }
+
+    /**
+     * Finds the position of the indexed point closest to a query point
+     *
+     * @param query The point to search around
+     *
+     * @return The position of the closest point in the original input, or -1 if the index is empty
+     */
+    public int nearestIndex(Point query){
+        int [] found = kNearestIndices(query, 1);
+        return found.length == 0 ? -1 : found[0];
+    }
+
+    /**
+     * Finds the k indexed points closest to a query point
+     *
+     * @param query The point to search around
+     * @param k The number of points to find
+     *
+     * @return Up to k points ordered from closest to farthest
+     */
+    public Point[] kNearest(Point query, int k){
+        int [] found = kNearestIndices(query, k);
+        Point [] result = new Point[found.length];
+        for(int i = 0; i < found.length; i++){
+            result[i] = get(found[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the positions of the k indexed points closest to a query point
+     *
+     * @param query The point to search around
+     * @param k The number of points to find
+     *
+     * @return Up to k positions in the original input ordered from closest to farthest
+     */
+    public int[] kNearestIndices(Point query, int k){
+        checkDimension(query);
+        if(k < 1){
+            throw new RuntimeException("k must be at least 1!");
+        }
+
+        Neighbors neighbors = new Neighbors(Math.min(k, this.size));
+        if(this.size > 0){
+            search(query.coordinates, 0, this.size, neighbors);
+        }
+        return neighbors.sortedIndices();
+    }
+
+    private void search(double [] query, int lo, int hi, Neighbors neighbors){
+        if(hi - lo <= LEAF_SIZE){
+            for(int i = lo; i < hi; i++){
+                neighbors.offer(i, squaredDistance(i, query));
+            }
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        int axis = this.axes[mid];
+        double difference = query[axis] - this.coordinates[mid * this.dimension + axis];
+        neighbors.offer(mid, squaredDistance(mid, query));
+
+        if(difference < 0){
+            search(query, lo, mid, neighbors);
+            if(difference * difference < neighbors.worst()){
+                search(query, mid + 1, hi, neighbors);
+            }
+        }
+        else{
+            search(query, mid + 1, hi, neighbors);
+            if(difference * difference < neighbors.worst()){
+                search(query, lo, mid, neighbors);
+            }
+        }
+    }
+
+    /**
+     * Fixed capacity max heap of the closest tree positions found so far
+     */
+    private class Neighbors{
+        private final int [] positions;
+        private final double [] distances;
+        private int count;
+
+        Neighbors(int capacity){
+            this.positions = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        double worst(){
+            return this.count < this.positions.length ? Double.POSITIVE_INFINITY : this.distances[0];
+        }
+
+        void offer(int position, double distance){
+            if(this.count < this.positions.length){
+                int child = this.count++;
+                while(child > 0){  // sift up
+                    int parent = (child - 1) / 2;
+                    if(this.distances[parent] >= distance){
+                        break;
+                    }
+                    this.positions[child] = this.positions[parent];
+                    this.distances[child] = this.distances[parent];
+                    child = parent;
+                }
+                this.positions[child] = position;
+                this.distances[child] = distance;
+            }
+            else if(distance < this.distances[0]){
+                siftDown(position, distance, this.count);
+            }
+        }
+
+        private void siftDown(int position, double distance, int length){
+            int parent = 0;
+            while(true){
+                int child = 2 * parent + 1;
+                if(child >= length){
+                    break;
+                }
+                if(child + 1 < length && this.distances[child + 1] > this.distances[child]){
+                    child++;
+                }
+                if(this.distances[child] <= distance){
+                    break;
+                }
+                this.positions[parent] = this.positions[child];
+                this.distances[parent] = this.distances[child];
+                parent = child;
+            }
+            this.positions[parent] = position;
+            this.distances[parent] = distance;
+        }
+
+        int [] sortedIndices(){
+            int [] result = new int[this.count];
+            for(int last = this.count - 1; last >= 0; last--){  // pop the farthest remaining into the back
+                result[last] = order[this.positions[0]];
+                siftDown(this.positions[last], this.distances[last], last);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Finds every indexed point within a distance of a query point
+     *
+     * @param query The point to search around
+     * @param radius The largest distance from query to include
+     *
+     * @return The points within radius of query, in no particular order
+     */
+    public List<Point> withinRadius(Point query, double radius){
+        List<Point> result = new ArrayList<>();
+        for(int index: withinRadiusIndices(query, radius)){
+            result.add(get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the positions of every indexed point within a distance of a query point
+     *
+     * @param query The point to search around
+     * @param radius The largest distance from query to include
+     *
+     * @return The positions in the original input of the points within radius of query
+     */
+    public int[] withinRadiusIndices(Point query, double radius){
+        checkDimension(query);
+        IntList found = new IntList();
+        if(this.size > 0){
+            radiusSearch(query.coordinates, radius * radius, 0, this.size, found);
+        }
+        return found.toArray();
+    }
+
+    private void radiusSearch(double [] query, double radiusSquared, int lo, int hi, IntList found){
+        if(hi - lo <= LEAF_SIZE){
+            for(int i = lo; i < hi; i++){
+                if(squaredDistance(i, query) <= radiusSquared){
+                    found.add(this.order[i]);
+                }
+            }
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        int axis = this.axes[mid];
+        double difference = query[axis] - this.coordinates[mid * this.dimension + axis];
+        if(squaredDistance(mid, query) <= radiusSquared){
+            found.add(this.order[mid]);
+        }
+        if(difference <= 0 || difference * difference <= radiusSquared){
+            radiusSearch(query, radiusSquared, lo, mid, found);
+        }
+        if(difference >= 0 || difference * difference <= radiusSquared){
+            radiusSearch(query, radiusSquared, mid + 1, hi, found);
+        }
+    }
+
+    /**
+     * Finds every indexed point inside an axis aligned box
+     *
+     * @param min The corner of the box with the smallest coordinates
+     * @param max The corner of the box with the largest coordinates
+     *
+     * @return The points inside the box including its boundary, in no particular order
+     */
+    public List<Point> withinBox(Point min, Point max){
+        List<Point> result = new ArrayList<>();
+        for(int index: withinBoxIndices(min, max)){
+            result.add(get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the positions of every indexed point inside an axis aligned box
+     *
+     * @param min The corner of the box with the smallest coordinates
+     * @param max The corner of the box with the largest coordinates
+     *
+     * @return The positions in the original input of the points inside the box including its boundary
+     */
+    public int[] withinBoxIndices(Point min, Point max){
+        checkDimension(min);
+        checkDimension(max);
+        IntList found = new IntList();
+        if(this.size > 0){
+            boxSearch(min.coordinates, max.coordinates, 0, this.size, found);
+        }
+        return found.toArray();
+    }
+
+    private void boxSearch(double [] min, double [] max, int lo, int hi, IntList found){
+        if(hi - lo <= LEAF_SIZE){
+            for(int i = lo; i < hi; i++){
+                if(inBox(i, min, max)){
+                    found.add(this.order[i]);
+                }
+            }
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        int axis = this.axes[mid];
+        double split = this.coordinates[mid * this.dimension + axis];
+        if(inBox(mid, min, max)){
+            found.add(this.order[mid]);
+        }
+        if(min[axis] <= split){
+            boxSearch(min, max, lo, mid, found);
+        }
+        if(max[axis] >= split){
+            boxSearch(min, max, mid + 1, hi, found);
+        }
+    }
+
+    private boolean inBox(int position, double [] min, double [] max){
+        int offset = position * this.dimension;
+        for(int axis = 0; axis < this.dimension; axis++){
+            double value = this.coordinates[offset + axis];
+            if(value < min[axis] || value > max[axis]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double squaredDistance(int position, double [] query){
+        return VectorKernels.squaredDistance(this.coordinates, position * this.dimension, query, 0, this.dimension);
+    }
+}
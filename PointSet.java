@@ -0,0 +1,395 @@
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * Growable collection of points of one dimension stored in a single packed array
+ *
+ * The spliterator splits the index range exactly in half, so parallelStream() divides the work evenly. The built in
+ * reductions (centroid, bounds, per axis extremes, farthest point and covariance statistics) run in parallel straight
+ * over the packed coordinates without creating a Point per element, using mergeable accumulators that work on
+ * primitives.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PointSet extends AbstractCollection<Point>
+{
+    /** Sets smaller than this are reduced sequentially */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    public final int dimension;
+
+    private double [] data;
+    private int size;
+
+    /**
+     * Constructs a new empty set
+     *
+     * @param dimension The dimension of every point that will be added
+     */
+    public PointSet(int dimension){
+        if(dimension < 1){
+            throw new RuntimeException("Points must have at least one dimension!");
+        }
+        this.dimension = dimension;
+        this.data = new double[dimension * 16];
+    }
+
+    /**
+     * Constructs a new set holding copies of every point in a batch
+     *
+     * @param batch The points to copy
+     */
+    public PointSet(PointBatch batch){
+        this.dimension = batch.dimension;
+        this.data = batch.data.clone();
+        this.size = batch.size;
+    }
+
+    @Override
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Copies a point into the set
+     *
+     * @param point The point to add
+     *
+     * @return true, the set always changes
+     */
+    @Override
+    public boolean add(Point point){
+        checkDimension(point);
+        if((this.size + 1) * this.dimension > this.data.length){
+            this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, (this.size + 1) * this.dimension));
+        }
+        System.arraycopy(point.coordinates, 0, this.data, this.size * this.dimension, this.dimension);
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public void clear(){
+        this.size = 0;
+    }
+
+    /**
+     * Creates a Point holding a copy of one of the points in the set
+     *
+     * @param index The index of the point, in the order points were added
+     */
+    public Point get(int index){
+        if(index < 0 || index >= this.size){
+            throw new RuntimeException("Point " + index + " is outside of the set!");
+        }
+        return new Point(Arrays.copyOfRange(this.data, index * this.dimension, (index + 1) * this.dimension));
+    }
+
+    /**
+     * Copies every point in the set into a packed batch
+     */
+    public PointBatch toBatch(){
+        return new PointBatch(this.dimension, Arrays.copyOf(this.data, this.size * this.dimension));
+    }
+
+    @Override
+    public Iterator<Point> iterator(){
+        return new Iterator<Point>(){
+            private int next;
+
+            @Override
+            public boolean hasNext(){
+                return this.next < size;
+            }
+
+            @Override
+            public Point next(){
+                if(!hasNext()){
+                    throw new NoSuchElementException();
+                }
+                return get(this.next++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Point> spliterator(){
+        return new PointSpliterator(0, this.size);
+    }
+
+    /**
+     * Spliterator over a range of indices that splits exactly in half
+     */
+    private class PointSpliterator implements Spliterator<Point>{
+        private int index;
+        private final int end;
+
+        PointSpliterator(int index, int end){
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Point> action){
+            if(this.index >= this.end){
+                return false;
+            }
+            action.accept(get(this.index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Point> action){
+            while(this.index < this.end){
+                action.accept(get(this.index++));
+            }
+        }
+
+        @Override
+        public Spliterator<Point> trySplit(){
+            int middle = (this.index + this.end) >>> 1;
+            if(middle <= this.index){
+                return null;
+            }
+            Spliterator<Point> prefix = new PointSpliterator(this.index, middle);
+            this.index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize(){
+            return this.end - this.index;
+        }
+
+        @Override
+        public int characteristics(){
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * Mergeable accumulator for the count, centroid and axis aligned bounds of a group of points
+     */
+    public static class Summary{
+        public final int dimension;
+        private long count;
+        private final double [] sum;
+        private final double [] min;
+        private final double [] max;
+
+        public Summary(int dimension){
+            this.dimension = dimension;
+            this.sum = new double[dimension];
+            this.min = new double[dimension];
+            this.max = new double[dimension];
+            Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+        }
+
+        public void accept(Point point){
+            if(point.dimension != this.dimension){
+                Metrics.dimensionRejected();
+                throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+            }
+            accept(point.coordinates, 0);
+        }
+
+        void accept(double [] coordinates, int offset){
+            for(int i = 0; i < this.dimension; i++){
+                double value = coordinates[offset + i];
+                this.sum[i] += value;
+                this.min[i] = Math.min(this.min[i], value);
+                this.max[i] = Math.max(this.max[i], value);
+            }
+            this.count++;
+        }
+
+        /**
+         * Merges another summary into this one
+         *
+         * @return This summary
+         */
+        public Summary combine(Summary other){
+            for(int i = 0; i < this.dimension; i++){
+                this.sum[i] += other.sum[i];
+                this.min[i] = Math.min(this.min[i], other.min[i]);
+                this.max[i] = Math.max(this.max[i], other.max[i]);
+            }
+            this.count += other.count;
+            return this;
+        }
+
+        public long count(){
+            return this.count;
+        }
+
+        /**
+         * Calculates the average of every point seen, or null if there were none
+         */
+        public Point centroid(){
+            if(this.count == 0){
+                return null;
+            }
+            double [] centroid = new double[this.dimension];
+            for(int i = 0; i < this.dimension; i++){
+                centroid[i] = this.sum[i] / this.count;
+            }
+            return new Point(centroid);
+        }
+
+        /**
+         * Gives the corners of the smallest axis aligned box holding every point seen
+         *
+         * @return {the corner with the smallest coordinates, the corner with the largest}, or null if there were no points
+         */
+        public Point[] bounds(){
+            if(this.count == 0){
+                return null;
+            }
+            return new Point[] {new Point(this.min.clone()), new Point(this.max.clone())};
+        }
+
+        public double min(int axis){
+            return this.min[axis];
+        }
+
+        public double max(int axis){
+            return this.max[axis];
+        }
+    }
+
+    /**
+     * Collector that summarizes a stream of points, usable with any parallel stream of Points
+     *
+     * @param dimension The dimension of every point in the stream
+     */
+    public static Collector<Point, Summary, Summary> summarizing(int dimension){
+        return Collector.of(() -> new Summary(dimension), Summary::accept, Summary::combine,
+            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Summarizes every point in the set in parallel
+     */
+    public Summary summary(){
+        return indices().collect(() -> new Summary(this.dimension),
+            (summary, i) -> summary.accept(this.data, i * this.dimension), Summary::combine);
+    }
+
+    /**
+     * Accumulates the mean and covariance of every point in the set in parallel, ready for fitting planes and lines
+     */
+    public PointStatistics statistics(){
+        return indices().collect(() -> new PointStatistics(this.dimension),
+            (statistics, i) -> statistics.accept(this.data, i * this.dimension), PointStatistics::combine);
+    }
+
+    /**
+     * Builds the convex hull of every point in the set in parallel, the set must be 2 or 3 dimensional
+     */
+    public ConvexHull convexHull(){
+        return ConvexHull.of(toBatch());
+    }
+
+    /**
+     * Calculates the average of every point in the set
+     *
+     * @return The centroid, or null if the set is empty
+     */
+    public Point centroid(){
+        return summary().centroid();
+    }
+
+    /**
+     * Finds the smallest axis aligned box holding every point in the set
+     *
+     * @return {the corner with the smallest coordinates, the corner with the largest}, or null if the set is empty
+     */
+    public Point[] bounds(){
+        return summary().bounds();
+    }
+
+    /**
+     * Mergeable accumulator that remembers the index with the largest score
+     */
+    private static class Farthest{
+        int index = -1;
+        double score = Double.NEGATIVE_INFINITY;
+
+        void accept(int index, double score){
+            if(score > this.score){
+                this.index = index;
+                this.score = score;
+            }
+        }
+
+        void combine(Farthest other){
+            accept(other.index, other.score);
+        }
+    }
+
+    /**
+     * Finds the point in the set farthest from another point
+     *
+     * @return The farthest point, or null if the set is empty
+     */
+    public Point farthestFrom(Point other){
+        checkDimension(other);
+        return farthest(i -> VectorKernels.squaredDistance(this.data, i * this.dimension, other.coordinates, 0,
+            this.dimension));
+    }
+
+    /**
+     * Finds the point in the set farthest from a line
+     *
+     * @return The farthest point, or null if the set is empty
+     */
+    public Point farthestFrom(Line line){
+        checkDimension(line);
+        PreparedLine prepared = line.prepare();
+        return farthest(i -> prepared.distanceSquared(this.data, i * this.dimension));
+    }
+
+    /**
+     * Finds the point in the set farthest from a plane on either side
+     *
+     * @return The farthest point, or null if the set is empty
+     */
+    public Point farthestFrom(Plane plane){
+        checkDimension(plane);
+        PreparedPlane prepared = plane.prepare();
+        return farthest(i -> Math.abs(prepared.signedDistance(this.data, i * this.dimension)));
+    }
+
+    /**
+     * Scores a point by its index in the set
+     */
+    private interface Score{
+        double of(int index);
+    }
+
+    private Point farthest(Score score){
+        Farthest farthest = indices().collect(Farthest::new, (best, i) -> best.accept(i, score.of(i)),
+            Farthest::combine);
+        return farthest.index < 0 ? null : get(farthest.index);
+    }
+
+    private IntStream indices(){
+        IntStream indices = IntStream.range(0, this.size);
+        return this.size >= PARALLEL_THRESHOLD ? indices.parallel() : indices;
+    }
+
+    private void checkDimension(EuclideanObject other){
+        if(this.dimension != other.dimension){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+
+/**
+ * Single pass accumulator for the mean and covariance of a stream of points, and the plane and line that fit them best
+ *
+ * Points are folded in one at a time with Welford's update, which keeps the running mean and the sum of products of
+ * deviations from it instead of raw sums of squares, so the result stays accurate for points far from the origin.
+ * Two accumulators over different parts of a stream are merged with Chan's pairwise formula, so a stream can be
+ * split between threads and the partial results combined in any order. An accumulator holds O(dimension^2) numbers no
+ * matter how many points it has seen, so it can run forever over an unbounded stream.
+ *
+ * The best fit plane and line go through the mean. The plane's norm is the eigenvector of the covariance matrix with
+ * the smallest eigenvalue and the line's direction the one with the largest, which minimize the sum of the squared
+ * distances from the points to the plane or line. Accumulators are not safe to share between threads, give each
+ * thread its own and combine them.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PointStatistics
+{
+    public final int dimension;
+
+    private long count;
+    private final double [] mean;
+
+    /** Sum over every point of (x_i - mean_i) * (x_j - mean_j), only the upper triangle is kept up to date */
+    private final double [] comoment;
+
+    /** Deviation of the latest point from the old mean, kept to avoid allocating per point */
+    private final double [] delta;
+
+    /**
+     * Constructs an accumulator that has not seen any points
+     *
+     * @param dimension The dimension of every point that will be accepted
+     */
+    public PointStatistics(int dimension){
+        if(dimension < 1){
+            throw new RuntimeException("Points must have at least one dimension!");
+        }
+        this.dimension = dimension;
+        this.mean = new double[dimension];
+        this.comoment = new double[dimension * dimension];
+        this.delta = new double[dimension];
+    }
+
+    /**
+     * Accumulates every point in a batch, splitting the batch between the threads of the common pool
+     *
+     * @param points The points to accumulate
+     *
+     * @return An accumulator that has seen every point in the batch
+     */
+    public static PointStatistics of(PointBatch points){
+        int chunks = Chunks.count(points.size, Chunks.DEFAULT_SIZE);
+        PointStatistics [] partial = new PointStatistics[Math.max(1, chunks)];
+        Chunks.forEach(ForkJoinPool.commonPool(), points.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            PointStatistics statistics = new PointStatistics(points.dimension);
+            for(int i = from; i < to; i++){
+                statistics.accept(points.data, i * points.dimension);
+            }
+            partial[chunk] = statistics;
+        });
+        for(int i = 1; i < partial.length; i++){
+            partial[0].combine(partial[i]);
+        }
+        return partial[0];
+    }
+
+    /**
+     * Collector that accumulates a stream of points, usable with any parallel stream of Points
+     *
+     * @param dimension The dimension of every point in the stream
+     */
+    public static Collector<Point, PointStatistics, PointStatistics> collector(int dimension){
+        return Collector.of(() -> new PointStatistics(dimension), PointStatistics::accept, PointStatistics::combine,
+            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    public void accept(Point point){
+        if(point.dimension != this.dimension){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+        accept(point.coordinates, 0);
+    }
+
+    void accept(double [] coordinates, int offset){
+        this.count++;
+        for(int i = 0; i < this.dimension; i++){
+            this.delta[i] = coordinates[offset + i] - this.mean[i];
+            this.mean[i] += this.delta[i] / this.count;
+        }
+        // delta_i times the deviation from the new mean, which adds exactly the change in the sum of products
+        for(int i = 0; i < this.dimension; i++){
+            double deviation = this.delta[i];
+            int row = i * this.dimension;
+            for(int j = i; j < this.dimension; j++){
+                this.comoment[row + j] += deviation * (coordinates[offset + j] - this.mean[j]);
+            }
+        }
+    }
+
+    /**
+     * Merges another accumulator into this one, as if this one had also seen every point the other has
+     *
+     * @return This accumulator
+     */
+    public PointStatistics combine(PointStatistics other){
+        if(other.dimension != this.dimension){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+        if(other.count == 0){
+            return this;
+        }
+        long total = this.count + other.count;
+        double weight = (double) other.count / total;
+        double crossWeight = (double) this.count * other.count / total;
+        for(int i = 0; i < this.dimension; i++){
+            this.delta[i] = other.mean[i] - this.mean[i];
+        }
+        for(int i = 0; i < this.dimension; i++){
+            int row = i * this.dimension;
+            for(int j = i; j < this.dimension; j++){
+                this.comoment[row + j] += other.comoment[row + j] + this.delta[i] * this.delta[j] * crossWeight;
+            }
+        }
+        for(int i = 0; i < this.dimension; i++){
+            this.mean[i] += this.delta[i] * weight;
+        }
+        this.count = total;
+        return this;
+    }
+
+    public long count(){
+        return this.count;
+    }
+
+    /**
+     * Calculates the average of every point seen, or null if there were none
+     */
+    public Point mean(){
+        if(this.count == 0){
+            return null;
+        }
+        return new Point(this.mean.clone());
+    }
+
+    /**
+     * Calculates the covariance matrix of every point seen, dividing by the number of points
+     *
+     * @return The dimension by dimension covariance matrix, or null if there were no points
+     */
+    public Matrix covariance(){
+        if(this.count == 0){
+            return null;
+        }
+        double [] covariance = new double[this.dimension * this.dimension];
+        for(int i = 0; i < this.dimension; i++){
+            for(int j = i; j < this.dimension; j++){
+                double value = this.comoment[i * this.dimension + j] / this.count;
+                covariance[i * this.dimension + j] = value;
+                covariance[j * this.dimension + i] = value;
+            }
+        }
+        return new Matrix(this.dimension, this.dimension, covariance);
+    }
+
+    /**
+     * Finds the plane that minimizes the sum of the squared distances to every point seen
+     *
+     * @return A plane through the mean with a unit norm
+     */
+    public Plane bestFitPlane(){
+        if(this.count < this.dimension){
+            throw new RuntimeException("At least " + this.dimension + " points are needed to fit a plane!");
+        }
+        Vector norm = covariance().symmetricEigen().eigenvector(0);
+        return new Plane(mean(), norm);
+    }
+
+    /**
+     * Finds the line that minimizes the sum of the squared distances to every point seen
+     *
+     * @return A line through the mean with a unit direction
+     */
+    public Line bestFitLine(){
+        if(this.count < 2){
+            throw new RuntimeException("At least 2 points are needed to fit a line!");
+        }
+        Vector direction = covariance().symmetricEigen().eigenvector(this.dimension - 1);
+        return new Line(mean(), direction);
+    }
+}
@@ -0,0 +1,307 @@
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Robust geometric predicates that always give the sign an exact calculation would
+ *
+ * Each predicate first evaluates its determinant in plain double arithmetic together with a bound on the rounding
+ * error, following Shewchuk's "Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric Predicates".
+ * When the result is farther from zero than the bound its sign is already certain and it is returned straight away,
+ * which is almost always. Otherwise the determinant is recomputed exactly as a floating point expansion, a sum of
+ * non overlapping doubles built with error free twoSum and twoProduct (via Math.fma) steps, whose sign is the sign of
+ * its largest component.
+ *
+ * The returned values have the correct sign and approximately the right magnitude. Like Shewchuk's predicates the
+ * error bounds assume no intermediate product underflows, which only matters for coordinates below about 1e-150.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public final class Predicates
+{
+    /** Half an ulp of 1, the relative error of one rounded operation */
+    private static final double EPSILON = 0x1p-53;
+
+    private static final double ORIENT2D_BOUND = (3 + 16 * EPSILON) * EPSILON;
+    private static final double ORIENT3D_BOUND = (7 + 56 * EPSILON) * EPSILON;
+
+    private Predicates(){
+    }
+
+    /**
+     * Finds which way the triangle a, b, c turns
+     *
+     * @return A positive value if a, b, c are in counter clockwise order, negative if clockwise and 0 if they are
+     *         collinear, about twice the signed area of the triangle
+     */
+    public static double orient2d(double ax, double ay, double bx, double by, double cx, double cy){
+        double detLeft = (ax - cx) * (by - cy);
+        double detRight = (ay - cy) * (bx - cx);
+        double det = detLeft - detRight;
+
+        double detSum;
+        if(detLeft > 0){
+            if(detRight <= 0){
+                return det;
+            }
+            detSum = detLeft + detRight;
+        }
+        else if(detLeft < 0){
+            if(detRight >= 0){
+                return det;
+            }
+            detSum = -detLeft - detRight;
+        }
+        else{
+            return det;
+        }
+
+        double bound = ORIENT2D_BOUND * detSum;
+        if(det >= bound || -det >= bound){
+            return det;
+        }
+        return orient2dExact(ax, ay, bx, by, cx, cy);
+    }
+
+    public static double orient2d(Point2 a, Point2 b, Point2 c){
+        return orient2d(a.x, a.y, b.x, b.y, c.x, c.y);
+    }
+
+    private static double orient2dExact(double ax, double ay, double bx, double by, double cx, double cy){
+        Expansion det = new Expansion();
+        det.addProduct(difference(ax, cx), difference(by, cy), 1);
+        det.addProduct(difference(ay, cy), difference(bx, cx), -1);
+        return det.estimate();
+    }
+
+    /**
+     * Finds which side of the plane through a, b and c the point d is on
+     *
+     * @return A positive value if d is below the plane, where a, b, c appear counter clockwise when seen from above,
+     *         negative if it is above and 0 if the four points are coplanar, about six times the signed volume of the
+     *         tetrahedron
+     */
+    public static double orient3d(double ax, double ay, double az, double bx, double by, double bz,
+                                  double cx, double cy, double cz, double dx, double dy, double dz){
+        double adx = ax - dx, bdx = bx - dx, cdx = cx - dx;
+        double ady = ay - dy, bdy = by - dy, cdy = cy - dy;
+        double adz = az - dz, bdz = bz - dz, cdz = cz - dz;
+
+        double bdxcdy = bdx * cdy, cdxbdy = cdx * bdy;
+        double cdxady = cdx * ady, adxcdy = adx * cdy;
+        double adxbdy = adx * bdy, bdxady = bdx * ady;
+
+        double det = adz * (bdxcdy - cdxbdy) + bdz * (cdxady - adxcdy) + cdz * (adxbdy - bdxady);
+        double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * Math.abs(adz)
+            + (Math.abs(cdxady) + Math.abs(adxcdy)) * Math.abs(bdz)
+            + (Math.abs(adxbdy) + Math.abs(bdxady)) * Math.abs(cdz);
+
+        double bound = ORIENT3D_BOUND * permanent;
+        if(det > bound || -det > bound){
+            return det;
+        }
+        return orient3dExact(ax, ay, az, bx, by, bz, cx, cy, cz, dx, dy, dz);
+    }
+
+    public static double orient3d(Point3 a, Point3 b, Point3 c, Point3 d){
+        return orient3d(a.x, a.y, a.z, b.x, b.y, b.z, c.x, c.y, c.z, d.x, d.y, d.z);
+    }
+
+    private static double orient3dExact(double ax, double ay, double az, double bx, double by, double bz,
+                                        double cx, double cy, double cz, double dx, double dy, double dz){
+        double [] adx = difference(ax, dx), bdx = difference(bx, dx), cdx = difference(cx, dx);
+        double [] ady = difference(ay, dy), bdy = difference(by, dy), cdy = difference(cy, dy);
+        double [] adz = difference(az, dz), bdz = difference(bz, dz), cdz = difference(cz, dz);
+
+        Expansion det = new Expansion();
+        det.addProduct(adz, bdx, cdy, 1);
+        det.addProduct(adz, cdx, bdy, -1);
+        det.addProduct(bdz, cdx, ady, 1);
+        det.addProduct(bdz, adx, cdy, -1);
+        det.addProduct(cdz, adx, bdy, 1);
+        det.addProduct(cdz, bdx, ady, -1);
+        return det.estimate();
+    }
+
+    /**
+     * Finds which side of a plane a point is on, exactly for the plane's point and norm as stored
+     *
+     * @return 1 if the point is on the side norm points to, -1 if it is on the other side and 0 if it is on the plane
+     */
+    public static int side(Plane plane, Point point){
+        plane.checkDimension(point);
+        return side(plane.point.coordinates, plane.norm.components, point.coordinates, 0);
+    }
+
+    /**
+     * Sign of norm . (x - point) for a point x stored at offset in coordinates
+     */
+    static int side(double [] point, double [] norm, double [] coordinates, int offset){
+        int dimension = norm.length;
+        double dot = 0;
+        double permanent = 0;
+        for(int i = 0; i < dimension; i++){
+            double term = norm[i] * (coordinates[offset + i] - point[i]);
+            dot += term;
+            permanent += Math.abs(term);
+        }
+
+        // each term carries two roundings and the sum up to dimension - 1 more, (dimension + 4) covers them all
+        double bound = (dimension + 4) * EPSILON * permanent;
+        if(dot > bound){
+            return 1;
+        }
+        else if(-dot > bound){
+            return -1;
+        }
+
+        Expansion exact = new Expansion();
+        for(int i = 0; i < dimension; i++){
+            double [] difference = difference(coordinates[offset + i], point[i]);
+            exact.addProduct(norm[i], difference[0]);
+            exact.addProduct(norm[i], difference[1]);
+        }
+        return exact.sign();
+    }
+
+    /**
+     * Sign of norm . (x - point) for a point x stored at offset in a buffer, such as a memory mapped file
+     */
+    static int side(double [] point, double [] norm, DoubleBuffer coordinates, int offset){
+        int dimension = norm.length;
+        double dot = 0;
+        double permanent = 0;
+        for(int i = 0; i < dimension; i++){
+            double term = norm[i] * (coordinates.get(offset + i) - point[i]);
+            dot += term;
+            permanent += Math.abs(term);
+        }
+
+        double bound = (dimension + 4) * EPSILON * permanent;
+        if(dot > bound){
+            return 1;
+        }
+        else if(-dot > bound){
+            return -1;
+        }
+        double [] copy = new double[dimension];
+        coordinates.get(offset, copy);
+        return side(point, norm, copy, 0);
+    }
+
+    /**
+     * Checks exactly whether three points lie on one line
+     *
+     * @return true if a, b and c are collinear, including when any of them are equal
+     */
+    public static boolean collinear(Point a, Point b, Point c){
+        a.checkDimension(b);
+        a.checkDimension(c);
+        // the points are collinear when b - a and c - a are parallel, so every 2x2 minor of the pair is 0
+        for(int i = 0; i < a.dimension; i++){
+            for(int j = i + 1; j < a.dimension; j++){
+                double orientation = orient2d(a.coordinates[i], a.coordinates[j], b.coordinates[i],
+                    b.coordinates[j], c.coordinates[i], c.coordinates[j]);
+                if(orientation != 0){
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exact difference a - b as {rounding error, rounded difference}
+     */
+    private static double[] difference(double a, double b){
+        double x = a - b;
+        double bVirtual = a - x;
+        double aVirtual = x + bVirtual;
+        double error = (a - aVirtual) + (bVirtual - b);
+        return new double[] {error, x};
+    }
+
+    /**
+     * Growable floating point expansion, a sum of non overlapping doubles kept in increasing order of magnitude
+     */
+    private static class Expansion{
+        private double [] components = new double[16];
+        private int length;
+
+        /**
+         * Adds a double exactly, Shewchuk's Grow-Expansion with zero elimination
+         */
+        void add(double value){
+            if(this.length == this.components.length){
+                this.components = Arrays.copyOf(this.components, this.length * 2);
+            }
+            double q = value;
+            int out = 0;
+            for(int i = 0; i < this.length; i++){
+                double e = this.components[i];
+                double sum = q + e;
+                double eVirtual = sum - q;
+                double error = (q - (sum - eVirtual)) + (e - eVirtual);
+                q = sum;
+                if(error != 0){
+                    this.components[out++] = error;
+                }
+            }
+            if(q != 0){
+                this.components[out++] = q;
+            }
+            this.length = out;
+        }
+
+        /**
+         * Adds the product a * b exactly
+         */
+        void addProduct(double a, double b){
+            double product = a * b;
+            add(Math.fma(a, b, -product));
+            add(product);
+        }
+
+        /**
+         * Adds sign * a * b exactly, where a and b are two component expansions
+         */
+        void addProduct(double [] a, double [] b, double sign){
+            for(double x: a){
+                for(double y: b){
+                    addProduct(x, sign * y);
+                }
+            }
+        }
+
+        /**
+         * Adds sign * a * b * c exactly, where a, b and c are two component expansions
+         */
+        void addProduct(double [] a, double [] b, double [] c, double sign){
+            for(double x: a){
+                for(double y: b){
+                    double product = x * y;
+                    double error = Math.fma(x, y, -product);
+                    for(double z: c){
+                        addProduct(product, sign * z);
+                        addProduct(error, sign * z);
+                    }
+                }
+            }
+        }
+
+        int sign(){
+            return this.length == 0 ? 0 : (int) Math.signum(this.components[this.length - 1]);
+        }
+
+        /**
+         * Approximates the value of the expansion, with the same sign as its exact value
+         */
+        double estimate(){
+            double sum = 0;
+            for(int i = 0; i < this.length; i++){
+                sum += this.components[i];
+            }
+            return Math.signum(sum) == sign() ? sum : this.components[this.length - 1];
+        }
+    }
+}
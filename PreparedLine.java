@@ -0,0 +1,166 @@
+
+/**
+ * A Line with its unit direction and anchor cached so it can be queried against many points without allocating
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PreparedLine extends EuclideanObject
+{
+    public final Line line;
+
+    private final double [] anchor;
+    private final double [] unitDirection;
+    private final double inverseMagnitude;
+
+    /**
+     * Prepares a line for repeated queries
+     *
+     * @param line The line to prepare, its direction must not be the zero vector
+     */
+    public PreparedLine(Line line){
+        super(line);
+        if(line.direction.magnitude == 0){
+            throw new RuntimeException("A line needs a non zero direction vector!");
+        }
+        this.line = line;
+        this.anchor = line.point.coordinates.clone();
+        this.inverseMagnitude = 1 / line.direction.magnitude;
+        this.unitDirection = line.direction.multiplyInto(this.inverseMagnitude, new double[this.dimension]);
+    }
+
+    /**
+     * Calculates the distance from the line to a point
+     *
+     * @param other The point to calculate distance to
+     *
+     * @return The distance from the line to the point
+     */
+    public double distance(Point other){
+        return Math.sqrt(distanceSquared(other));
+    }
+
+    /**
+     * Calculates the square of the distance from the line to a point, avoiding the square root
+     *
+     * @param other The point to calculate distance to
+     *
+     * @return The squared distance from the line to the point
+     */
+    public double distanceSquared(Point other){
+        checkDimension(other);
+        return distanceSquared(other.coordinates, 0);
+    }
+
+    /**
+     * Finds how far along the line the closest point to other is, in the same units as the t in the line's equations
+     *
+     * @param other The point to locate
+     *
+     * @return The value of t where r(t) is closest to other
+     */
+    public double parameterOf(Point other){
+        checkDimension(other);
+        return along(other.coordinates, 0) * this.inverseMagnitude;
+    }
+
+    /**
+     * Finds the point on the line closest to another point
+     *
+     * @param other The point to project onto the line
+     *
+     * @return The point on the line closest to other
+     */
+    public Point closestPoint(Point other){
+        checkDimension(other);
+        return new Point(closestPointInto(other, new double[this.dimension]));
+    }
+
+    /**
+     * Writes the coordinates of the point on the line closest to another point into an existing buffer
+     *
+     * @param other The point to project onto the line
+     * @param result The array to write the coordinates into
+     *
+     * @return The result array
+     */
+    public double[] closestPointInto(Point other, double [] result){
+        checkDimension(other);
+        double along = along(other.coordinates, 0);
+        for(int i = 0; i < this.dimension; i++){
+            result[i] = this.anchor[i] + along * this.unitDirection[i];
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the distance from the line to every point in a batch
+     *
+     * @param points The points to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(PointBatch points, double [] result){
+        checkDimension(points);
+        points.checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("PreparedLine.distance", this.dimension, points.size);
+        for(int i = 0; i < points.size; i++){
+            result[i] = Math.sqrt(distanceSquared(points.data, i * this.dimension));
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the distance from the line to every point in an array
+     *
+     * @param points The points to calculate distance to
+     * @param result The array to write the distances into
+     */
+    public void distance(Point [] points, double [] result){
+        if(result.length < points.length){
+            throw new RuntimeException("Result array must have room for every point!");
+        }
+        for(int i = 0; i < points.length; i++){
+            result[i] = distance(points[i]);
+        }
+    }
+
+    /**
+     * Finds the parameter of the closest point on the line for every point in a batch
+     *
+     * @param points The points to locate
+     * @param result The array to write the parameters into
+     */
+    public void parameterOf(PointBatch points, double [] result){
+        checkDimension(points);
+        points.checkLength(result);
+        for(int i = 0; i < points.size; i++){
+            result[i] = along(points.data, i * this.dimension) * this.inverseMagnitude;
+        }
+    }
+
+    /**
+     * Signed length of the projection of (point - anchor) onto the unit direction
+     */
+    private double along(double [] coordinates, int offset){
+        double sum = 0;
+        for(int i = 0; i < this.dimension; i++){
+            sum += (coordinates[offset + i] - this.anchor[i]) * this.unitDirection[i];
+        }
+        return sum;
+    }
+
+    double distanceSquared(double [] coordinates, int offset){
+        // subtract the projection explicitly instead of using |v|^2 - along^2, which cancels badly for far points
+        double along = along(coordinates, offset);
+        double sum = 0;
+        for(int i = 0; i < this.dimension; i++){
+            double rejection = coordinates[offset + i] - this.anchor[i] - along * this.unitDirection[i];
+            sum += rejection * rejection;
+        }
+        return sum;
+    }
+
+    public String toString(){
+        return this.line.toString();
+    }
+}
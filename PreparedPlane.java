@@ -0,0 +1,311 @@
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A Plane stored as a unit normal and offset, n . x = d, for classifying many points against it
+ *
+ * The bulk methods split their input into chunks and run them on a ForkJoinPool once the input is large enough to
+ * be worth it. Points within epsilon of the plane are classified as ON. With the default epsilon of 0 the side is
+ * decided by Predicates against the plane's original point and norm, so points exactly on the plane come out ON and
+ * the rest are never put on the wrong side, at close to the cost of the plain signed distance.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class PreparedPlane extends EuclideanObject
+{
+    public static final byte BELOW = -1;
+    public static final byte ON = 0;
+    public static final byte ABOVE = 1;
+
+    public final Plane plane;
+    public final double epsilon;
+
+    private final double [] unitNormal;
+    private final double offset;
+    private final ForkJoinPool pool;
+
+    /**
+     * Prepares a plane for classification with no tolerance, using the common pool for bulk methods
+     *
+     * @param plane The plane to prepare, its norm must not be the zero vector
+     */
+    public PreparedPlane(Plane plane){
+        this(plane, 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares a plane for classification
+     *
+     * @param plane The plane to prepare, its norm must not be the zero vector
+     * @param epsilon Points with an absolute signed distance up to epsilon count as ON the plane
+     * @param pool The pool to run bulk methods on
+     */
+    public PreparedPlane(Plane plane, double epsilon, ForkJoinPool pool){
+        super(plane);
+        if(plane.norm.magnitude == 0){
+            throw new RuntimeException("A plane needs a non zero norm vector!");
+        }
+        this.plane = plane;
+        this.epsilon = epsilon;
+        this.pool = pool;
+        this.unitNormal = plane.norm.normalizeInto(new double[this.dimension]);
+        this.offset = plane.offset() / plane.norm.magnitude;
+    }
+
+    /**
+     * Computes the offset of the plane along its unit normal, the d in n . x = d when n has length 1
+     *
+     * @return The signed distance from the origin to the plane
+     */
+    public double offset(){
+        return this.offset;
+    }
+
+    /**
+     * Computes the signed distance between the plane and a point
+     *
+     * @param other The point to calculate distance to
+     *
+     * @return The distance between the plane and the point, positive when the point is on the side norm points to
+     */
+    public double signedDistance(Point other){
+        checkDimension(other);
+        return signedDistance(other.coordinates, 0);
+    }
+
+    /**
+     * Computes the distance between the plane and a point
+     *
+     * @param other The point to calculate distance to
+     *
+     * @return The distance between the plane and a point
+     */
+    public double distance(Point other){
+        return Math.abs(signedDistance(other));
+    }
+
+    /**
+     * Finds which side of the plane a point is on
+     *
+     * @param other The point to classify
+     *
+     * @return ABOVE if the point is on the side norm points to, BELOW if it is on the other side, ON otherwise
+     */
+    public byte side(Point other){
+        checkDimension(other);
+        return side(other.coordinates, 0);
+    }
+
+    /**
+     * Computes the signed distance from the plane to every point in a batch
+     *
+     * @param points The points to calculate distance to
+     * @param result The array to write the signed distances into
+     */
+    public void signedDistance(PointBatch points, double [] result){
+        checkDimension(points);
+        points.checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("PreparedPlane.signedDistance", this.dimension, points.size);
+        Chunks.forEach(this.pool, points.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            for(int i = from; i < to; i++){
+                result[i] = signedDistance(points.data, i * this.dimension);
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    /**
+     * Finds which side of the plane every point in a batch is on
+     *
+     * @param points The points to classify
+     * @param sides The array to write BELOW, ON or ABOVE into for each point
+     */
+    public void classify(PointBatch points, byte [] sides){
+        checkDimension(points);
+        checkLength(points.size, sides.length);
+        Metrics.BulkEvent event = Metrics.beginBulk("PreparedPlane.classify", this.dimension, points.size);
+        Chunks.forEach(this.pool, points.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            for(int i = from; i < to; i++){
+                sides[i] = side(points.data, i * this.dimension);
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    /**
+     * Finds which side of the plane every point in an array is on
+     *
+     * @param points The points to classify
+     * @param sides The array to write BELOW, ON or ABOVE into for each point
+     */
+    public void classify(Point [] points, byte [] sides){
+        checkLength(points.length, sides.length);
+        Chunks.forEach(this.pool, points.length, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            for(int i = from; i < to; i++){
+                sides[i] = side(points[i]);
+            }
+        });
+    }
+
+    /**
+     * Counts how many points in a batch are on each side of the plane
+     *
+     * @param points The points to classify
+     *
+     * @return The number of points {BELOW, ON, ABOVE} the plane
+     */
+    public long[] count(PointBatch points){
+        checkDimension(points);
+        int [] chunkCounts = new int[Chunks.count(points.size, Chunks.DEFAULT_SIZE) * 3];
+        Chunks.forEach(this.pool, points.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int base = chunk * 3;
+            for(int i = from; i < to; i++){
+                chunkCounts[base + 1 + side(points.data, i * this.dimension)]++;
+            }
+        });
+        return sumCounts(chunkCounts);
+    }
+
+    /**
+     * Counts how many points in an array are on each side of the plane
+     *
+     * @param points The points to classify
+     *
+     * @return The number of points {BELOW, ON, ABOVE} the plane
+     */
+    public long[] count(Point [] points){
+        int [] chunkCounts = new int[Chunks.count(points.length, Chunks.DEFAULT_SIZE) * 3];
+        Chunks.forEach(this.pool, points.length, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int base = chunk * 3;
+            for(int i = from; i < to; i++){
+                chunkCounts[base + 1 + side(points[i])]++;
+            }
+        });
+        return sumCounts(chunkCounts);
+    }
+
+    /**
+     * Splits the indices of a batch of points by which side of the plane they are on
+     *
+     * @param points The points to classify
+     *
+     * @return Three ascending arrays of indices into points, {BELOW, ON, ABOVE}
+     */
+    public int[][] partition(PointBatch points){
+        byte [] sides = new byte[points.size];
+        classify(points, sides);
+        return partition(sides);
+    }
+
+    /**
+     * Splits the indices of an array of points by which side of the plane they are on
+     *
+     * @param points The points to classify
+     *
+     * @return Three ascending arrays of indices into points, {BELOW, ON, ABOVE}
+     */
+    public int[][] partition(Point [] points){
+        byte [] sides = new byte[points.length];
+        classify(points, sides);
+        return partition(sides);
+    }
+
+    private int[][] partition(byte [] sides){
+        int chunks = Chunks.count(sides.length, Chunks.DEFAULT_SIZE);
+        int [] chunkCounts = new int[chunks * 3];
+        Chunks.forEach(this.pool, sides.length, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int base = chunk * 3;
+            for(int i = from; i < to; i++){
+                chunkCounts[base + 1 + sides[i]]++;
+            }
+        });
+
+        // turn the per chunk counts into the position each chunk starts writing at
+        int [] totals = new int[3];
+        for(int chunk = 0; chunk < chunks; chunk++){
+            for(int side = 0; side < 3; side++){
+                int count = chunkCounts[chunk * 3 + side];
+                chunkCounts[chunk * 3 + side] = totals[side];
+                totals[side] += count;
+            }
+        }
+
+        int [][] result = {new int[totals[0]], new int[totals[1]], new int[totals[2]]};
+        Chunks.forEach(this.pool, sides.length, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int base = chunk * 3;
+            int [] next = {chunkCounts[base], chunkCounts[base + 1], chunkCounts[base + 2]};
+            for(int i = from; i < to; i++){
+                int side = 1 + sides[i];
+                result[side][next[side]++] = i;
+            }
+        });
+        return result;
+    }
+
+    double signedDistance(double [] coordinates, int offset){
+        return VectorKernels.dot(this.unitNormal, 0, coordinates, offset, this.dimension) - this.offset;
+    }
+
+    /**
+     * Signed distance to a point stored in a buffer, for callers reading points straight out of memory mapped files
+     */
+    double signedDistance(DoubleBuffer coordinates, int offset){
+        double dot = 0;
+        for(int i = 0; i < this.dimension; i++){
+            dot += this.unitNormal[i] * coordinates.get(offset + i);
+        }
+        return dot - this.offset;
+    }
+
+    /**
+     * Finds which side of the plane a point stored at offset in coordinates is on
+     */
+    byte side(double [] coordinates, int offset){
+        if(this.epsilon == 0){
+            return (byte) Predicates.side(this.plane.point.coordinates, this.plane.norm.components, coordinates, offset);
+        }
+        return classify(signedDistance(coordinates, offset));
+    }
+
+    /**
+     * Finds which side of the plane a point stored at offset in a buffer is on
+     */
+    byte side(DoubleBuffer coordinates, int offset){
+        if(this.epsilon == 0){
+            return (byte) Predicates.side(this.plane.point.coordinates, this.plane.norm.components, coordinates, offset);
+        }
+        return classify(signedDistance(coordinates, offset));
+    }
+
+    /**
+     * Converts a signed distance into BELOW, ON or ABOVE using this plane's epsilon
+     */
+    byte classify(double signedDistance){
+        if(signedDistance > this.epsilon){
+            return ABOVE;
+        }
+        else if(signedDistance < -this.epsilon){
+            return BELOW;
+        }
+        return ON;
+    }
+
+    private static long[] sumCounts(int [] chunkCounts){
+        long [] totals = new long[3];
+        for(int i = 0; i < chunkCounts.length; i++){
+            totals[i % 3] += chunkCounts[i];
+        }
+        return totals;
+    }
+
+    private static void checkLength(int size, int length){
+        if(length < size){
+            throw new RuntimeException("Result array must have room for every point!");
+        }
+    }
+
+    public String toString(){
+        return this.plane.linearEquation();
+    }
+}
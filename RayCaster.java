@@ -0,0 +1,619 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Casts rays against a fixed scene of triangles in 3 dimensions and finds the nearest triangle each ray hits
+ *
+ * A ray is a Line followed forward from its point, so it hits a triangle at r(t) for some t >= 0. The triangles are
+ * sorted into a bounding volume hierarchy when the caster is built, split with the surface area heuristic over a
+ * small number of bins, so a ray only tests the triangles in the boxes it passes through and the cost of a ray grows
+ * roughly with the logarithm of the scene size rather than with the scene size. The tree is flattened into arrays in
+ * depth first order and the triangles are copied next to each other in tree order with their edges precomputed, so
+ * tracing does not allocate or chase pointers.
+ *
+ * The batch methods split the rays into chunks and trace them in parallel on a ForkJoinPool. A caster never changes
+ * after it is built and may be used from several threads at once.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class RayCaster extends EuclideanObject
+{
+    /** Most triangles a leaf is allowed to hold before it must be split */
+    private static final int MAX_LEAF_SIZE = 4;
+
+    /** Number of bins candidate splits are evaluated over */
+    private static final int BINS = 16;
+
+    /** Cost of visiting a node relative to testing one triangle */
+    private static final double TRAVERSAL_COST = 1;
+
+    /** Deepest a tree can get, the build falls back to median splits long before this */
+    private static final int MAX_DEPTH = 64;
+
+    /**
+     * The nearest hit of a ray
+     */
+    public static class Hit{
+        /** Index of the triangle that was hit, in the order the triangles were given */
+        public final int triangle;
+
+        /** The value of t in the ray's equations where it hits the triangle */
+        public final double t;
+
+        /** The point where the ray hits the triangle */
+        public final Point point;
+
+        Hit(int triangle, double t, Point point){
+            this.triangle = triangle;
+            this.t = t;
+            this.point = point;
+        }
+    }
+
+    public final int size;
+
+    /** Each triangle in tree order as its first corner and the two edges leaving it, 9 values per triangle */
+    private final double [] triangles;
+
+    /** The index each triangle had in the input, in tree order */
+    private final int [] originalIndex;
+
+    /** Bounding box of each node as minX, minY, minZ, maxX, maxY, maxZ */
+    private final double [] bounds;
+
+    /** For a leaf the first triangle it holds, for an interior node the index of its second child */
+    private final int [] nodeStart;
+
+    /** The number of triangles in a leaf, 0 for interior nodes whose first child is the next node */
+    private final int [] nodeCount;
+
+    private final int nodes;
+    private final ForkJoinPool pool;
+
+    /**
+     * Builds a caster for a triangle mesh, using the common pool for batch methods
+     *
+     * @param vertices The corners of the triangles, all 3 dimensional
+     * @param triangles Three vertex indices for each triangle
+     */
+    public RayCaster(PointBatch vertices, int [] triangles){
+        this(vertices, triangles, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds a caster for a triangle mesh
+     *
+     * @param vertices The corners of the triangles, all 3 dimensional
+     * @param triangles Three vertex indices for each triangle
+     * @param pool The pool to run batch methods on
+     */
+    public RayCaster(PointBatch vertices, int [] triangles, ForkJoinPool pool){
+        super(3);
+        checkDimension(vertices);
+        if(triangles.length % 3 != 0){
+            throw new RuntimeException("Every triangle needs exactly three vertex indices!");
+        }
+        this.size = triangles.length / 3;
+        this.pool = pool;
+
+        double [] corners = new double[this.size * 9];
+        for(int i = 0; i < triangles.length; i++){
+            if(triangles[i] < 0 || triangles[i] >= vertices.size){
+                throw new RuntimeException("Vertex " + triangles[i] + " is outside of the vertex batch!");
+            }
+            System.arraycopy(vertices.data, triangles[i] * 3, corners, i * 3, 3);
+        }
+
+        Builder builder = new Builder(corners, this.size);
+        if(this.size > 0){
+            builder.build(0, this.size, 0);
+        }
+        this.nodes = builder.nodes;
+        this.bounds = builder.bounds;
+        this.nodeStart = builder.nodeStart;
+        this.nodeCount = builder.nodeCount;
+        this.originalIndex = builder.order;
+
+        this.triangles = new double[this.size * 9];
+        for(int i = 0; i < this.size; i++){
+            int from = this.originalIndex[i] * 9;
+            int to = i * 9;
+            for(int axis = 0; axis < 3; axis++){
+                double corner = corners[from + axis];
+                this.triangles[to + axis] = corner;
+                this.triangles[to + 3 + axis] = corners[from + 3 + axis] - corner;
+                this.triangles[to + 6 + axis] = corners[from + 6 + axis] - corner;
+            }
+        }
+    }
+
+    /**
+     * Finds the nearest triangle a ray hits
+     *
+     * @param ray The ray to cast, starting at its point and going along its direction
+     *
+     * @return The nearest hit, or null if the ray misses every triangle
+     */
+    public Hit trace(Line ray){
+        checkDimension(ray);
+        double [] nearest = {Double.POSITIVE_INFINITY};
+        int triangle = trace(ray.point.coordinates, 0, ray.direction.components, 0, new int[MAX_DEPTH],
+            new double[MAX_DEPTH], nearest);
+        if(triangle < 0){
+            return null;
+        }
+        return new Hit(triangle, nearest[0], ray.pointAt(nearest[0]));
+    }
+
+    /**
+     * Checks whether a ray hits any triangle before it has gone a given distance along its equations
+     *
+     * @param ray The ray to cast, starting at its point and going along its direction
+     * @param maxT The largest value of t to count a hit at
+     *
+     * @return true if the ray hits a triangle at some t from 0 up to but not including maxT
+     */
+    public boolean hitsBefore(Line ray, double maxT){
+        checkDimension(ray);
+        double [] nearest = {maxT};
+        return trace(ray.point.coordinates, 0, ray.direction.components, 0, new int[MAX_DEPTH], new double[MAX_DEPTH],
+            nearest) >= 0;
+    }
+
+    /**
+     * Finds the nearest triangle every ray in a batch hits, in parallel
+     *
+     * @param origins The point each ray starts at
+     * @param directions The direction of each ray
+     * @param hitTriangles The array to write the index of each ray's nearest triangle into, -1 for a miss
+     * @param hitParameters The array to write the t of each ray's nearest hit into, positive infinity for a miss
+     */
+    public void trace(PointBatch origins, VectorBatch directions, int [] hitTriangles, double [] hitParameters){
+        checkDimension(origins);
+        checkDimension(directions);
+        if(origins.size != directions.size){
+            throw new RuntimeException("Every ray needs both an origin and a direction!");
+        }
+        if(hitTriangles.length < origins.size || hitParameters.length < origins.size){
+            throw new RuntimeException("Result arrays must have room for every ray in the batch!");
+        }
+        Metrics.BulkEvent event = Metrics.beginBulk("RayCaster.trace", this.dimension, origins.size);
+        Chunks.forEach(this.pool, origins.size, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int [] stack = new int[MAX_DEPTH];
+            double [] entries = new double[MAX_DEPTH];
+            double [] nearest = new double[1];
+            for(int i = from; i < to; i++){
+                nearest[0] = Double.POSITIVE_INFINITY;
+                hitTriangles[i] = trace(origins.data, i * 3, directions.data, i * 3, stack, entries, nearest);
+                hitParameters[i] = nearest[0];
+            }
+        });
+        Metrics.commit(event);
+    }
+
+    /**
+     * Finds the nearest triangle every ray hits, in parallel
+     *
+     * @param rays The rays to cast
+     *
+     * @return The nearest hit of each ray, null where a ray misses every triangle
+     */
+    public Hit[] trace(Line [] rays){
+        Hit [] hits = new Hit[rays.length];
+        Metrics.BulkEvent event = Metrics.beginBulk("RayCaster.trace", this.dimension, rays.length);
+        Chunks.forEach(this.pool, rays.length, Chunks.DEFAULT_SIZE, (chunk, from, to) -> {
+            int [] stack = new int[MAX_DEPTH];
+            double [] entries = new double[MAX_DEPTH];
+            double [] nearest = new double[1];
+            for(int i = from; i < to; i++){
+                Line ray = rays[i];
+                checkDimension(ray);
+                nearest[0] = Double.POSITIVE_INFINITY;
+                int triangle = trace(ray.point.coordinates, 0, ray.direction.components, 0, stack, entries, nearest);
+                if(triangle >= 0){
+                    hits[i] = new Hit(triangle, nearest[0], ray.pointAt(nearest[0]));
+                }
+            }
+        });
+        Metrics.commit(event);
+        return hits;
+    }
+
+    /**
+     * Walks the tree nearest child first, skipping every box the ray misses or only reaches past the nearest hit
+     *
+     * @param nearest Holds the largest t to accept on entry and the t of the nearest hit on return
+     *
+     * @return The input index of the nearest triangle hit, or -1 if there was none
+     */
+    private int trace(double [] origin, int originOffset, double [] direction, int directionOffset, int [] stack,
+                      double [] entries, double [] nearest){
+        if(this.nodes == 0){
+            return -1;
+        }
+        double ox = origin[originOffset], oy = origin[originOffset + 1], oz = origin[originOffset + 2];
+        double dx = direction[directionOffset];
+        double dy = direction[directionOffset + 1];
+        double dz = direction[directionOffset + 2];
+        double ix = inverse(dx), iy = inverse(dy), iz = inverse(dz);
+
+        double best = nearest[0];
+        int found = -1;
+        int top = 0;
+        int node = 0;
+        while(true){
+            int count = this.nodeCount[node];
+            if(count > 0){
+                int first = this.nodeStart[node];
+                for(int i = first; i < first + count; i++){
+                    double t = intersect(i, ox, oy, oz, dx, dy, dz, best);
+                    if(t < best){
+                        best = t;
+                        found = i;
+                    }
+                }
+            }
+            else{
+                int left = node + 1;
+                int right = this.nodeStart[node];
+                double leftEntry = entry(left, ox, oy, oz, ix, iy, iz, best);
+                double rightEntry = entry(right, ox, oy, oz, ix, iy, iz, best);
+                if(leftEntry <= rightEntry){
+                    if(rightEntry != Double.POSITIVE_INFINITY){
+                        entries[top] = rightEntry;
+                        stack[top++] = right;
+                    }
+                    if(leftEntry != Double.POSITIVE_INFINITY){
+                        node = left;
+                        continue;
+                    }
+                }
+                else{
+                    if(leftEntry != Double.POSITIVE_INFINITY){
+                        entries[top] = leftEntry;
+                        stack[top++] = left;
+                    }
+                    node = right;
+                    continue;
+                }
+            }
+            // boxes pushed before a nearer hit was found may now start beyond it
+            do{
+                top--;
+            }
+            while(top >= 0 && entries[top] >= best);
+            if(top < 0){
+                break;
+            }
+            node = stack[top];
+        }
+
+        nearest[0] = best;
+        return found < 0 ? -1 : this.originalIndex[found];
+    }
+
+    /**
+     * Gives 1 / d, or the largest double with the sign of d when d is 0
+     *
+     * Keeping the inverse finite means a box edge exactly in line with the ray gives 0 rather than 0 * infinity, so
+     * the slab test never sees NaN and a ray parallel to a slab is inside it exactly when its origin is.
+     */
+    private static double inverse(double d){
+        double inverse = 1 / d;
+        return Double.isInfinite(inverse) ? Math.copySign(Double.MAX_VALUE, d) : inverse;
+    }
+
+    /**
+     * Finds where a ray enters a node's box
+     *
+     * @return The t the ray enters the box at, or positive infinity if it misses the box or enters it after maxT
+     */
+    private double entry(int node, double ox, double oy, double oz, double ix, double iy, double iz, double maxT){
+        int b = node * 6;
+        double x0 = (this.bounds[b] - ox) * ix, x1 = (this.bounds[b + 3] - ox) * ix;
+        double y0 = (this.bounds[b + 1] - oy) * iy, y1 = (this.bounds[b + 4] - oy) * iy;
+        double z0 = (this.bounds[b + 2] - oz) * iz, z1 = (this.bounds[b + 5] - oz) * iz;
+        // plain comparisons instead of Math.min and Math.max, which pay for NaN and -0.0 handling not needed here
+        double near = x0 < x1 ? x0 : x1;
+        double far = x0 < x1 ? x1 : x0;
+        double lo = y0 < y1 ? y0 : y1;
+        double hi = y0 < y1 ? y1 : y0;
+        near = lo > near ? lo : near;
+        far = hi < far ? hi : far;
+        lo = z0 < z1 ? z0 : z1;
+        hi = z0 < z1 ? z1 : z0;
+        near = lo > near ? lo : near;
+        far = hi < far ? hi : far;
+        near = near > 0 ? near : 0;
+        far = far < maxT ? far : maxT;
+        return near <= far ? near : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Intersects a ray with one triangle using the Moller-Trumbore test
+     *
+     * @return The t of the hit, or positive infinity if the ray misses the triangle or hits it at or after maxT
+     */
+    private double intersect(int triangle, double ox, double oy, double oz, double dx, double dy, double dz,
+                             double maxT){
+        int base = triangle * 9;
+        double [] v = this.triangles;
+        double e1x = v[base + 3], e1y = v[base + 4], e1z = v[base + 5];
+        double e2x = v[base + 6], e2y = v[base + 7], e2z = v[base + 8];
+
+        double px = dy * e2z - dz * e2y;
+        double py = dz * e2x - dx * e2z;
+        double pz = dx * e2y - dy * e2x;
+        double determinant = e1x * px + e1y * py + e1z * pz;
+        if(determinant == 0){
+            return Double.POSITIVE_INFINITY;  // the ray is parallel to the triangle's plane
+        }
+        double inverse = 1 / determinant;
+
+        double sx = ox - v[base], sy = oy - v[base + 1], sz = oz - v[base + 2];
+        double u = (sx * px + sy * py + sz * pz) * inverse;
+        if(u < 0 || u > 1){
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double qx = sy * e1z - sz * e1y;
+        double qy = sz * e1x - sx * e1z;
+        double qz = sx * e1y - sy * e1x;
+        double w = (dx * qx + dy * qy + dz * qz) * inverse;
+        if(w < 0 || u + w > 1){
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double t = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+        return t >= 0 && t < maxT ? t : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Builds the flattened tree, reordering triangle indices so every leaf holds a contiguous range
+     */
+    private static class Builder{
+        final double [] corners;
+        final int [] order;
+        final double [] centroids;
+
+        final double [] bounds;
+        final int [] nodeStart;
+        final int [] nodeCount;
+        int nodes;
+
+        private final int [] binCounts = new int[BINS];
+        private final double [] binBounds = new double[BINS * 6];
+        private final double [] rightAreas = new double[BINS];
+
+        Builder(double [] corners, int size){
+            this.corners = corners;
+            this.order = new int[size];
+            this.centroids = new double[size * 3];
+            for(int i = 0; i < size; i++){
+                this.order[i] = i;
+                for(int axis = 0; axis < 3; axis++){
+                    this.centroids[i * 3 + axis] = (corners[i * 9 + axis] + corners[i * 9 + 3 + axis]
+                        + corners[i * 9 + 6 + axis]) / 3;
+                }
+            }
+            int maxNodes = Math.max(1, 2 * size - 1);
+            this.bounds = new double[maxNodes * 6];
+            this.nodeStart = new int[maxNodes];
+            this.nodeCount = new int[maxNodes];
+        }
+
+        /**
+         * Builds the subtree over order[from, to) and returns the index of its root
+         */
+        int build(int from, int to, int depth){
+            int node = this.nodes++;
+            int b = node * 6;
+            emptyBox(this.bounds, b);
+            double [] centroidBox = new double[6];
+            emptyBox(centroidBox, 0);
+            for(int i = from; i < to; i++){
+                int triangle = this.order[i];
+                for(int corner = 0; corner < 3; corner++){
+                    grow(this.bounds, b, this.corners, triangle * 9 + corner * 3);
+                }
+                grow(centroidBox, 0, this.centroids, triangle * 3);
+            }
+
+            int count = to - from;
+            int axis = 0;
+            for(int i = 1; i < 3; i++){
+                if(centroidBox[3 + i] - centroidBox[i] > centroidBox[3 + axis] - centroidBox[axis]){
+                    axis = i;
+                }
+            }
+            double low = centroidBox[axis];
+            double extent = centroidBox[3 + axis] - low;
+            if(count <= 1 || !(extent > 0)){
+                return leaf(node, from, count);
+            }
+
+            int middle;
+            if(depth >= MAX_DEPTH / 2){
+                middle = (from + to) >>> 1;  // a badly skewed scene, stop trusting the heuristic to keep depth bounded
+                nthElement(from, to, middle, axis);
+            }
+            else{
+                double scale = BINS / extent;
+                int split = bestSplit(from, to, axis, low, scale, area(this.bounds, b));
+                if(split < 0){
+                    return leaf(node, from, count);
+                }
+                middle = partition(from, to, axis, low, scale, split);
+                if(middle == from || middle == to){
+                    middle = (from + to) >>> 1;
+                    nthElement(from, to, middle, axis);
+                }
+            }
+
+            build(from, middle, depth + 1);
+            this.nodeStart[node] = build(middle, to, depth + 1);
+            this.nodeCount[node] = 0;
+            return node;
+        }
+
+        private int leaf(int node, int from, int count){
+            this.nodeStart[node] = from;
+            this.nodeCount[node] = count;
+            return node;
+        }
+
+        /**
+         * Finds the bin boundary with the lowest surface area heuristic cost
+         *
+         * @return The number of bins that go to the left child, or -1 if a leaf is cheaper than every split
+         */
+        private int bestSplit(int from, int to, int axis, double low, double scale, double parentArea){
+            Arrays.fill(this.binCounts, 0);
+            for(int bin = 0; bin < BINS; bin++){
+                emptyBox(this.binBounds, bin * 6);
+            }
+            for(int i = from; i < to; i++){
+                int triangle = this.order[i];
+                int bin = binOf(this.centroids[triangle * 3 + axis], low, scale);
+                this.binCounts[bin]++;
+                for(int corner = 0; corner < 3; corner++){
+                    grow(this.binBounds, bin * 6, this.corners, triangle * 9 + corner * 3);
+                }
+            }
+
+            double [] box = new double[6];
+            emptyBox(box, 0);
+            for(int bin = BINS - 1; bin > 0; bin--){
+                merge(box, this.binBounds, bin * 6);
+                this.rightAreas[bin] = area(box, 0);
+            }
+
+            emptyBox(box, 0);
+            int leftCount = 0;
+            int count = to - from;
+            double bestCost = Double.POSITIVE_INFINITY;
+            int best = -1;
+            for(int split = 1; split < BINS; split++){
+                merge(box, this.binBounds, (split - 1) * 6);
+                leftCount += this.binCounts[split - 1];
+                if(leftCount == 0 || leftCount == count){
+                    continue;
+                }
+                double cost = leftCount * area(box, 0) + (count - leftCount) * this.rightAreas[split];
+                if(cost < bestCost){
+                    bestCost = cost;
+                    best = split;
+                }
+            }
+
+            // costs are relative to testing one triangle, so a leaf costs its count
+            if(count <= MAX_LEAF_SIZE && (best < 0 || TRAVERSAL_COST + bestCost / parentArea >= count)){
+                return -1;
+            }
+            return best;
+        }
+
+        /**
+         * Moves every triangle whose centroid falls in a bin below split in front of the rest
+         *
+         * @return The index of the first triangle of the right side
+         */
+        private int partition(int from, int to, int axis, double low, double scale, int split){
+            int i = from;
+            int j = to - 1;
+            while(i <= j){
+                if(binOf(this.centroids[this.order[i] * 3 + axis], low, scale) < split){
+                    i++;
+                }
+                else{
+                    swap(i, j--);
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Partially sorts order[from, to) by centroid along axis so the element at nth is in its sorted position
+         */
+        private void nthElement(int from, int to, int nth, int axis){
+            int left = from;
+            int right = to - 1;
+            while(left < right){
+                double pivot = this.centroids[this.order[(left + right) >>> 1] * 3 + axis];
+                int i = left;
+                int j = right;
+                while(i <= j){
+                    while(this.centroids[this.order[i] * 3 + axis] < pivot){
+                        i++;
+                    }
+                    while(this.centroids[this.order[j] * 3 + axis] > pivot){
+                        j--;
+                    }
+                    if(i <= j){
+                        swap(i++, j--);
+                    }
+                }
+                if(nth <= j){
+                    right = j;
+                }
+                else if(nth >= i){
+                    left = i;
+                }
+                else{
+                    return;
+                }
+            }
+        }
+
+        private void swap(int i, int j){
+            int temporary = this.order[i];
+            this.order[i] = this.order[j];
+            this.order[j] = temporary;
+        }
+
+        private static int binOf(double centroid, double low, double scale){
+            return Math.min(BINS - 1, (int) ((centroid - low) * scale));
+        }
+    }
+
+    private static void emptyBox(double [] box, int offset){
+        for(int axis = 0; axis < 3; axis++){
+            box[offset + axis] = Double.POSITIVE_INFINITY;
+            box[offset + 3 + axis] = Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Grows a box to hold a point
+     */
+    private static void grow(double [] box, int offset, double [] point, int pointOffset){
+        for(int axis = 0; axis < 3; axis++){
+            box[offset + axis] = Math.min(box[offset + axis], point[pointOffset + axis]);
+            box[offset + 3 + axis] = Math.max(box[offset + 3 + axis], point[pointOffset + axis]);
+        }
+    }
+
+    /**
+     * Grows a box to hold another box
+     */
+    private static void merge(double [] box, double [] other, int otherOffset){
+        for(int axis = 0; axis < 3; axis++){
+            box[axis] = Math.min(box[axis], other[otherOffset + axis]);
+            box[3 + axis] = Math.max(box[3 + axis], other[otherOffset + 3 + axis]);
+        }
+    }
+
+    /**
+     * Half the surface area of a box, which is all the heuristic needs, or 0 for an empty box
+     */
+    private static double area(double [] box, int offset){
+        double x = box[offset + 3] - box[offset];
+        double y = box[offset + 4] - box[offset + 1];
+        double z = box[offset + 5] - box[offset + 2];
+        if(!(x >= 0)){
+            return 0;
+        }
+        return x * y + y * z + z * x;
+    }
+}
@@ -0,0 +1,404 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid of cubic cells over n dimensional space, stored in a hash table so only occupied cells take memory
+ *
+ * Points are added one at a time and can be snapped onto an existing point within a tolerance instead, which merges
+ * near duplicate vertices in a single pass. Radius queries only look at the cells the query's bounding box overlaps,
+ * so with a cell size close to the usual query radius a query touches a handful of points and merging or pair
+ * finding over n points takes close to O(n) time. The box around a query covers up to 2^n cells when the radius is at
+ * most the cell size, so the grid suits low dimensions; use PointIndex for high dimensional data.
+ *
+ * The table uses open addressing keyed by cell, each slot holding the first point of a cell with the rest of the
+ * cell chained through an array of next indices. Adding a point reuses one cell buffer, each query allocates three
+ * small cell buffers of its own, and addAllUnique and the pair methods share one set across the whole call, so apart
+ * from the arrays doubling as the grid grows and the arrays of results that queries return, nothing is allocated per
+ * point or per cell visited. A grid may be queried from several threads at once but not while points are being
+ * added.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class SpatialHashGrid extends EuclideanObject
+{
+    public final double cellSize;
+
+    private final double inverseCellSize;
+
+    /** Coordinates of every point, packed like a PointBatch in the order they were added */
+    private double [] coordinates;
+    private int size;
+
+    /** The next point in the same cell as each point, or -1 at the end of a cell */
+    private int [] next;
+
+    /** The first point of the cell hashed to each slot, or -1 for an empty slot */
+    private int [] slots;
+    private int cells;
+
+    /** Cell of the point being inserted, only used while adding so it is never shared between threads */
+    private final long [] insertCell;
+
+    /**
+     * Constructs an empty grid
+     *
+     * @param dimension The dimension of every point that will be added
+     * @param cellSize The width of each cell, ideally close to the radius that will be queried
+     */
+    public SpatialHashGrid(int dimension, double cellSize){
+        super(dimension);
+        if(dimension < 1){
+            throw new RuntimeException("Points must have at least one dimension!");
+        }
+        if(!(cellSize > 0) || Double.isInfinite(cellSize)){
+            throw new RuntimeException("Cells must have a positive, finite size!");
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1 / cellSize;
+        this.coordinates = new double[16 * dimension];
+        this.next = new int[16];
+        this.slots = new int[32];
+        Arrays.fill(this.slots, -1);
+        this.insertCell = new long[dimension];
+    }
+
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Creates a Point holding a copy of one of the points in the grid
+     *
+     * @param index The index of the point, in the order points were added
+     */
+    public Point get(int index){
+        if(index < 0 || index >= this.size){
+            throw new RuntimeException("Point " + index + " is outside of the grid!");
+        }
+        return new Point(Arrays.copyOfRange(this.coordinates, index * this.dimension, (index + 1) * this.dimension));
+    }
+
+    /**
+     * Adds a point to the grid
+     *
+     * @return The index of the new point
+     */
+    public int add(Point point){
+        checkDimension(point);
+        return add(point.coordinates, 0);
+    }
+
+    /**
+     * Adds a point unless the grid already holds one within epsilon of it
+     *
+     * @param point The point to add
+     * @param epsilon The largest distance at which two points are considered the same
+     *
+     * @return The index of the closest point within epsilon, or of the new point if there was none
+     */
+    public int addUnique(Point point, double epsilon){
+        checkDimension(point);
+        return addUnique(point.coordinates, 0, epsilon, new Scratch(this.dimension));
+    }
+
+    /**
+     * Adds every point in a batch, snapping each onto a point already in the grid when one is within epsilon
+     *
+     * Points earlier in the batch are in the grid by the time later ones are added, so near duplicates inside the
+     * batch are merged too.
+     *
+     * @param points The points to add
+     * @param epsilon The largest distance at which two points are considered the same
+     *
+     * @return For each point in the batch, the index of the grid point it was added as or snapped onto
+     */
+    public int[] addAllUnique(PointBatch points, double epsilon){
+        checkDimension(points);
+        int [] indices = new int[points.size];
+        Scratch scratch = new Scratch(this.dimension);
+        for(int i = 0; i < points.size; i++){
+            indices[i] = addUnique(points.data, i * this.dimension, epsilon, scratch);
+        }
+        return indices;
+    }
+
+    private int addUnique(double [] values, int offset, double epsilon, Scratch scratch){
+        int found = nearestIndex(values, offset, epsilon, scratch);
+        return found >= 0 ? found : add(values, offset);
+    }
+
+    private int add(double [] values, int offset){
+        if(this.size == this.next.length){
+            this.next = Arrays.copyOf(this.next, this.size * 2);
+            this.coordinates = Arrays.copyOf(this.coordinates, this.size * 2 * this.dimension);
+        }
+        int index = this.size++;
+        System.arraycopy(values, offset, this.coordinates, index * this.dimension, this.dimension);
+        insert(index);
+        if(this.cells * 2 > this.slots.length){
+            rehash();
+        }
+        return index;
+    }
+
+    /**
+     * Links a point that is already stored into the chain of its cell
+     */
+    private void insert(int index){
+        long [] cell = cellOf(this.coordinates, index * this.dimension, 0, this.insertCell);
+        int slot = slotOf(cell);
+        if(this.slots[slot] < 0){
+            this.cells++;
+        }
+        this.next[index] = this.slots[slot];
+        this.slots[slot] = index;
+    }
+
+    private void rehash(){
+        this.slots = new int[this.slots.length * 2];
+        Arrays.fill(this.slots, -1);
+        this.cells = 0;
+        for(int i = 0; i < this.size; i++){
+            insert(i);
+        }
+    }
+
+    /**
+     * Finds the closest point in the grid within a distance of a query point
+     *
+     * @param query The point to search around
+     * @param radius The largest distance from query to consider
+     *
+     * @return The index of the closest point within radius, or -1 if there is none
+     */
+    public int nearestIndex(Point query, double radius){
+        checkDimension(query);
+        return nearestIndex(query.coordinates, 0, radius, new Scratch(this.dimension));
+    }
+
+    private int nearestIndex(double [] query, int offset, double radius, Scratch scratch){
+        scratch.grid = this;
+        scratch.query = query;
+        scratch.offset = offset;
+        scratch.best = radius * radius;
+        scratch.found = -1;
+        forEachNear(query, offset, radius, scratch, scratch);
+        scratch.grid = null;
+        scratch.query = null;
+        return scratch.found;
+    }
+
+    /**
+     * Finds every point in the grid within a distance of a query point
+     *
+     * @param query The point to search around
+     * @param radius The largest distance from query to include
+     *
+     * @return The points within radius of query, in no particular order
+     */
+    public List<Point> withinRadius(Point query, double radius){
+        List<Point> result = new ArrayList<>();
+        for(int index: withinRadiusIndices(query, radius)){
+            result.add(get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the indices of every point in the grid within a distance of a query point
+     *
+     * @param query The point to search around
+     * @param radius The largest distance from query to include
+     *
+     * @return The indices of the points within radius of query, in no particular order
+     */
+    public int[] withinRadiusIndices(Point query, double radius){
+        checkDimension(query);
+        double radiusSquared = radius * radius;
+        IntList found = new IntList();
+        forEachNear(query.coordinates, 0, radius, new Scratch(this.dimension), i -> {
+            if(squaredDistance(i, query.coordinates, 0) <= radiusSquared){
+                found.add(i);
+            }
+        });
+        return found.toArray();
+    }
+
+    /**
+     * Receives a pair of point indices
+     */
+    public interface PairAction{
+        void accept(int first, int second);
+    }
+
+    /**
+     * Calls action once for every pair of points in the grid within a distance of each other
+     *
+     * @param radius The largest distance between the two points of a pair
+     * @param action Given the smaller index first
+     */
+    public void forEachPairWithin(double radius, PairAction action){
+        double radiusSquared = radius * radius;
+        Scratch scratch = new Scratch(this.dimension);
+        int [] first = new int[1];
+        Visitor visitor = j -> {
+            int i = first[0];
+            if(j > i && squaredDistance(j, this.coordinates, i * this.dimension) <= radiusSquared){
+                action.accept(i, j);
+            }
+        };
+        for(int i = 0; i < this.size; i++){
+            first[0] = i;
+            forEachNear(this.coordinates, i * this.dimension, radius, scratch, visitor);
+        }
+    }
+
+    /**
+     * Finds every pair of points in the grid within a distance of each other
+     *
+     * @param radius The largest distance between the two points of a pair
+     *
+     * @return The pairs packed as {first0, second0, first1, second1, ...} with the smaller index of each pair first
+     */
+    public int[] pairsWithin(double radius){
+        IntList pairs = new IntList();
+        forEachPairWithin(radius, (first, second) -> {
+            pairs.add(first);
+            pairs.add(second);
+        });
+        return pairs.toArray();
+    }
+
+    /**
+     * Receives the index of a candidate point
+     */
+    private interface Visitor{
+        void visit(int index);
+    }
+
+    /**
+     * Cell buffers for walking the box around a query, and the state of a nearest point search, which visits points
+     * as the Scratch itself so it needs no lambda
+     *
+     * Static and made once per call, so it only refers to the grid while a search is running.
+     */
+    private static final class Scratch implements Visitor{
+        final long [] low;
+        final long [] high;
+        final long [] cell;
+
+        SpatialHashGrid grid;
+        double [] query;
+        int offset;
+        double best;
+        int found;
+
+        Scratch(int dimension){
+            this.low = new long[dimension];
+            this.high = new long[dimension];
+            this.cell = new long[dimension];
+        }
+
+        @Override
+        public void visit(int index){
+            double distance = this.grid.squaredDistance(index, this.query, this.offset);
+            if(distance <= this.best && (this.found < 0 || distance < this.best)){
+                this.best = distance;
+                this.found = index;
+            }
+        }
+    }
+
+    /**
+     * Visits every point in the cells overlapped by the box of half width radius around a query point
+     *
+     * When the box covers more cells than there are points every point is visited instead.
+     */
+    private void forEachNear(double [] query, int offset, double radius, Scratch scratch, Visitor visitor){
+        if(this.size == 0){
+            return;
+        }
+        if(!(radius >= 0)){
+            throw new RuntimeException("Radius must not be negative!");
+        }
+        long [] low = cellOf(query, offset, -radius, scratch.low);
+        long [] high = cellOf(query, offset, radius, scratch.high);
+
+        double cellCount = 1;
+        for(int i = 0; i < this.dimension; i++){
+            cellCount *= (double) high[i] - (double) low[i] + 1;
+        }
+        if(cellCount > this.size){
+            for(int i = 0; i < this.size; i++){
+                visitor.visit(i);
+            }
+            return;
+        }
+
+        long [] cell = scratch.cell;
+        System.arraycopy(low, 0, cell, 0, this.dimension);
+        while(true){
+            int index = this.slots[slotOf(cell)];
+            for(; index >= 0; index = this.next[index]){
+                visitor.visit(index);
+            }
+
+            // step to the next cell in the box, like an odometer
+            int axis = 0;
+            while(axis < this.dimension && cell[axis] == high[axis]){
+                cell[axis] = low[axis];
+                axis++;
+            }
+            if(axis == this.dimension){
+                return;
+            }
+            cell[axis]++;
+        }
+    }
+
+    /**
+     * Finds the cell holding the point shifted by shift along every axis
+     *
+     * @param cell Where to write the cell
+     *
+     * @return cell
+     */
+    private long[] cellOf(double [] values, int offset, double shift, long [] cell){
+        for(int i = 0; i < this.dimension; i++){
+            cell[i] = (long) Math.floor((values[offset + i] + shift) * this.inverseCellSize);
+        }
+        return cell;
+    }
+
+    /**
+     * Finds the slot used by a cell, or the empty slot it would be stored in if it has no points
+     */
+    private int slotOf(long [] cell){
+        long hash = 0;
+        for(long coordinate: cell){
+            hash = (hash + coordinate) * 0x9E3779B97F4A7C15L;
+        }
+        int mask = this.slots.length - 1;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while(this.slots[slot] >= 0 && !inCell(this.slots[slot], cell)){
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean inCell(int index, long [] cell){
+        int offset = index * this.dimension;
+        for(int i = 0; i < this.dimension; i++){
+            if((long) Math.floor(this.coordinates[offset + i] * this.inverseCellSize) != cell[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double squaredDistance(int index, double [] query, int offset){
+        return VectorKernels.squaredDistance(this.coordinates, index * this.dimension, query, offset, this.dimension);
+    }
+}
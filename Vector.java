@@ -1,3 +1,5 @@
+import java.io.IOException;
+
 /**
  * Class holds the definition for a vector as well as various methods that can work on them. 
  *
@@ -46,7 +48,19 @@ public class Vector extends EuclideanObject
         this.components = components;
         this.magnitude = norm();
     }
-    
+
+    /**
+     * Constructs a new vector whose magnitude is already known, such as one read back by GeometryCodec
+     *
+     * @param components The components of the vector, used directly and not copied
+     * @param magnitude The length of the vector, trusted without being recalculated
+     */
+    Vector(double [] components, double magnitude){
+        super(components.length);
+        this.components = components;
+        this.magnitude = magnitude;
+    }
+
     /**
      * Constructs a new direction vector from two Points
      * 
@@ -74,12 +88,7 @@ public class Vector extends EuclideanObject
     }
 
     private double norm() {
-        double sum = 0;
-        for (double component: this.components){
-            sum += Math.pow(component, 2);
-        }
-        
-        return Math.sqrt(sum);
+        return Math.sqrt(VectorKernels.squaredNorm(this.components));
     }
     
     public Vector invert(){
@@ -93,6 +102,7 @@ public class Vector extends EuclideanObject
     }
     
     public Vector add(Vector other){
+        long start = Metrics.start();
         checkDimension(other);
         double [] newComponents = new double [this.dimension];
         
@@ -100,31 +110,42 @@ public class Vector extends EuclideanObject
             newComponents[i] = this.components[i] + other.components[i];
         }
         
-        return new Vector(newComponents);
+        Vector sum = new Vector(newComponents);
+        Metrics.record(Metrics.Operation.VECTOR_ADD, start);
+        return sum;
     }
     
     public Vector add(Vector... others){
-        Vector result = new Vector(this.components);
+        long start = Metrics.start();
+        double [] newComponents = this.components.clone();
         for (Vector other: others){
             checkDimension(other);
-            result = result.add(other);
+            for (int i = 0; i < newComponents.length; i++){
+                newComponents[i] += other.components[i];
+            }
         }
         
-        return result;
+        Vector sum = new Vector(newComponents);
+        Metrics.record(Metrics.Operation.VECTOR_ADD, start);
+        return sum;
     }
     
     public Vector subtract(Vector other){
+        long start = Metrics.start();
         checkDimension(other);
-        return this.add(other.invert());
+        Vector difference = new Vector(subtractInto(other, new double [this.dimension]));
+        Metrics.record(Metrics.Operation.VECTOR_SUBTRACT, start);
+        return difference;
     }
     
     public Vector multiply(double scalar){
+        long start = Metrics.start();
         double [] newComponents = new double[this.dimension];
-        for(int i = 0; i < newComponents.length; i++){
-            newComponents[i] = this.components[i] * scalar;
-        }
+        VectorKernels.scale(this.components, scalar, newComponents);
         
-        return new Vector(newComponents);
+        Vector product = new Vector(newComponents);
+        Metrics.record(Metrics.Operation.VECTOR_MULTIPLY, start);
+        return product;
     }
     
     public Vector divide(double scalar){
@@ -135,14 +156,90 @@ public class Vector extends EuclideanObject
         return this.divide(magnitude);
     }
     
-    public double dotProduct(Vector other){
+    /**
+     * Writes the inverse of this vector into an existing buffer
+     * 
+     * @param result The array to write the components into
+     * 
+     * @return The result array
+     */
+    public double[] invertInto(double [] result){
+        checkLength(result);
+        for (int i = 0; i < this.dimension; i++){
+            result[i] = - this.components[i];
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Writes the sum of two vectors into an existing buffer
+     * 
+     * @param other The vector to add
+     * @param result The array to write the components into
+     * 
+     * @return The result array
+     */
+    public double[] addInto(Vector other, double [] result){
         checkDimension(other);
-        double sum = 0;
-        for(int i = 0; i < dimension; i++){
-            sum += this.components[i] * other.components[i];
+        checkLength(result);
+        for (int i = 0; i < this.dimension; i++){
+            result[i] = this.components[i] + other.components[i];
         }
         
-        return sum;
+        return result;
+    }
+    
+    /**
+     * Writes the difference of two vectors into an existing buffer
+     * 
+     * @param other The vector to subtract
+     * @param result The array to write the components into
+     * 
+     * @return The result array
+     */
+    public double[] subtractInto(Vector other, double [] result){
+        checkDimension(other);
+        checkLength(result);
+        for (int i = 0; i < this.dimension; i++){
+            result[i] = this.components[i] - other.components[i];
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Writes the product of this vector and a scalar into an existing buffer
+     * 
+     * @param scalar The scalar to multiply by
+     * @param result The array to write the components into
+     * 
+     * @return The result array
+     */
+    public double[] multiplyInto(double scalar, double [] result){
+        checkLength(result);
+        VectorKernels.scale(this.components, 0, scalar, result, 0, this.dimension);
+        
+        return result;
+    }
+    
+    /**
+     * Writes the unit vector in the direction of this vector into an existing buffer
+     * 
+     * @param result The array to write the components into
+     * 
+     * @return The result array
+     */
+    public double[] normalizeInto(double [] result){
+        return multiplyInto(1 / this.magnitude, result);
+    }
+    
+    public double dotProduct(Vector other){
+        long start = Metrics.start();
+        checkDimension(other);
+        double dot = VectorKernels.dot(this.components, other.components);
+        Metrics.record(Metrics.Operation.VECTOR_DOT_PRODUCT, start);
+        return dot;
     }
     
     private double angleRatio(Vector other){
@@ -168,7 +265,9 @@ public class Vector extends EuclideanObject
     
     public Vector vectorProjectionOnto(Vector other){
         checkDimension(other);
-        return other.normalize().multiply(scalarProjectionOnto(other));
+        double [] projection = new double[this.dimension];
+        VectorKernels.project(this.components, other.components, projection);
+        return new Vector(projection);
     }
     
     public Vector orthagonalProjectionOnto(Vector other){
@@ -180,26 +279,65 @@ public class Vector extends EuclideanObject
         if (this.dimension != 3 || this.dimension != other.dimension){
             throw new RuntimeException("Both vectors must be 3 dimensional for the cross product to be defined");
         }
-        return new Vector(
+        long start = Metrics.start();
+        Vector product = new Vector(
             (this.components[1] * other.components[2]) - (this.components[2] * other.components[1]),
             (this.components[2] * other.components[0]) - (this.components[0] * other.components[2]),
             (this.components[0] * other.components[1]) - (this.components[1] * other.components[0]));
+        Metrics.record(Metrics.Operation.VECTOR_CROSS_PRODUCT, start);
+        return product;
     }
     
     
-    public String toString(){
-        StringBuilder str = new StringBuilder("<");
-        
-        for (double component: this.components){
-            str.append(String.format("%.02f, ",component));
+    /**
+     * Checks if a buffer has room for every component of this vector and throws an exception if not
+     */
+    private void checkLength(double [] result){
+        if(result.length < this.dimension){
+            throw new RuntimeException("Result array must have room for every component of the vector!");
         }
-        
-        str.deleteCharAt(str.length()-2);
-        str.setCharAt(str.length()-1, '>');
-        
-        return str.toString();
+    }
+    
+    public String toString(){
+        return writeTo(new StringBuilder()).toString();
     } // end toString
     
+    /**
+     * Writes the vector in the same form as toString, &lt;a, b, ...&gt; with two decimal places
+     * 
+     * @param str The builder to append to
+     * 
+     * @return str
+     */
+    public StringBuilder writeTo(StringBuilder str){
+        str.append('<');
+        for (int i = 0; i < this.dimension; i++){
+            if (i != 0){
+                str.append(", ");
+            }
+            EquationFormat.appendFixed(str, this.components[i]);
+        }
+        return str.append('>');
+    }
+    
+    /**
+     * Writes the vector in the same form as toString
+     * 
+     * Writes straight into out when it is a StringBuilder, otherwise the text is built in a new StringBuilder and then
+     * copied to out. To write many vectors, append them to one reused StringBuilder with writeTo(StringBuilder), or
+     * stream them through GeometryWriter, which reuses its buffers.
+     * 
+     * @param out Where to write the vector
+     */
+    public void writeTo(Appendable out) throws IOException{
+        if(out instanceof StringBuilder){
+            writeTo((StringBuilder) out);
+        }
+        else{
+            out.append(writeTo(new StringBuilder()));
+        }
+    }
+    
     public boolean equals(Object obj){
         if (obj == this){
             return true;
@@ -223,4 +361,8 @@ public class Vector extends EuclideanObject
             return true;
         } // end else{}
     } // end equals
+    
+    public int hashCode(){
+        return hashCoordinates(this.components);
+    } // end hashCode
 } // end class
@@ -0,0 +1,159 @@
+
+/**
+ * Class to represent a vector in exactly 2 dimensions using scalar fields instead of an array
+ *
+ * Every operation is unrolled so short lived Vector2 objects can be scalar replaced by the JIT
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class Vector2 extends EuclideanObject{
+    public final double x;
+    public final double y;
+    public final double magnitude;
+
+    public static final Vector2 I = new Vector2(1, 0);
+    public static final Vector2 J = new Vector2(0, 1);
+
+    /**
+     * Constructs a new position vector from its components
+     *
+     * @param x The x component
+     * @param y The y component
+     */
+    public Vector2(double x, double y){
+        super(2);
+        this.x = x;
+        this.y = y;
+        this.magnitude = Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Constructs a new direction vector from two Points
+     *
+     * @param start The starting point for the vector
+     * @param end   The ending point for the vector
+     */
+    public Vector2(Point2 start, Point2 end){
+        this(end.x - start.x, end.y - start.y);
+    }
+
+    /**
+     * Constructs a new 2 dimensional vector from a general Vector
+     *
+     * @param vector The vector to copy, must be 2 dimensional
+     */
+    public Vector2(Vector vector){
+        this(component(vector, 0), vector.components[1]);
+    }
+
+    private static double component(Vector vector, int index){
+        if(vector.dimension != 2){
+            throw new RuntimeException("Vector2 can only be created from a 2 dimensional Vector!");
+        }
+        return vector.components[index];
+    }
+
+    public Vector2 invert(){
+        return new Vector2(-this.x, -this.y);
+    }
+
+    public Vector2 add(Vector2 other){
+        return new Vector2(this.x + other.x, this.y + other.y);
+    }
+
+    public Vector2 subtract(Vector2 other){
+        return new Vector2(this.x - other.x, this.y - other.y);
+    }
+
+    public Vector2 multiply(double scalar){
+        return new Vector2(this.x * scalar, this.y * scalar);
+    }
+
+    public Vector2 divide(double scalar){
+        return this.multiply(1 / scalar);
+    }
+
+    public Vector2 normalize(){
+        return this.divide(this.magnitude);
+    }
+
+    public double magnitudeSquared(){
+        return this.x * this.x + this.y * this.y;
+    }
+
+    public double dotProduct(Vector2 other){
+        return this.x * other.x + this.y * other.y;
+    }
+
+    /**
+     * Calculates the z component of the cross product of the two vectors embedded in 3 dimensions
+     *
+     * @param other The vector to cross with
+     *
+     * @return The signed area of the parallelogram spanned by the two vectors
+     */
+    public double crossProduct(Vector2 other){
+        return (this.x * other.y) - (this.y * other.x);
+    }
+
+    /**
+     * Rotates this vector a quarter turn counter clockwise
+     *
+     * @return A new vector perpendicular to this one with the same magnitude
+     */
+    public Vector2 perpendicular(){
+        return new Vector2(-this.y, this.x);
+    }
+
+    public double angle(Vector2 other){
+        return Math.acos(this.dotProduct(other) / (this.magnitude * other.magnitude));
+    }
+
+    public double angleDregree(Vector2 other){
+        return angle(other) * (180 / Math.PI);
+    }
+
+    public double scalarProjectionOnto(Vector2 other){
+        return other.dotProduct(this) / other.magnitude;
+    }
+
+    public Vector2 vectorProjectionOnto(Vector2 other){
+        return other.multiply(other.dotProduct(this) / other.magnitudeSquared());
+    }
+
+    public Vector2 orthagonalProjectionOnto(Vector2 other){
+        double scale = other.dotProduct(this) / other.magnitudeSquared();
+        return new Vector2(this.x - other.x * scale, this.y - other.y * scale);
+    }
+
+    /**
+     * Converts this vector to the general n dimensional representation
+     *
+     * @return A new Vector with the same components
+     */
+    public Vector toVector(){
+        return new Vector(this.x, this.y);
+    }
+
+    public String toString(){
+        return String.format("<%.02f, %.02f>", this.x, this.y);
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        else{
+            Vector2 other = (Vector2) obj;
+            return this.x == other.x && this.y == other.y;
+        }
+    }
+
+    public int hashCode(){
+        return hashCoordinate(hashCoordinate(0, this.x), this.y);
+    }
+}
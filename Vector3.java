@@ -0,0 +1,150 @@
+
+/**
+ * Class to represent a vector in exactly 3 dimensions using scalar fields instead of an array
+ *
+ * Every operation is unrolled so short lived Vector3 objects can be scalar replaced by the JIT
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class Vector3 extends EuclideanObject{
+    public final double x;
+    public final double y;
+    public final double z;
+    public final double magnitude;
+
+    public static final Vector3 I = new Vector3(1, 0, 0);
+    public static final Vector3 J = new Vector3(0, 1, 0);
+    public static final Vector3 K = new Vector3(0, 0, 1);
+
+    /**
+     * Constructs a new position vector from its components
+     *
+     * @param x The x component
+     * @param y The y component
+     * @param z The z component
+     */
+    public Vector3(double x, double y, double z){
+        super(3);
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.magnitude = Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Constructs a new direction vector from two Points
+     *
+     * @param start The starting point for the vector
+     * @param end   The ending point for the vector
+     */
+    public Vector3(Point3 start, Point3 end){
+        this(end.x - start.x, end.y - start.y, end.z - start.z);
+    }
+
+    /**
+     * Constructs a new 3 dimensional vector from a general Vector
+     *
+     * @param vector The vector to copy, must be 3 dimensional
+     */
+    public Vector3(Vector vector){
+        this(component(vector, 0), vector.components[1], vector.components[2]);
+    }
+
+    private static double component(Vector vector, int index){
+        if(vector.dimension != 3){
+            throw new RuntimeException("Vector3 can only be created from a 3 dimensional Vector!");
+        }
+        return vector.components[index];
+    }
+
+    public Vector3 invert(){
+        return new Vector3(-this.x, -this.y, -this.z);
+    }
+
+    public Vector3 add(Vector3 other){
+        return new Vector3(this.x + other.x, this.y + other.y, this.z + other.z);
+    }
+
+    public Vector3 subtract(Vector3 other){
+        return new Vector3(this.x - other.x, this.y - other.y, this.z - other.z);
+    }
+
+    public Vector3 multiply(double scalar){
+        return new Vector3(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
+    public Vector3 divide(double scalar){
+        return this.multiply(1 / scalar);
+    }
+
+    public Vector3 normalize(){
+        return this.divide(this.magnitude);
+    }
+
+    public double magnitudeSquared(){
+        return this.x * this.x + this.y * this.y + this.z * this.z;
+    }
+
+    public double dotProduct(Vector3 other){
+        return this.x * other.x + this.y * other.y + this.z * other.z;
+    }
+
+    public Vector3 crossProduct(Vector3 other){
+        return new Vector3(
+            (this.y * other.z) - (this.z * other.y),
+            (this.z * other.x) - (this.x * other.z),
+            (this.x * other.y) - (this.y * other.x));
+    }
+
+    public double angle(Vector3 other){
+        return Math.acos(this.dotProduct(other) / (this.magnitude * other.magnitude));
+    }
+
+    public double angleDregree(Vector3 other){
+        return angle(other) * (180 / Math.PI);
+    }
+
+    public double scalarProjectionOnto(Vector3 other){
+        return other.dotProduct(this) / other.magnitude;
+    }
+
+    public Vector3 vectorProjectionOnto(Vector3 other){
+        return other.multiply(other.dotProduct(this) / other.magnitudeSquared());
+    }
+
+    public Vector3 orthagonalProjectionOnto(Vector3 other){
+        double scale = other.dotProduct(this) / other.magnitudeSquared();
+        return new Vector3(this.x - other.x * scale, this.y - other.y * scale, this.z - other.z * scale);
+    }
+
+    /**
+     * Converts this vector to the general n dimensional representation
+     *
+     * @return A new Vector with the same components
+     */
+    public Vector toVector(){
+        return new Vector(this.x, this.y, this.z);
+    }
+
+    public String toString(){
+        return String.format("<%.02f, %.02f, %.02f>", this.x, this.y, this.z);
+    }
+
+    public boolean equals(Object obj){
+        if (obj == this){
+            return true;
+        }
+        else if (obj == null || this.getClass() != obj.getClass()){
+            return false;
+        }
+        else{
+            Vector3 other = (Vector3) obj;
+            return this.x == other.x && this.y == other.y && this.z == other.z;
+        }
+    }
+
+    public int hashCode(){
+        return hashCoordinate(hashCoordinate(hashCoordinate(0, this.x), this.y), this.z);
+    }
+}
@@ -0,0 +1,218 @@
+
+/**
+ * Class to store a batch of vectors of the same dimension in a single packed array
+ *
+ * The components of vector i are stored at data[i * dimension] through data[i * dimension + dimension - 1]
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class VectorBatch extends EuclideanObject{
+    public final int size;
+    public final double [] data;
+
+    /**
+     * Constructs a new batch of zero vectors
+     *
+     * @param dimension The dimension that every vector in the batch lives in
+     * @param size The number of vectors in the batch
+     */
+    public VectorBatch(int dimension, int size){
+        this(dimension, new double[dimension * size]);
+    }
+
+    /**
+     * Constructs a new batch of vectors around an already packed array of components
+     *
+     * @param dimension The dimension that every vector in the batch lives in
+     * @param data The packed components, the array is used directly and not copied
+     */
+    public VectorBatch(int dimension, double [] data){
+        super(dimension);
+        if(dimension < 1 || data.length % dimension != 0){
+            throw new RuntimeException("Packed data must hold a whole number of vectors!");
+        }
+        this.size = data.length / dimension;
+        this.data = data;
+    }
+
+    /**
+     * Constructs a new batch of vectors by copying the components of a set of vectors
+     *
+     * @param vectors The vectors to pack into the batch
+     */
+    public VectorBatch(Vector... vectors){
+        super(vectors);
+        this.size = vectors.length;
+        this.data = new double[this.dimension * this.size];
+        for(int i = 0; i < this.size; i++){
+            System.arraycopy(vectors[i].components, 0, this.data, i * this.dimension, this.dimension);
+        }
+    }
+
+    /**
+     * Constructs a new batch of direction vectors from two batches of points
+     *
+     * @param start The starting points for the vectors
+     * @param end   The ending points for the vectors
+     */
+    public VectorBatch(PointBatch start, PointBatch end){
+        this(start.dimension, start.size);
+        start.checkBatch(end);
+        for(int i = 0; i < this.data.length; i++){
+            this.data[i] = end.data[i] - start.data[i];
+        }
+    }
+
+    /**
+     * Creates a new Vector holding a copy of one of the vectors in the batch
+     *
+     * @param index The index of the vector to copy
+     *
+     * @return A new Vector with the same components as the vector at index
+     */
+    public Vector get(int index){
+        double [] components = new double[this.dimension];
+        System.arraycopy(this.data, index * this.dimension, components, 0, this.dimension);
+        return new Vector(components);
+    }
+
+    /**
+     * Overwrites one of the vectors in the batch
+     *
+     * @param index The index of the vector to overwrite
+     * @param vector The vector to copy into the batch
+     */
+    public void set(int index, Vector vector){
+        checkDimension(vector);
+        System.arraycopy(vector.components, 0, this.data, index * this.dimension, this.dimension);
+    }
+
+    /**
+     * Calculates the magnitude of every vector in the batch
+     *
+     * @param result The array to write the magnitudes into
+     */
+    public void magnitude(double [] result){
+        checkLength(result);
+        for(int i = 0; i < this.size; i++){
+            result[i] = Math.sqrt(squaredNorm(this.data, i * this.dimension, this.dimension));
+        }
+    }
+
+    /**
+     * Adds each vector in this batch to the matching vector in another batch
+     *
+     * @param other The batch of vectors to add
+     * @param result The batch to write the sums into, may be this batch or other
+     */
+    public void add(VectorBatch other, VectorBatch result){
+        checkBatch(other);
+        checkBatch(result);
+        for(int i = 0; i < this.data.length; i++){
+            result.data[i] = this.data[i] + other.data[i];
+        }
+    }
+
+    /**
+     * Adds a single vector to every vector in the batch
+     *
+     * @param other The vector to add
+     * @param result The batch to write the sums into, may be this batch
+     */
+    public void add(Vector other, VectorBatch result){
+        checkDimension(other);
+        checkBatch(result);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            for(int j = 0; j < this.dimension; j++){
+                result.data[offset + j] = this.data[offset + j] + other.components[j];
+            }
+        }
+    }
+
+    /**
+     * Multiplies every vector in the batch by a scalar
+     *
+     * @param scalar The scalar to multiply by
+     * @param result The batch to write the products into, may be this batch
+     */
+    public void multiply(double scalar, VectorBatch result){
+        checkBatch(result);
+        VectorKernels.scale(this.data, scalar, result.data);
+    }
+
+    /**
+     * Calculates the dot product of each vector in this batch with the matching vector in another batch
+     *
+     * @param other The batch of vectors to take the dot product with
+     * @param result The array to write the dot products into
+     */
+    public void dotProduct(VectorBatch other, double [] result){
+        checkBatch(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("VectorBatch.dotProduct", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            result[i] = VectorKernels.dot(this.data, offset, other.data, offset, this.dimension);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Calculates the dot product of every vector in the batch with a single vector
+     *
+     * @param other The vector to take the dot product with
+     * @param result The array to write the dot products into
+     */
+    public void dotProduct(Vector other, double [] result){
+        checkDimension(other);
+        checkLength(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("VectorBatch.dotProduct", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            result[i] = VectorKernels.dot(this.data, i * this.dimension, other.components, 0, this.dimension);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Normalizes every vector in the batch
+     *
+     * Zero vectors have no direction, so like Vector.normalize they come out as NaN components
+     *
+     * @param result The batch to write the unit vectors into, may be this batch
+     */
+    public void normalize(VectorBatch result){
+        checkBatch(result);
+        Metrics.BulkEvent event = Metrics.beginBulk("VectorBatch.normalize", this.dimension, this.size);
+        for(int i = 0; i < this.size; i++){
+            int offset = i * this.dimension;
+            double scale = 1 / Math.sqrt(squaredNorm(this.data, offset, this.dimension));
+            VectorKernels.scale(this.data, offset, scale, result.data, offset, this.dimension);
+        }
+        Metrics.commit(event);
+    }
+
+    /**
+     * Checks if another batch holds the same number of vectors in the same dimension and throws an exception if not
+     */
+    protected void checkBatch(VectorBatch other){
+        checkDimension(other);
+        if(this.size != other.size){
+            throw new RuntimeException("Two batches must be the same size to perform calculations!");
+        }
+    }
+
+    /**
+     * Checks if a result array has room for one value per vector and throws an exception if not
+     */
+    protected void checkLength(double [] result){
+        if(result.length < this.size){
+            throw new RuntimeException("Result array must have room for every vector in the batch!");
+        }
+    }
+
+    private static double squaredNorm(double [] data, int offset, int length){
+        return VectorKernels.dot(data, offset, data, offset, length);
+    }
+}
@@ -0,0 +1,376 @@
+
+/**
+ * Class holding the inner loops shared by Vector, Point and the batch classes for long arrays of components
+ *
+ * The backend is chosen with the easymath.kernels system property (scalar, unrolled or simd) and can be changed at
+ * runtime with setBackend. The scalar backend gives the exact same results as the plain loops, the unrolled backend
+ * keeps four independent partial sums so reductions over hundreds of components are not limited by add latency, at the
+ * cost of summing in a different order. The float kernels widen every value to double before multiplying, so float
+ * storage only loses precision in the stored values and never in the sums.
+ *
+ * The simd backend runs on the jdk.incubator.vector API. It lives in VectorApiKernels under incubator/, which is only
+ * compiled and run with --add-modules jdk.incubator.vector, so it is loaded by name the first time it is used. When it
+ * is missing or the module is not there, simd falls back to the scalar loops, and isSimdAvailable says which one runs.
+ * Its sums are kept in one partial sum per lane with fused multiply adds, so like unrolled they differ from the plain
+ * loops in the last few bits. The element wise kernels, scale and addScaled, give the same results on every backend.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public final class VectorKernels
+{
+    public enum Backend{
+        SCALAR{
+            double dot(double [] a, int aOffset, double [] b, int bOffset, int length){
+                double sum = 0;
+                for(int i = 0; i < length; i++){
+                    sum += a[aOffset + i] * b[bOffset + i];
+                }
+                return sum;
+            }
+
+            double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length){
+                double sum = 0;
+                for(int i = 0; i < length; i++){
+                    double difference = b[bOffset + i] - a[aOffset + i];
+                    sum += difference * difference;
+                }
+                return sum;
+            }
+
+            double dot(float [] a, int aOffset, float [] b, int bOffset, int length){
+                double sum = 0;
+                for(int i = 0; i < length; i++){
+                    sum += (double) a[aOffset + i] * b[bOffset + i];
+                }
+                return sum;
+            }
+
+            double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length){
+                double sum = 0;
+                for(int i = 0; i < length; i++){
+                    double difference = (double) b[bOffset + i] - a[aOffset + i];
+                    sum += difference * difference;
+                }
+                return sum;
+            }
+        },
+        UNROLLED{
+            double dot(double [] a, int aOffset, double [] b, int bOffset, int length){
+                double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+                int i = 0;
+                for(; i + 3 < length; i += 4){
+                    sum0 += a[aOffset + i] * b[bOffset + i];
+                    sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+                    sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+                    sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+                }
+                for(; i < length; i++){
+                    sum0 += a[aOffset + i] * b[bOffset + i];
+                }
+                return (sum0 + sum1) + (sum2 + sum3);
+            }
+
+            double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length){
+                double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+                int i = 0;
+                for(; i + 3 < length; i += 4){
+                    double d0 = b[bOffset + i] - a[aOffset + i];
+                    double d1 = b[bOffset + i + 1] - a[aOffset + i + 1];
+                    double d2 = b[bOffset + i + 2] - a[aOffset + i + 2];
+                    double d3 = b[bOffset + i + 3] - a[aOffset + i + 3];
+                    sum0 += d0 * d0;
+                    sum1 += d1 * d1;
+                    sum2 += d2 * d2;
+                    sum3 += d3 * d3;
+                }
+                for(; i < length; i++){
+                    double difference = b[bOffset + i] - a[aOffset + i];
+                    sum0 += difference * difference;
+                }
+                return (sum0 + sum1) + (sum2 + sum3);
+            }
+
+            double dot(float [] a, int aOffset, float [] b, int bOffset, int length){
+                double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+                int i = 0;
+                for(; i + 3 < length; i += 4){
+                    sum0 += (double) a[aOffset + i] * b[bOffset + i];
+                    sum1 += (double) a[aOffset + i + 1] * b[bOffset + i + 1];
+                    sum2 += (double) a[aOffset + i + 2] * b[bOffset + i + 2];
+                    sum3 += (double) a[aOffset + i + 3] * b[bOffset + i + 3];
+                }
+                for(; i < length; i++){
+                    sum0 += (double) a[aOffset + i] * b[bOffset + i];
+                }
+                return (sum0 + sum1) + (sum2 + sum3);
+            }
+
+            double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length){
+                double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+                int i = 0;
+                for(; i + 3 < length; i += 4){
+                    double d0 = (double) b[bOffset + i] - a[aOffset + i];
+                    double d1 = (double) b[bOffset + i + 1] - a[aOffset + i + 1];
+                    double d2 = (double) b[bOffset + i + 2] - a[aOffset + i + 2];
+                    double d3 = (double) b[bOffset + i + 3] - a[aOffset + i + 3];
+                    sum0 += d0 * d0;
+                    sum1 += d1 * d1;
+                    sum2 += d2 * d2;
+                    sum3 += d3 * d3;
+                }
+                for(; i < length; i++){
+                    double difference = (double) b[bOffset + i] - a[aOffset + i];
+                    sum0 += difference * difference;
+                }
+                return (sum0 + sum1) + (sum2 + sum3);
+            }
+        },
+        SIMD{
+            double dot(double [] a, int aOffset, double [] b, int bOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                return kernels == null ? SCALAR.dot(a, aOffset, b, bOffset, length)
+                    : kernels.dot(a, aOffset, b, bOffset, length);
+            }
+
+            double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                return kernels == null ? SCALAR.squaredDistance(a, aOffset, b, bOffset, length)
+                    : kernels.squaredDistance(a, aOffset, b, bOffset, length);
+            }
+
+            double dot(float [] a, int aOffset, float [] b, int bOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                return kernels == null ? SCALAR.dot(a, aOffset, b, bOffset, length)
+                    : kernels.dot(a, aOffset, b, bOffset, length);
+            }
+
+            double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                return kernels == null ? SCALAR.squaredDistance(a, aOffset, b, bOffset, length)
+                    : kernels.squaredDistance(a, aOffset, b, bOffset, length);
+            }
+
+            void scale(double [] a, int aOffset, double scalar, double [] result, int resultOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                if(kernels == null){
+                    super.scale(a, aOffset, scalar, result, resultOffset, length);
+                }
+                else{
+                    kernels.scale(a, aOffset, scalar, result, resultOffset, length);
+                }
+            }
+
+            void addScaled(double [] a, int aOffset, double scalar, double [] b, int bOffset, double [] result,
+                           int resultOffset, int length){
+                Kernels kernels = Simd.KERNELS;
+                if(kernels == null){
+                    super.addScaled(a, aOffset, scalar, b, bOffset, result, resultOffset, length);
+                }
+                else{
+                    kernels.addScaled(a, aOffset, scalar, b, bOffset, result, resultOffset, length);
+                }
+            }
+        };
+
+        abstract double dot(double [] a, int aOffset, double [] b, int bOffset, int length);
+
+        abstract double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length);
+
+        abstract double dot(float [] a, int aOffset, float [] b, int bOffset, int length);
+
+        abstract double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length);
+
+        void scale(double [] a, int aOffset, double scalar, double [] result, int resultOffset, int length){
+            for(int i = 0; i < length; i++){
+                result[resultOffset + i] = a[aOffset + i] * scalar;
+            }
+        }
+
+        void addScaled(double [] a, int aOffset, double scalar, double [] b, int bOffset, double [] result,
+                       int resultOffset, int length){
+            for(int i = 0; i < length; i++){
+                result[resultOffset + i] = Math.fma(b[bOffset + i], scalar, a[aOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * The kernels a backend outside this file provides, implemented by VectorApiKernels
+     */
+    interface Kernels{
+        double dot(double [] a, int aOffset, double [] b, int bOffset, int length);
+
+        double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length);
+
+        double dot(float [] a, int aOffset, float [] b, int bOffset, int length);
+
+        double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length);
+
+        void scale(double [] a, int aOffset, double scalar, double [] result, int resultOffset, int length);
+
+        void addScaled(double [] a, int aOffset, double scalar, double [] b, int bOffset, double [] result,
+                       int resultOffset, int length);
+    }
+
+    /**
+     * Holds the Vector API kernels, loaded the first time the simd backend is used, or null if they can not be
+     */
+    private static final class Simd{
+        static final Kernels KERNELS = load();
+
+        private static Kernels load(){
+            // named relative to this class so a copy of the library compiled into a package still finds it
+            String name = VectorKernels.class.getName();
+            name = name.substring(0, name.length() - VectorKernels.class.getSimpleName().length()) + "VectorApiKernels";
+            try{
+                return (Kernels) Class.forName(name).getDeclaredConstructor().newInstance();
+            }
+            catch(ReflectiveOperationException | LinkageError e){
+                return null;  // not compiled in, or started without --add-modules jdk.incubator.vector
+            }
+        }
+    }
+
+    private static volatile Backend backend = defaultBackend();
+
+    private VectorKernels(){
+    }
+
+    private static Backend defaultBackend(){
+        String name = System.getProperty("easymath.kernels", "scalar");
+        try{
+            return Backend.valueOf(name.trim().toUpperCase());
+        }
+        catch(IllegalArgumentException e){
+            throw new RuntimeException("Unknown kernel backend " + name + ", expected scalar, unrolled or simd!");
+        }
+    }
+
+    public static Backend getBackend(){
+        return backend;
+    }
+
+    /**
+     * Checks if the simd backend runs on the Vector API rather than falling back to the scalar loops
+     */
+    public static boolean isSimdAvailable(){
+        return Simd.KERNELS != null;
+    }
+
+    /**
+     * Changes the backend used by every kernel, takes effect for calls made after it returns
+     *
+     * @param newBackend The backend to switch to
+     */
+    public static void setBackend(Backend newBackend){
+        if(newBackend == null){
+            throw new RuntimeException("Kernel backend can not be null!");
+        }
+        backend = newBackend;
+    }
+
+    /**
+     * Calculates the dot product of two arrays of the same length
+     */
+    public static double dot(double [] a, double [] b){
+        checkLength(a, b);
+        return backend.dot(a, 0, b, 0, a.length);
+    }
+
+    /**
+     * Calculates the dot product of two runs of length values inside larger arrays
+     */
+    public static double dot(double [] a, int aOffset, double [] b, int bOffset, int length){
+        return backend.dot(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * Calculates the sum of the squares of an array, the square of its Euclidean norm
+     */
+    public static double squaredNorm(double [] a){
+        return backend.dot(a, 0, a, 0, a.length);
+    }
+
+    /**
+     * Calculates the square of the Euclidean distance between two arrays of the same length
+     */
+    public static double squaredDistance(double [] a, double [] b){
+        checkLength(a, b);
+        return backend.squaredDistance(a, 0, b, 0, a.length);
+    }
+
+    /**
+     * Calculates the square of the Euclidean distance between two runs of length values inside larger arrays
+     */
+    public static double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length){
+        return backend.squaredDistance(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * Calculates the dot product of two runs of floats, widening every value and summing in double
+     */
+    public static double dot(float [] a, int aOffset, float [] b, int bOffset, int length){
+        return backend.dot(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * Calculates the square of the Euclidean distance between two runs of floats, summing in double
+     */
+    public static double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length){
+        return backend.squaredDistance(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * Writes a + scalar * b into result, which may be a or b
+     */
+    public static void addScaled(double [] a, double scalar, double [] b, double [] result){
+        checkLength(a, b);
+        checkLength(a, result);
+        backend.addScaled(a, 0, scalar, b, 0, result, 0, a.length);
+    }
+
+    /**
+     * Writes a + scalar * b into result for runs of length values inside larger arrays, result may overlap a or b
+     * only at the same offset
+     */
+    public static void addScaled(double [] a, int aOffset, double scalar, double [] b, int bOffset, double [] result,
+                                 int resultOffset, int length){
+        backend.addScaled(a, aOffset, scalar, b, bOffset, result, resultOffset, length);
+    }
+
+    /**
+     * Writes scalar * a into result, which may be a
+     */
+    public static void scale(double [] a, double scalar, double [] result){
+        checkLength(a, result);
+        backend.scale(a, 0, scalar, result, 0, a.length);
+    }
+
+    /**
+     * Writes scalar * a into result for runs of length values inside larger arrays, result may overlap a only at the
+     * same offset
+     */
+    public static void scale(double [] a, int aOffset, double scalar, double [] result, int resultOffset, int length){
+        backend.scale(a, aOffset, scalar, result, resultOffset, length);
+    }
+
+    /**
+     * Writes the vector projection of a onto b into result, which may be a or b
+     *
+     * @return The scale factor that b was multiplied by
+     */
+    public static double project(double [] a, double [] b, double [] result){
+        checkLength(a, b);
+        double scalar = dot(a, b) / squaredNorm(b);
+        scale(b, scalar, result);
+        return scalar;
+    }
+
+    private static void checkLength(double [] a, double [] b){
+        if(a.length != b.length){
+            Metrics.dimensionRejected();
+            throw new RuntimeException("Two objects must be in the same dimension to perform calculations!");
+        }
+    }
+}
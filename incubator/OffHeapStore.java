@@ -0,0 +1,338 @@
+import java.io.Closeable;
+import java.lang.ref.Cleaner;
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+/**
+ * Fixed dimension store of points or vectors kept outside of the Java heap
+ *
+ * Coordinates live in one native MemorySegment from the jdk.incubator.foreign API, so the heap only holds a handful
+ * of small objects no matter how many points are stored and the garbage collector never has to scan them. Unlike
+ * a direct buffer the segment can be larger than 2GB, but like one it counts against -XX:MaxDirectMemorySize, which
+ * defaults to the largest heap size, so stores bigger than the heap need that flag raised. Elements are read and
+ * changed through View objects, reusable cursors that can be moved to any element and offer the same distance, dot
+ * product and midpoint operations as Point and Vector without allocating.
+ *
+ * Every access goes through the segment, which checks it against the segment's bounds and against its scope being
+ * alive, so no read or write can reach memory outside of the store or memory that has been freed. The store must be
+ * closed when it is no longer needed. close frees the native memory right away, after which every method of the
+ * store and of its views throws. The scope is shared, so views may be used from several threads, and closing it while
+ * another thread is reading or writing makes close throw instead of freeing memory in use. A store that is never
+ * closed has its memory freed once it and all of its views are collected.
+ *
+ * Only compiled and run with --add-modules jdk.incubator.foreign, so like VectorApiKernels it is kept in incubator/
+ * and plain javac *.java at the top of the tree still builds the rest of the library.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class OffHeapStore extends EuclideanObject implements Closeable
+{
+    /** Frees the memory of stores that are collected without being closed */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    public final long capacity;
+
+    private final ResourceScope scope;
+    private final MemorySegment segment;
+    private long size;
+
+    /** View used by the add methods so appending does not allocate */
+    private final View writer;
+
+    /**
+     * Allocates a new store
+     *
+     * @param dimension The dimension of every element
+     * @param capacity The most elements the store can hold
+     */
+    public OffHeapStore(int dimension, long capacity){
+        super(dimension);
+        if(dimension < 1 || capacity < 0){
+            throw new RuntimeException("A store needs a positive dimension and a non negative capacity!");
+        }
+        long bytes;
+        try{
+            bytes = Math.multiplyExact(capacity, 8L * dimension);
+        }
+        catch(ArithmeticException e){
+            throw new RuntimeException("A store of " + capacity + " elements in " + dimension
+                + " dimensions is too large!");
+        }
+        this.capacity = capacity;
+        this.scope = ResourceScope.newSharedScope(CLEANER);
+        // native segments can not be empty, so an empty store still allocates room for one double
+        this.segment = MemorySegment.allocateNative(Math.max(bytes, Double.BYTES), Double.BYTES, this.scope);
+        this.writer = new View();
+    }
+
+    /**
+     * Gives the number of elements that have been added
+     */
+    public long size(){
+        checkOpen();
+        return this.size;
+    }
+
+    /**
+     * Appends a point to the end of the store
+     *
+     * @return The index of the new element
+     */
+    public long add(Point point){
+        checkDimension(point);
+        return add(point.coordinates);
+    }
+
+    /**
+     * Appends a vector to the end of the store
+     *
+     * @return The index of the new element
+     */
+    public long add(Vector vector){
+        checkDimension(vector);
+        return add(vector.components);
+    }
+
+    /**
+     * Appends every point in a batch to the end of the store
+     */
+    public void add(PointBatch points){
+        checkDimension(points);
+        for(int i = 0; i < points.size; i++){
+            this.writer.at(append()).set(points.data, i * this.dimension);
+        }
+    }
+
+    private long add(double [] values){
+        long index = append();
+        this.writer.at(index).set(values, 0);
+        return index;
+    }
+
+    private long append(){
+        checkOpen();
+        if(this.size == this.capacity){
+            throw new RuntimeException("Store is full, it can only hold " + this.capacity + " elements!");
+        }
+        return this.size++;
+    }
+
+    /**
+     * Creates a new cursor over the store, which must be moved to an element with at before it is used
+     */
+    public View view(){
+        checkOpen();
+        return new View();
+    }
+
+    /**
+     * Reusable cursor that reads and writes one element of the store at a time
+     *
+     * Every method checks that the store is still open and that the view has been moved to an element, and the
+     * segment checks every access again, so a view can never touch memory that has been freed or that belongs to no
+     * element.
+     */
+    public class View extends EuclideanObject{
+        private long offset;
+        private long index = -1;
+
+        private View(){
+            super(OffHeapStore.this.dimension);
+        }
+
+        /**
+         * Moves this view to another element
+         *
+         * @param index The element to view, less than size()
+         *
+         * @return This view
+         */
+        public View at(long index){
+            if(index < 0 || index >= size()){
+                throw new RuntimeException("Element " + index + " is outside of the store!");
+            }
+            this.offset = index * this.dimension * 8;
+            this.index = index;
+            return this;
+        }
+
+        public long index(){
+            return this.index;
+        }
+
+        /**
+         * Finds the offset of the viewed element in the segment, after checking the view can still be used
+         */
+        private long base(){
+            checkOpen();
+            if(this.index < 0){
+                throw new RuntimeException("View has not been moved to an element!");
+            }
+            return this.offset;
+        }
+
+        private void checkAxis(int axis){
+            if(axis < 0 || axis >= this.dimension){
+                throw new RuntimeException("Axis " + axis + " is outside of a " + this.dimension
+                    + " dimensional element!");
+            }
+        }
+
+        public double get(int axis){
+            checkAxis(axis);
+            return MemoryAccess.getDoubleAtOffset(segment, base() + 8L * axis);
+        }
+
+        public View set(int axis, double value){
+            checkAxis(axis);
+            MemoryAccess.setDoubleAtOffset(segment, base() + 8L * axis, value);
+            return this;
+        }
+
+        public View set(Point point){
+            checkDimension(point);
+            return set(point.coordinates, 0);
+        }
+
+        public View set(Vector vector){
+            checkDimension(vector);
+            return set(vector.components, 0);
+        }
+
+        private View set(double [] values, int from){
+            long a = base();
+            for(int i = 0; i < this.dimension; i++){
+                MemoryAccess.setDoubleAtOffset(segment, a + 8L * i, values[from + i]);
+            }
+            return this;
+        }
+
+        public double distanceSquared(View other){
+            checkDimension(other);
+            long a = base(), b = other.base();
+            double sum = 0;
+            for(int i = 0; i < this.dimension; i++){
+                double difference = MemoryAccess.getDoubleAtOffset(other.store(), b + 8L * i)
+                    - MemoryAccess.getDoubleAtOffset(segment, a + 8L * i);
+                sum += difference * difference;
+            }
+            return sum;
+        }
+
+        public double distance(View other){
+            return Math.sqrt(distanceSquared(other));
+        }
+
+        public double distance(Point other){
+            checkDimension(other);
+            long a = base();
+            double sum = 0;
+            for(int i = 0; i < this.dimension; i++){
+                double difference = other.coordinates[i] - MemoryAccess.getDoubleAtOffset(segment, a + 8L * i);
+                sum += difference * difference;
+            }
+            return Math.sqrt(sum);
+        }
+
+        public double dotProduct(View other){
+            checkDimension(other);
+            long a = base(), b = other.base();
+            double sum = 0;
+            for(int i = 0; i < this.dimension; i++){
+                sum += MemoryAccess.getDoubleAtOffset(segment, a + 8L * i)
+                    * MemoryAccess.getDoubleAtOffset(other.store(), b + 8L * i);
+            }
+            return sum;
+        }
+
+        public double dotProduct(Vector other){
+            checkDimension(other);
+            long a = base();
+            double sum = 0;
+            for(int i = 0; i < this.dimension; i++){
+                sum += MemoryAccess.getDoubleAtOffset(segment, a + 8L * i) * other.components[i];
+            }
+            return sum;
+        }
+
+        public double magnitude(){
+            return Math.sqrt(dotProduct(this));
+        }
+
+        /**
+         * Overwrites the viewed element with the midpoint of two other elements
+         *
+         * @param a One end point, may be this view
+         * @param b The other end point, may be this view
+         *
+         * @return This view
+         */
+        public View setMidPoint(View a, View b){
+            checkDimension(a);
+            checkDimension(b);
+            long result = base(), first = a.base(), second = b.base();
+            for(int i = 0; i < this.dimension; i++){
+                double sum = MemoryAccess.getDoubleAtOffset(a.store(), first + 8L * i)
+                    + MemoryAccess.getDoubleAtOffset(b.store(), second + 8L * i);
+                MemoryAccess.setDoubleAtOffset(segment, result + 8L * i, sum / 2);
+            }
+            return this;
+        }
+
+        /**
+         * Copies the viewed element onto the heap as a Point
+         */
+        public Point toPoint(){
+            return new Point(copy());
+        }
+
+        /**
+         * Copies the viewed element onto the heap as a Vector
+         */
+        public Vector toVector(){
+            return new Vector(copy());
+        }
+
+        private double [] copy(){
+            long a = base();
+            double [] values = new double[this.dimension];
+            for(int i = 0; i < this.dimension; i++){
+                values[i] = MemoryAccess.getDoubleAtOffset(segment, a + 8L * i);
+            }
+            return values;
+        }
+
+        /**
+         * The segment of the store this view belongs to, which may not be the same store as another view's
+         */
+        private MemorySegment store(){
+            return segment;
+        }
+    }
+
+    private void checkOpen(){
+        if(!this.scope.isAlive()){
+            throw new RuntimeException("Store has been closed!");
+        }
+    }
+
+    /**
+     * Frees the store's native memory, after which neither the store nor any of its views can be used
+     */
+    @Override
+    public void close(){
+        if(this.scope.isAlive()){
+            try{
+                this.scope.close();
+            }
+            catch(IllegalStateException e){
+                // another thread closed it first, or is still reading or writing the store
+                if(this.scope.isAlive()){
+                    throw new RuntimeException("Store can not be closed while another thread is using it!", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Class holding the simd backend of VectorKernels, written against the jdk.incubator.vector API
+ *
+ * Only compiled and run with --add-modules jdk.incubator.vector, VectorKernels loads it by name and falls back to the
+ * scalar loops without it. Every loop works on the widest doubles the CPU has, then finishes the last few values one
+ * at a time. Floats are loaded a whole float vector at a time and widened into two double vectors, its low and high
+ * halves, before any arithmetic, the same as the scalar float kernels.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+final class VectorApiKernels implements VectorKernels.Kernels
+{
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    // same shape as DOUBLES, so it holds twice as many lanes; FloatVector alone would be this library's class
+    private static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class, DOUBLES.vectorShape());
+
+    public double dot(double [] a, int aOffset, double [] b, int bOffset, int length){
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for(int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()){
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, a, aOffset + i);
+            sum = x.fma(DoubleVector.fromArray(DOUBLES, b, bOffset + i), sum);
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for(; i < length; i++){
+            total += a[aOffset + i] * b[bOffset + i];
+        }
+        return total;
+    }
+
+    public double squaredDistance(double [] a, int aOffset, double [] b, int bOffset, int length){
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for(int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()){
+            DoubleVector difference = DoubleVector.fromArray(DOUBLES, b, bOffset + i)
+                .sub(DoubleVector.fromArray(DOUBLES, a, aOffset + i));
+            sum = difference.fma(difference, sum);
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for(; i < length; i++){
+            double difference = b[bOffset + i] - a[aOffset + i];
+            total += difference * difference;
+        }
+        return total;
+    }
+
+    public double dot(float [] a, int aOffset, float [] b, int bOffset, int length){
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for(int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()){
+            jdk.incubator.vector.FloatVector x = jdk.incubator.vector.FloatVector.fromArray(FLOATS, a, aOffset + i);
+            jdk.incubator.vector.FloatVector y = jdk.incubator.vector.FloatVector.fromArray(FLOATS, b, bOffset + i);
+            sum = low(x).fma(low(y), sum);
+            sum = high(x).fma(high(y), sum);
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for(; i < length; i++){
+            total += (double) a[aOffset + i] * b[bOffset + i];
+        }
+        return total;
+    }
+
+    public double squaredDistance(float [] a, int aOffset, float [] b, int bOffset, int length){
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for(int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()){
+            jdk.incubator.vector.FloatVector x = jdk.incubator.vector.FloatVector.fromArray(FLOATS, a, aOffset + i);
+            jdk.incubator.vector.FloatVector y = jdk.incubator.vector.FloatVector.fromArray(FLOATS, b, bOffset + i);
+            DoubleVector lowDifference = low(y).sub(low(x));
+            DoubleVector highDifference = high(y).sub(high(x));
+            sum = lowDifference.fma(lowDifference, sum);
+            sum = highDifference.fma(highDifference, sum);
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for(; i < length; i++){
+            double difference = (double) b[bOffset + i] - a[aOffset + i];
+            total += difference * difference;
+        }
+        return total;
+    }
+
+    public void scale(double [] a, int aOffset, double scalar, double [] result, int resultOffset, int length){
+        int i = 0;
+        for(int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()){
+            DoubleVector.fromArray(DOUBLES, a, aOffset + i).mul(scalar).intoArray(result, resultOffset + i);
+        }
+        for(; i < length; i++){
+            result[resultOffset + i] = a[aOffset + i] * scalar;
+        }
+    }
+
+    public void addScaled(double [] a, int aOffset, double scalar, double [] b, int bOffset, double [] result,
+                          int resultOffset, int length){
+        DoubleVector scalars = DoubleVector.broadcast(DOUBLES, scalar);
+        int i = 0;
+        for(int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()){
+            DoubleVector.fromArray(DOUBLES, b, bOffset + i)
+                .fma(scalars, DoubleVector.fromArray(DOUBLES, a, aOffset + i))
+                .intoArray(result, resultOffset + i);
+        }
+        for(; i < length; i++){
+            result[resultOffset + i] = Math.fma(b[bOffset + i], scalar, a[aOffset + i]);
+        }
+    }
+
+    /**
+     * Widens the low half of the lanes of a float vector into a double vector
+     */
+    private static DoubleVector low(jdk.incubator.vector.FloatVector values){
+        return (DoubleVector) values.convertShape(VectorOperators.F2D, DOUBLES, 0);
+    }
+
+    /**
+     * Widens the high half of the lanes of a float vector into a double vector
+     */
+    private static DoubleVector high(jdk.incubator.vector.FloatVector values){
+        return (DoubleVector) values.convertShape(VectorOperators.F2D, DOUBLES, 1);
+    }
+}
@@ -0,0 +1,86 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the whole batch methods of PointBatch, VectorBatch and LineBatch, measured per element
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchBenchmark
+{
+    @Param({"2", "3", "16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private int calls;
+    private PointBatch starts;
+    private PointBatch ends;
+    private VectorBatch vectors;
+    private VectorBatch normalized;
+    private LineBatch lines;
+    private LineBatch otherLines;
+    private double [] result;
+
+    @Setup
+    public void setup(){
+        Inputs in = new Inputs(this.dimension, this.size);
+        this.calls = Inputs.calls(this.size);
+        this.starts = new PointBatch(in.points);
+        this.ends = new PointBatch(in.otherPoints);
+        this.vectors = new VectorBatch(in.vectors);
+        this.normalized = new VectorBatch(this.dimension, this.size);
+        this.lines = new LineBatch(in.lines);
+        this.otherLines = new LineBatch(new PointBatch(in.points), new VectorBatch(in.vectors));
+        this.result = new double[this.size];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void pointBatchDistance(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.starts.distance(this.ends, this.result);
+            blackhole.consume(this.result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void vectorBatchNormalize(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.vectors.normalize(this.normalized);
+            blackhole.consume(this.normalized);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void lineBatchSegmentDistance(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.lines.segmentDistance(this.otherLines, this.result);
+            blackhole.consume(this.result);
+        }
+    }
+}
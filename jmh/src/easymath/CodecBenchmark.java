@@ -0,0 +1,134 @@
+package easymath;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of GeometryCodec, single vectors and planes per call and whole point batches per point
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark
+{
+    @Param({"2", "3", "16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private int index;
+    private int calls;
+
+    private ByteBuffer single;
+    private ByteBuffer vectors;
+    private int [] vectorOffsets;
+    private ByteBuffer planes;
+    private int [] planeOffsets;
+
+    private PointBatch points;
+    private ByteBuffer batch;
+    private ByteBuffer compressed;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.calls = Inputs.calls(this.size);
+        this.single = ByteBuffer.allocate(GeometryCodec.encodedSize(this.in.planes[0]));
+
+        this.vectors = ByteBuffer.allocate(this.size * GeometryCodec.encodedSize(this.in.vectors[0]));
+        this.vectorOffsets = new int[this.size];
+        this.planes = ByteBuffer.allocate(this.size * GeometryCodec.encodedSize(this.in.planes[0]));
+        this.planeOffsets = new int[this.size];
+        for(int i = 0; i < this.size; i++){
+            this.vectorOffsets[i] = this.vectors.position();
+            GeometryCodec.encode(this.in.vectors[i], this.vectors);
+            this.planeOffsets[i] = this.planes.position();
+            GeometryCodec.encode(this.in.planes[i], this.planes);
+        }
+
+        this.points = new PointBatch(this.in.points);
+        this.batch = ByteBuffer.allocateDirect(GeometryCodec.maxEncodedSize(this.points, true));
+        this.compressed = ByteBuffer.allocateDirect(GeometryCodec.maxEncodedSize(this.points, true));
+        GeometryCodec.encode(this.points, this.compressed, true);
+        this.compressed.flip();
+    }
+
+    private int next(){
+        int current = this.index;
+        this.index = current + 1 == this.size ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public int encodeVector(){
+        this.single.clear();
+        GeometryCodec.encode(this.in.vectors[next()], this.single);
+        return this.single.position();
+    }
+
+    @Benchmark
+    public Vector decodeVector(){
+        return GeometryCodec.decodeVector(this.vectors.position(this.vectorOffsets[next()]));
+    }
+
+    @Benchmark
+    public int encodePlane(){
+        this.single.clear();
+        GeometryCodec.encode(this.in.planes[next()], this.single);
+        return this.single.position();
+    }
+
+    @Benchmark
+    public Plane decodePlane(){
+        return GeometryCodec.decodePlane(this.planes.position(this.planeOffsets[next()]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void encodePointBatch(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.batch.clear();
+            GeometryCodec.encode(this.points, this.batch, false);
+            blackhole.consume(this.batch.position());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void encodePointBatchCompressed(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.batch.clear();
+            GeometryCodec.encode(this.points, this.batch, true);
+            blackhole.consume(this.batch.position());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void decodePointBatchCompressed(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            blackhole.consume(GeometryCodec.decodePointBatch(this.compressed.duplicate()));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of ConvexHull.of over a batch of size random points, measured per input point
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConvexHullBenchmark
+{
+    @Param({"2", "3"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private int calls;
+    private PointBatch points;
+
+    @Setup
+    public void setup(){
+        this.calls = Inputs.calls(this.size);
+        this.points = new PointBatch(new Inputs(this.dimension, this.size).points);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void of(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            blackhole.consume(ConvexHull.of(this.points));
+        }
+    }
+}
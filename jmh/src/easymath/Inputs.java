@@ -0,0 +1,66 @@
+package easymath;
+
+import java.util.Random;
+
+/**
+ * Pools of random points, vectors, lines and planes for one dimension and size, shared by the benchmarks
+ *
+ * Benchmarks of whole batch methods count one operation per element rather than per call, so every invocation works
+ * through ELEMENTS elements, ELEMENTS / size calls on a batch of size, and says so with
+ * OperationsPerInvocation(Inputs.ELEMENTS). Their results are then per element whatever the batch size.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+class Inputs
+{
+    /** Elements handled by one invocation of a whole batch benchmark, every batch size must divide it */
+    static final int ELEMENTS = 4096;
+
+    final int dimension;
+    final int size;
+    final Point [] points;
+    final Point [] otherPoints;
+    final Vector [] vectors;
+    final Vector [] otherVectors;
+    final Line [] lines;
+    final Plane [] planes;
+
+    Inputs(int dimension, int size){
+        Random random = new Random(42);
+        this.dimension = dimension;
+        this.size = size;
+        this.points = new Point[size];
+        this.otherPoints = new Point[size];
+        this.vectors = new Vector[size];
+        this.otherVectors = new Vector[size];
+        this.lines = new Line[size];
+        this.planes = new Plane[size];
+        for(int i = 0; i < size; i++){
+            this.points[i] = new Point(randomArray(random, dimension));
+            this.otherPoints[i] = new Point(randomArray(random, dimension));
+            this.vectors[i] = new Vector(randomArray(random, dimension));
+            this.otherVectors[i] = new Vector(randomArray(random, dimension));
+            this.lines[i] = new Line(this.otherPoints[i], this.otherVectors[i]);
+            this.planes[i] = new Plane(this.otherPoints[i], this.otherVectors[i]);
+        }
+    }
+
+    /**
+     * Finds how many calls on a batch of size elements make up one invocation of a whole batch benchmark
+     */
+    static int calls(int size){
+        if(size < 1 || ELEMENTS % size != 0){
+            throw new RuntimeException("Batch benchmarks need a size that divides " + ELEMENTS + "!");
+        }
+        return ELEMENTS / size;
+    }
+
+    private static double [] randomArray(Random random, int length){
+        double [] values = new double[length];
+        for(int i = 0; i < length; i++){
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,238 @@
+package easymath;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures the recall@k and query latency of LSHIndex against exact brute force search, reported as JSON
+ *
+ * Usage: gradle lshBenchmark -PlshArgs="[--metric cosine|euclidean] [--size 100000] [--dimension 128] [--queries 200]
+ *            [--k 10] [--tables 4,8,16] [--bits 8,12,16] [--probes 0,4] [--width w] [--output file.json]"
+ *
+ * It lives with the JMH benchmarks rather than the library because recall is not something JMH measures, and so the
+ * library itself never writes to the console.
+ *
+ * The indexed points come in clusters of 32 around standard normal centers and each query is one of them with the
+ * same noise added again, so every query has a clear set of true neighbors. recall is the fraction of the true k
+ * nearest neighbors the index returned, averaged over the queries. The EUCLIDEAN bucket width defaults to four times
+ * the mean distance from a query to its kth true neighbor.
+ * Latencies are the mean over every query after a warmup pass, on one thread.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class LSHBenchmark
+{
+    /** Number of points generated around each random center */
+    private static final int CLUSTER_SIZE = 32;
+
+    /** Standard deviation of the points around their center, and of a query around the point it was made from */
+    private static final double NOISE = 0.25;
+
+    /**
+     * The measured numbers for one setting of the index
+     */
+    static class Result{
+        final int tables;
+        final int bits;
+        final int probes;
+        final double recall;
+        final double queryMicros;
+        final double buildMillis;
+
+        Result(int tables, int bits, int probes, double recall, double queryMicros, double buildMillis){
+            this.tables = tables;
+            this.bits = bits;
+            this.probes = probes;
+            this.recall = recall;
+            this.queryMicros = queryMicros;
+            this.buildMillis = buildMillis;
+        }
+    }
+
+    public static void main(String [] args) throws IOException{
+        LSHIndex.Metric metric = LSHIndex.Metric.COSINE;
+        int size = 100000;
+        int dimension = 128;
+        int queryCount = 200;
+        int k = 10;
+        int [] tableCounts = {4, 8, 16};
+        int [] bitCounts = {8, 12, 16};
+        int [] probeCounts = {0, 4};
+        double width = 0;
+        String output = null;
+
+        for(int i = 0; i < args.length; i++){
+            switch(args[i]){
+                case "--metric": metric = LSHIndex.Metric.valueOf(args[++i].toUpperCase(Locale.ROOT)); break;
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--dimension": dimension = Integer.parseInt(args[++i]); break;
+                case "--queries": queryCount = Integer.parseInt(args[++i]); break;
+                case "--k": k = Integer.parseInt(args[++i]); break;
+                case "--tables": tableCounts = parseInts(args[++i]); break;
+                case "--bits": bitCounts = parseInts(args[++i]); break;
+                case "--probes": probeCounts = parseInts(args[++i]); break;
+                case "--width": width = Double.parseDouble(args[++i]); break;
+                case "--output": output = args[++i]; break;
+                default: throw new RuntimeException("Unknown argument " + args[i]);
+            }
+        }
+
+        Random random = new Random(42);
+        PointBatch points = new PointBatch(dimension, size);
+        double [] center = new double[dimension];
+        for(int i = 0; i < size; i++){
+            if(i % CLUSTER_SIZE == 0){
+                for(int j = 0; j < dimension; j++){
+                    center[j] = random.nextGaussian();
+                }
+            }
+            for(int j = 0; j < dimension; j++){
+                points.data[i * dimension + j] = center[j] + random.nextGaussian() * NOISE;
+            }
+        }
+        Point [] queries = new Point[queryCount];
+        for(int q = 0; q < queryCount; q++){
+            int source = random.nextInt(size) * dimension;
+            double [] coordinates = new double[dimension];
+            for(int j = 0; j < dimension; j++){
+                coordinates[j] = points.data[source + j] + random.nextGaussian() * NOISE;
+            }
+            queries[q] = new Point(coordinates);
+        }
+
+        int [][] truth = new int[queryCount][];
+        double kthDistance = 0;
+        long start = System.nanoTime();
+        for(int q = 0; q < queryCount; q++){
+            truth[q] = bruteForce(metric, points, queries[q].coordinates, k);
+            int last = truth[q][truth[q].length - 1] * dimension;
+            kthDistance += Math.sqrt(VectorKernels.squaredDistance(points.data, last, queries[q].coordinates, 0,
+                dimension));
+        }
+        double bruteForceMicros = (System.nanoTime() - start) / 1e3 / queryCount;
+        if(width == 0){
+            width = 4 * kthDistance / queryCount;
+        }
+        System.err.printf(Locale.ROOT, "brute force %s n=%d d=%d: %.1f us/query%n", metric, size, dimension,
+            bruteForceMicros);
+
+        List<Result> results = new ArrayList<>();
+        for(int tables: tableCounts){
+            for(int bits: bitCounts){
+                long buildStart = System.nanoTime();
+                LSHIndex index = metric == LSHIndex.Metric.COSINE ? LSHIndex.cosine(dimension, tables, bits, 7)
+                    : LSHIndex.euclidean(dimension, tables, bits, width, 7);
+                index.addAll(points);
+                double buildMillis = (System.nanoTime() - buildStart) / 1e6;
+
+                for(int probes: probeCounts){
+                    Result result = measure(index, queries, truth, k, probes, buildMillis);
+                    System.err.printf(Locale.ROOT, "tables=%-3d bits=%-3d probes=%-3d recall@%d=%.3f %10.1f us/query%n",
+                        tables, bits, probes, k, result.recall, result.queryMicros);
+                    results.add(result);
+                }
+            }
+        }
+
+        StringBuilder json = new StringBuilder();
+        writeJson(results, metric, size, dimension, k, width, bruteForceMicros, json);
+        if(output == null){
+            System.out.println(json);
+        }
+        else{
+            try(Writer writer = new FileWriter(output)){
+                writer.append(json);
+            }
+        }
+    }
+
+    /**
+     * Runs every query once to warm up and once measured, and scores the measured answers against the truth
+     */
+    static Result measure(LSHIndex index, Point [] queries, int [][] truth, int k, int probes, double buildMillis){
+        for(Point query: queries){
+            index.kNearestIndices(query, k, probes);
+        }
+        long found = 0;
+        long start = System.nanoTime();
+        for(int q = 0; q < queries.length; q++){
+            int [] answer = index.kNearestIndices(queries[q], k, probes);
+            for(int i: answer){
+                for(int j: truth[q]){
+                    if(i == j){
+                        found++;
+                        break;
+                    }
+                }
+            }
+        }
+        double queryMicros = (System.nanoTime() - start) / 1e3 / queries.length;
+        double recall = (double) found / ((long) queries.length * k);
+        return new Result(index.tables, index.bits, probes, recall, queryMicros, buildMillis);
+    }
+
+    /**
+     * Finds the exact k nearest points by scanning all of them, ranked the same way as LSHIndex
+     */
+    static int[] bruteForce(LSHIndex.Metric metric, PointBatch points, double [] query, int k){
+        int dimension = points.dimension;
+        double queryMagnitude = Math.sqrt(VectorKernels.dot(query, query));
+        int [] best = new int[k];
+        double [] scores = new double[k];
+        int count = 0;
+        for(int i = 0; i < points.size; i++){
+            int offset = i * dimension;
+            double score;
+            if(metric == LSHIndex.Metric.EUCLIDEAN){
+                score = VectorKernels.squaredDistance(points.data, offset, query, 0, dimension);
+            }
+            else{
+                double magnitude = Math.sqrt(VectorKernels.dot(points.data, offset, points.data, offset, dimension));
+                score = 1 - VectorKernels.dot(points.data, offset, query, 0, dimension) / (magnitude * queryMagnitude);
+            }
+            if(count == k && !(score < scores[k - 1])){
+                continue;
+            }
+            int j = count < k ? count++ : k - 1;
+            for(; j > 0 && scores[j - 1] > score; j--){
+                scores[j] = scores[j - 1];
+                best[j] = best[j - 1];
+            }
+            scores[j] = score;
+            best[j] = i;
+        }
+        return best;
+    }
+
+    static void writeJson(List<Result> results, LSHIndex.Metric metric, int size, int dimension, int k, double width,
+                          double bruteForceMicros, Appendable out) throws IOException{
+        out.append("[\n");
+        for(int i = 0; i < results.size(); i++){
+            Result result = results.get(i);
+            out.append(String.format(Locale.ROOT,
+                "  {\"benchmark\": \"LSHIndex.kNearestIndices\", \"metric\": \"%s\", \"dimension\": %d, \"size\": %d, "
+                + "\"k\": %d, \"tables\": %d, \"bits\": %d, \"probes\": %d, \"bucketWidth\": %.4f, \"recall\": %.4f, "
+                + "\"queryMicros\": %.1f, \"bruteForceMicros\": %.1f, \"buildMillis\": %.1f}",
+                metric, dimension, size, k, result.tables, result.bits, result.probes,
+                metric == LSHIndex.Metric.EUCLIDEAN ? width : 0, result.recall, result.queryMicros, bruteForceMicros,
+                result.buildMillis));
+            out.append(i == results.size() - 1 ? "\n" : ",\n");
+        }
+        out.append("]\n");
+    }
+
+    private static int [] parseInts(String list){
+        String [] parts = list.split(",");
+        int [] values = new int[parts.length];
+        for(int i = 0; i < parts.length; i++){
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of single Line and PreparedLine operations, each call using the next input from a pool of size
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LineBenchmark
+{
+    @Param({"2", "3", "16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private PreparedLine [] prepared;
+    private StringBuilder str;
+    private int index;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.prepared = new PreparedLine[this.size];
+        for(int i = 0; i < this.size; i++){
+            this.prepared[i] = this.in.lines[i].prepare();
+        }
+        this.str = new StringBuilder();
+    }
+
+    private int next(){
+        int current = this.index;
+        this.index = current + 1 == this.size ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public double distance(){
+        int i = next();
+        return this.in.lines[i].distance(this.in.points[i]);
+    }
+
+    @Benchmark
+    public double distanceToLine(){
+        int i = next();
+        return this.in.lines[i].distance(this.in.lines[this.index]);
+    }
+
+    @Benchmark
+    public double segmentDistance(){
+        int i = next();
+        return this.in.lines[i].segmentDistance(this.in.lines[this.index]);
+    }
+
+    @Benchmark
+    public double preparedDistance(){
+        int i = next();
+        return this.prepared[i].distance(this.in.points[i]);
+    }
+
+    @Benchmark
+    public String[] parametricEquations(){
+        return this.in.lines[next()].parametricEquations();
+    }
+
+    @Benchmark
+    public int writeParametricEquations(){
+        this.str.setLength(0);
+        return this.in.lines[next()].writeParametricEquations(this.str, "; ").length();
+    }
+}
@@ -0,0 +1,55 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of LSHIndex k nearest queries against an index of size vectors, measured per query
+ *
+ * LSHIndex is meant for high dimensions, so the dimensions start at 16.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NearestNeighborBenchmark
+{
+    @Param({"16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private LSHIndex index;
+    private int query;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.index = LSHIndex.cosine(this.dimension, 8, 12, 42);
+        this.index.addAll(new VectorBatch(this.in.vectors));
+    }
+
+    @Benchmark
+    public int[] lshKNearest(){
+        int i = this.query;
+        this.query = i + 1 == this.size ? 0 : i + 1;
+        return this.index.kNearestIndices(this.in.otherVectors[i], 10, 4);
+    }
+}
@@ -0,0 +1,97 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of single Plane and PreparedPlane operations, each call using the next input from a pool of size
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlaneBenchmark
+{
+    @Param({"2", "3", "16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private PreparedPlane [] prepared;
+    private StringBuilder str;
+    private int index;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.prepared = new PreparedPlane[this.size];
+        for(int i = 0; i < this.size; i++){
+            this.prepared[i] = this.in.planes[i].prepare();
+        }
+        this.str = new StringBuilder();
+    }
+
+    private int next(){
+        int current = this.index;
+        this.index = current + 1 == this.size ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public double distance(){
+        int i = next();
+        return this.in.planes[i].distance(this.in.points[i]);
+    }
+
+    @Benchmark
+    public double signedDistance(){
+        int i = next();
+        return this.in.planes[i].signedDistance(this.in.points[i]);
+    }
+
+    @Benchmark
+    public double preparedSignedDistance(){
+        int i = next();
+        return this.prepared[i].signedDistance(this.in.points[i]);
+    }
+
+    @Benchmark
+    public double angle(){
+        int i = next();
+        return this.in.planes[i].angle(this.in.planes[this.index]);
+    }
+
+    @Benchmark
+    public Plane newFromPointAndNormal(){
+        int i = next();
+        return new Plane(this.in.points[i], this.in.vectors[i]);
+    }
+
+    @Benchmark
+    public String linearEquation(){
+        return this.in.planes[next()].linearEquation();
+    }
+
+    @Benchmark
+    public int writeTo(){
+        this.str.setLength(0);
+        return this.in.planes[next()].writeTo(this.str).length();
+    }
+}
@@ -0,0 +1,57 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of all pairs CosineSimilarity top k, measured per query row
+ *
+ * Brute force top k does size * size dot products per call, so the dimensions stop at 256.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SimilarityBenchmark
+{
+    @Param({"2", "3", "16", "256"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private int calls;
+    private CosineSimilarity similarity;
+
+    @Setup
+    public void setup(){
+        Inputs in = new Inputs(this.dimension, this.size);
+        this.calls = Inputs.calls(this.size);
+        this.similarity = new CosineSimilarity(new VectorBatch(in.vectors), new VectorBatch(in.otherVectors));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void cosineTopK(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            blackhole.consume(this.similarity.topK(10));
+        }
+    }
+}
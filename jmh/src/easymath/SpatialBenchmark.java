@@ -0,0 +1,99 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the operations only defined in three dimensions: cross products and planes through three points per
+ * call, and RayCaster.trace per ray
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpatialBenchmark
+{
+    @Param({"3"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private int index;
+    private int calls;
+
+    private RayCaster caster;
+    private PointBatch origins;
+    private VectorBatch directions;
+    private int [] hitTriangles;
+    private double [] hitParameters;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.calls = Inputs.calls(this.size);
+
+        // small triangles scattered through the input cube, one per input, hit by rays from the other points
+        double [] corners = new double[this.size * 9];
+        int [] triangles = new int[this.size * 3];
+        for(int i = 0; i < this.size; i++){
+            for(int corner = 0; corner < 3; corner++){
+                for(int axis = 0; axis < 3; axis++){
+                    double shift = corner == axis ? 5 : 0;
+                    corners[i * 9 + corner * 3 + axis] = this.in.points[i].coordinates[axis] + shift;
+                }
+                triangles[i * 3 + corner] = i * 3 + corner;
+            }
+        }
+        this.caster = new RayCaster(new PointBatch(3, corners), triangles);
+        this.origins = new PointBatch(this.in.otherPoints);
+        this.directions = new VectorBatch(this.in.vectors);
+        this.hitTriangles = new int[this.size];
+        this.hitParameters = new double[this.size];
+    }
+
+    private int next(){
+        int current = this.index;
+        this.index = current + 1 == this.size ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public Vector crossProduct(){
+        int i = next();
+        return this.in.vectors[i].crossProduct(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public Plane newFromThreePoints(){
+        int i = next();
+        return new Plane(this.in.points[i], this.in.otherPoints[i], this.in.points[this.index]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.ELEMENTS)
+    public void rayCasterTrace(Blackhole blackhole){
+        for(int call = 0; call < this.calls; call++){
+            this.caster.trace(this.origins, this.directions, this.hitTriangles, this.hitParameters);
+            blackhole.consume(this.hitParameters);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package easymath;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of single Point and Vector operations, each call using the next input from a pool of size
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VectorBenchmark
+{
+    @Param({"2", "3", "16", "256", "1024"})
+    public int dimension;
+
+    @Param({"16", "4096"})
+    public int size;
+
+    private Inputs in;
+    private StringBuilder str;
+    private int index;
+
+    @Setup
+    public void setup(){
+        this.in = new Inputs(this.dimension, this.size);
+        this.str = new StringBuilder();
+    }
+
+    private int next(){
+        int current = this.index;
+        this.index = current + 1 == this.size ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public double pointDistance(){
+        int i = next();
+        return this.in.points[i].distance(this.in.otherPoints[i]);
+    }
+
+    @Benchmark
+    public Point pointMidPoint(){
+        int i = next();
+        return this.in.points[i].midPoint(this.in.otherPoints[i]);
+    }
+
+    @Benchmark
+    public Vector vectorNew(){
+        return new Vector(this.in.vectors[next()].components);
+    }
+
+    @Benchmark
+    public Vector vectorAdd(){
+        int i = next();
+        return this.in.vectors[i].add(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public Vector vectorSubtract(){
+        int i = next();
+        return this.in.vectors[i].subtract(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public Vector vectorMultiply(){
+        return this.in.vectors[next()].multiply(1.5);
+    }
+
+    @Benchmark
+    public Vector vectorNormalize(){
+        return this.in.vectors[next()].normalize();
+    }
+
+    @Benchmark
+    public double vectorDotProduct(){
+        int i = next();
+        return this.in.vectors[i].dotProduct(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public double vectorAngle(){
+        int i = next();
+        return this.in.vectors[i].angle(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public Vector vectorProjectionOnto(){
+        int i = next();
+        return this.in.vectors[i].vectorProjectionOnto(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public Vector vectorOrthagonalProjectionOnto(){
+        int i = next();
+        return this.in.vectors[i].orthagonalProjectionOnto(this.in.otherVectors[i]);
+    }
+
+    @Benchmark
+    public int vectorWriteTo(){
+        this.str.setLength(0);
+        return this.in.vectors[next()].writeTo(this.str).length();
+    }
+}
@@ -0,0 +1,153 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks that FloatPoint and FloatVector stay within their documented error of the double versions
+ *
+ * The documented bounds only count rounding the inputs to float: 2^-24 * (|p| + |q|) for distances, 2^-24 * |v| for
+ * magnitudes and 2^-23 * (|a0 b0| + |a1 b1| + ...) for dot products. Both sides also sum in double, so each check
+ * allows length * 2^-52 of the sum's absolute terms on top, which is far smaller at every length tested.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class FloatPrecisionTest
+{
+    private static final int [] DIMENSIONS = {1, 2, 3, 16, 100, 256, 1024, 4096, 65536};
+
+    private final VectorKernels.Backend original = VectorKernels.getBackend();
+
+    @AfterEach
+    public void restoreBackend(){
+        VectorKernels.setBackend(this.original);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void uniformDataStaysWithinBound(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(11);
+        for(int dimension: DIMENSIONS){
+            for(int trial = 0; trial < 8; trial++){
+                check(uniform(random, dimension), uniform(random, dimension));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void wideRangeDataStaysWithinBound(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(12);
+        for(int dimension: DIMENSIONS){
+            for(int trial = 0; trial < 8; trial++){
+                check(wideRange(random, dimension), wideRange(random, dimension));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void nearlyOrthogonalDataStaysWithinBound(VectorKernels.Backend backend){
+        // the dot product cancels almost completely, so only a bound on the absolute terms can hold
+        VectorKernels.setBackend(backend);
+        Random random = new Random(13);
+        for(int dimension: DIMENSIONS){
+            if(dimension < 2){
+                continue;
+            }
+            double [] a = uniform(random, dimension);
+            double [] b = uniform(random, dimension);
+            double scale = new Vector(b).dotProduct(new Vector(a)) / new Vector(a).dotProduct(new Vector(a));
+            for(int i = 0; i < dimension; i++){
+                b[i] -= scale * a[i];
+            }
+            check(a, b);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void batchesStayWithinBound(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(14);
+        for(int dimension: new int[] {3, 256}){
+            int size = 64;
+            PointBatch points = new PointBatch(dimension, uniform(random, dimension * size));
+            PointBatch others = new PointBatch(dimension, uniform(random, dimension * size));
+            VectorBatch vectors = new VectorBatch(dimension, uniform(random, dimension * size));
+            VectorBatch otherVectors = new VectorBatch(dimension, uniform(random, dimension * size));
+
+            double [] distances = new double[size], dots = new double[size], magnitudes = new double[size];
+            new FloatPointBatch(points).distance(new FloatPointBatch(others), distances);
+            new FloatVectorBatch(vectors).dotProduct(new FloatVectorBatch(otherVectors), dots);
+            new FloatVectorBatch(vectors).magnitude(magnitudes);
+            for(int i = 0; i < size; i++){
+                Point p = points.get(i), q = others.get(i);
+                Vector a = vectors.get(i), b = otherVectors.get(i);
+                assertEquals(p.distance(q), distances[i], distanceBound(p, q));
+                assertEquals(a.dotProduct(b), dots[i], dotBound(a, b));
+                assertEquals(a.magnitude, magnitudes[i], magnitudeBound(a));
+            }
+        }
+    }
+
+    private static void check(double [] first, double [] second){
+        Point p = new Point(first), q = new Point(second);
+        assertEquals(p.distance(q), new FloatPoint(p).distance(new FloatPoint(q)), distanceBound(p, q));
+
+        Vector a = new Vector(first), b = new Vector(second);
+        FloatVector fa = new FloatVector(a), fb = new FloatVector(b);
+        assertEquals(a.dotProduct(b), fa.dotProduct(fb), dotBound(a, b));
+        assertEquals(a.magnitude, fa.magnitude, magnitudeBound(a));
+        assertEquals(b.magnitude, fb.magnitude, magnitudeBound(b));
+    }
+
+    private static double distanceBound(Point p, Point q){
+        double fromOrigin = norm(p.coordinates) + norm(q.coordinates);
+        double bound = 0x1p-24 * fromOrigin;
+        assertTrue(bound > 0 || fromOrigin == 0);
+        return bound + p.dimension * 0x1p-52 * p.distance(q);
+    }
+
+    private static double magnitudeBound(Vector v){
+        return 0x1p-24 * v.magnitude + v.dimension * 0x1p-52 * v.magnitude;
+    }
+
+    private static double dotBound(Vector a, Vector b){
+        double absolute = 0;
+        for(int i = 0; i < a.dimension; i++){
+            absolute += Math.abs(a.components[i] * b.components[i]);
+        }
+        return 0x1p-23 * absolute + a.dimension * 0x1p-52 * absolute;
+    }
+
+    private static double norm(double [] values){
+        return new Vector(values).magnitude;
+    }
+
+    private static double [] uniform(Random random, int length){
+        double [] values = new double[length];
+        for(int i = 0; i < length; i++){
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+
+    /**
+     * Values with random signs and exponents from 2^-60 to 2^60, all well inside float's normal range
+     */
+    private static double [] wideRange(Random random, int length){
+        double [] values = new double[length];
+        for(int i = 0; i < length; i++){
+            double value = Math.scalb(1 + random.nextDouble(), random.nextInt(121) - 60);
+            values[i] = random.nextBoolean() ? value : -value;
+        }
+        return values;
+    }
+}
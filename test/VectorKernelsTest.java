@@ -0,0 +1,180 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks every VectorKernels backend against the plain loops
+ *
+ * The scalar backend must match the plain loops exactly, and so must scale and addScaled on every backend. The
+ * reductions of the other backends sum in a different order, so each one must be within length * 2^-52 of the sum of
+ * the absolute values of its terms: the worst case error of a sum of length rounded terms in either order is
+ * length * 2^-53 of that sum, and the result and the reference can each be off by that much.
+ *
+ * @author Jordan Cottle
+ * @version 10/17/2026
+ */
+public class VectorKernelsTest
+{
+    private static final int [] LENGTHS = {0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 33, 64, 100, 255, 256, 1023, 1024,
+                                           4099};
+
+    private final VectorKernels.Backend original = VectorKernels.getBackend();
+
+    @AfterEach
+    public void restoreBackend(){
+        VectorKernels.setBackend(this.original);
+    }
+
+    @Test
+    public void simdBackendIsLoaded(){
+        // the build runs the tests with --add-modules jdk.incubator.vector, so simd must not have fallen back
+        assertTrue(VectorKernels.isSimdAvailable());
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void doubleReductionsAgree(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(1);
+        for(int length: LENGTHS){
+            for(int offset = 0; offset < 3; offset++){
+                double [] a = random(random, length + offset);
+                double [] b = random(random, length + offset);
+
+                double dot = 0, absoluteDot = 0, squared = 0;
+                for(int i = offset; i < offset + length; i++){
+                    dot += a[i] * b[i];
+                    absoluteDot += Math.abs(a[i] * b[i]);
+                    double difference = b[i] - a[i];
+                    squared += difference * difference;
+                }
+                checkSum(backend, dot, VectorKernels.dot(a, offset, b, offset, length), length, absoluteDot);
+                checkSum(backend, squared, VectorKernels.squaredDistance(a, offset, b, offset, length), length,
+                    squared);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void floatReductionsAgree(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(2);
+        for(int length: LENGTHS){
+            for(int offset = 0; offset < 3; offset++){
+                float [] a = randomFloats(random, length + offset);
+                float [] b = randomFloats(random, length + offset);
+
+                double dot = 0, absoluteDot = 0, squared = 0;
+                for(int i = offset; i < offset + length; i++){
+                    dot += (double) a[i] * b[i];
+                    absoluteDot += Math.abs((double) a[i] * b[i]);
+                    double difference = (double) b[i] - a[i];
+                    squared += difference * difference;
+                }
+                checkSum(backend, dot, VectorKernels.dot(a, offset, b, offset, length), length, absoluteDot);
+                checkSum(backend, squared, VectorKernels.squaredDistance(a, offset, b, offset, length), length,
+                    squared);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void elementWiseKernelsMatchExactly(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(3);
+        for(int length: LENGTHS){
+            double [] a = random(random, length);
+            double [] b = random(random, length);
+            double scalar = random.nextDouble() * 4 - 2;
+
+            double [] scaled = new double[length];
+            double [] added = new double[length];
+            for(int i = 0; i < length; i++){
+                scaled[i] = a[i] * scalar;
+                added[i] = Math.fma(b[i], scalar, a[i]);
+            }
+
+            double [] result = new double[length];
+            VectorKernels.scale(a, scalar, result);
+            assertArrayEquals(scaled, result);
+            VectorKernels.addScaled(a, scalar, b, result);
+            assertArrayEquals(added, result);
+
+            // in place, the way MutableVector uses them
+            double [] inPlace = a.clone();
+            VectorKernels.addScaled(inPlace, scalar, b, inPlace);
+            assertArrayEquals(added, inPlace);
+            inPlace = a.clone();
+            VectorKernels.scale(inPlace, scalar, inPlace);
+            assertArrayEquals(scaled, inPlace);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorKernels.Backend.class)
+    public void vectorMethodsAgree(VectorKernels.Backend backend){
+        VectorKernels.setBackend(backend);
+        Random random = new Random(4);
+        for(int length: LENGTHS){
+            if(length == 0){
+                continue;
+            }
+            Vector a = new Vector(random(random, length));
+            Vector b = new Vector(random(random, length));
+
+            double dot = 0, absoluteDot = 0;
+            for(int i = 0; i < length; i++){
+                dot += a.components[i] * b.components[i];
+                absoluteDot += Math.abs(a.components[i] * b.components[i]);
+            }
+            checkSum(backend, dot, a.dotProduct(b), length, absoluteDot);
+
+            Vector product = a.multiply(-1.5);
+            Vector sum = new MutableVector(a).addScaled(b, 0.25).toVector();
+            Vector projection = a.vectorProjectionOnto(b);
+            double scalar = dot / (b.magnitude * b.magnitude);
+            for(int i = 0; i < length; i++){
+                assertEquals(a.components[i] * -1.5, product.components[i], 0);
+                assertEquals(Math.fma(b.components[i], 0.25, a.components[i]), sum.components[i], 0);
+                // the scale factor carries the dot product's error into every component
+                double bound = 2 * (length + 2) * 0x1p-52 * absoluteDot / (b.magnitude * b.magnitude)
+                               * Math.abs(b.components[i]);
+                assertEquals(b.components[i] * scalar, projection.components[i], bound);
+            }
+        }
+    }
+
+    private static void checkSum(VectorKernels.Backend backend, double expected, double actual, int length,
+                                 double absoluteSum){
+        if(backend == VectorKernels.Backend.SCALAR){
+            assertEquals(expected, actual, 0);
+        }
+        else{
+            assertEquals(expected, actual, length * 0x1p-52 * absoluteSum, backend + " at length " + length);
+        }
+    }
+
+    private static double [] random(Random random, int length){
+        double [] values = new double[length];
+        for(int i = 0; i < length; i++){
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+
+    private static float [] randomFloats(Random random, int length){
+        float [] values = new float[length];
+        for(int i = 0; i < length; i++){
+            values[i] = random.nextFloat() * 200 - 100;
+        }
+        return values;
+    }
+}